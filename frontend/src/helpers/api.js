@@ -1,5 +1,5 @@
 import { model, ErrorStatus } from "@/model.js";
-import { API_LAST_CBOM_URL, API_CHECK_POLICY } from "@/app.config";
+import { API_CBOM_URL, API_LAST_CBOM_URL, API_CHECK_POLICY } from "@/app.config";
 import { checkValidComplianceResults, createLocalComplianceReport, isViewerOnly } from "@/helpers.js";
 
 
@@ -18,6 +18,17 @@ export function fetchLastCboms(number) {
     });
 }
 
+// The list of last CBOMs only contains summaries, the CBOM itself is fetched when opened
+export function fetchCbom(projectIdentifier) {
+  let apiUrl = `${API_CBOM_URL}/${encodeURIComponent(projectIdentifier)}`;
+  return fetchDataFromApi(apiUrl, null)
+    .catch((error) => {
+      console.error("Error:", error.message);
+      model.addError(ErrorStatus.NoConnection);
+      throw error;
+    });
+}
+
 function getLocalComplianceReport(cbom) {
   let jsonDataLocal = createLocalComplianceReport(cbom);
   if (checkValidComplianceResults(jsonDataLocal)) {
@@ -19,7 +19,61 @@
  */
 package com.ibm.domain.scanning;
 
+import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Objects;
 
-public record LanguageScan(
-        @Nonnull Language language, @Nonnull ScanMetadata scanMetadata, @Nonnull CBOM icbom) {}
+/**
+ * The result of scanning a project for one language. The CBOM of a stored scan is only loaded when
+ * it is requested, since it can be several megabytes while most steps only need the metadata.
+ */
+public final class LanguageScan {
+
+    @FunctionalInterface
+    public interface ICBOMLoader {
+        @Nonnull
+        CBOM load() throws CBOMSerializationFailed;
+    }
+
+    @Nonnull private final Language language;
+    @Nonnull private final ScanMetadata scanMetadata;
+    @Nullable private ICBOMLoader loader;
+    @Nullable private CBOM icbom;
+
+    public LanguageScan(
+            @Nonnull Language language, @Nonnull ScanMetadata scanMetadata, @Nonnull CBOM icbom) {
+        this.language = language;
+        this.scanMetadata = scanMetadata;
+        this.icbom = icbom;
+    }
+
+    public LanguageScan(
+            @Nonnull Language language,
+            @Nonnull ScanMetadata scanMetadata,
+            @Nonnull ICBOMLoader loader) {
+        this.language = language;
+        this.scanMetadata = scanMetadata;
+        this.loader = loader;
+    }
+
+    @Nonnull
+    public Language language() {
+        return language;
+    }
+
+    @Nonnull
+    public ScanMetadata scanMetadata() {
+        return scanMetadata;
+    }
+
+    @Nonnull
+    public synchronized CBOM icbom() throws CBOMSerializationFailed {
+        if (this.icbom == null) {
+            this.icbom = Objects.requireNonNull(this.loader).load();
+            // the loader may hold on to the stored CBOM
+            this.loader = null;
+        }
+        return this.icbom;
+    }
+}
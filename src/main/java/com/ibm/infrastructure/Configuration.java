@@ -19,22 +19,86 @@
  */
 package com.ibm.infrastructure;
 
+import com.ibm.domain.compliance.PolicyIdentifier;
 import com.ibm.infrastructure.compliance.IComplianceConfiguration;
 import com.ibm.infrastructure.compliance.service.BasicQuantumSafeComplianceService;
+import com.ibm.infrastructure.compliance.service.DeprecatedAlgorithmComplianceService;
 import com.ibm.infrastructure.compliance.service.IComplianceService;
+import com.ibm.infrastructure.compliance.service.KeyLengthComplianceService;
+import com.ibm.infrastructure.compliance.service.QuantumSafeRules;
+import com.ibm.infrastructure.compliance.service.RegulatorComplianceService;
+import com.ibm.infrastructure.database.IDatabaseConfiguration;
 import com.ibm.infrastructure.scanning.IScanConfiguration;
 import jakarta.annotation.Nonnull;
 import jakarta.enterprise.context.ApplicationScoped;
 import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 
 @ApplicationScoped
-public final class Configuration implements IScanConfiguration, IComplianceConfiguration {
+public final class Configuration
+        implements IScanConfiguration, IComplianceConfiguration, IDatabaseConfiguration {
 
     @Nonnull
     @Override
-    public IComplianceService getComplianceService() {
-        return new BasicQuantumSafeComplianceService();
+    public List<IComplianceService> getComplianceServices() {
+        final Config config = ConfigProvider.getConfig();
+        final List<IComplianceService> services = new ArrayList<>();
+        services.add(
+                new BasicQuantumSafeComplianceService(
+                        QuantumSafeRules.load(
+                                config.getOptionalValue(
+                                                "cbomkit.compliance.quantum-safe-rules",
+                                                String.class)
+                                        .orElse(null))));
+        services.add(new KeyLengthComplianceService());
+        services.add(new DeprecatedAlgorithmComplianceService());
+        // policies evaluated by a remote regulator, if one is configured
+        final Optional<String> regulatorUrl =
+                config.getOptionalValue("cbomkit.compliance.regulator.url", String.class);
+        final List<PolicyIdentifier> regulatorPolicies =
+                config
+                        .getOptionalValues("cbomkit.compliance.regulator.policies", String.class)
+                        .orElse(List.of())
+                        .stream()
+                        .map(PolicyIdentifier::new)
+                        .toList();
+        if (regulatorUrl.isPresent() && !regulatorPolicies.isEmpty()) {
+            services.add(
+                    new RegulatorComplianceService(
+                            regulatorUrl.get(),
+                            regulatorPolicies,
+                            config.getOptionalValue(
+                                            "cbomkit.compliance.regulator.batch-size",
+                                            Integer.class)
+                                    .orElse(500),
+                            config.getOptionalValue(
+                                            "cbomkit.compliance.regulator.max-connections",
+                                            Integer.class)
+                                    .orElse(20),
+                            Duration.ofMillis(
+                                    config.getOptionalValue(
+                                                    "cbomkit.compliance.regulator.timeout",
+                                                    Long.class)
+                                            .orElse(10_000L)),
+                            Duration.ofSeconds(
+                                    config.getOptionalValue(
+                                                    "cbomkit.compliance.regulator.result-ttl",
+                                                    Long.class)
+                                            .orElse(600L))));
+        }
+        return services;
+    }
+
+    @Override
+    public int getComplianceCacheSize() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.compliance.cache-size", Integer.class)
+                .orElse(10_000);
     }
 
     @Nonnull
@@ -56,4 +120,74 @@ public final class Configuration implements IScanConfiguration, IComplianceConfi
                                 new IllegalStateException(
                                         "Could not load jar dependencies for java scanning")); // Error
     }
+
+    @Override
+    public boolean isCompactCBOMStorageEnabled() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.db.compact-storage", Boolean.class)
+                .orElse(false);
+    }
+
+    @Override
+    public long getCBOMCacheMaxSize() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.db.cache-max-size", Long.class)
+                .orElse(64L * 1024 * 1024);
+    }
+
+    @Override
+    public int getSnapshotInterval() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.db.snapshot-interval", Integer.class)
+                .orElse(10);
+    }
+
+    @Override
+    public boolean isCBOMHistoryEnabled() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.db.keep-history", Boolean.class)
+                .orElse(false);
+    }
+
+    @Override
+    public int getCBOMCheckpointInterval() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.db.cbom-checkpoint-interval", Integer.class)
+                .orElse(20);
+    }
+
+    @Override
+    public int getRetentionBatchSize() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.db.retention.batch-size", Integer.class)
+                .orElse(100);
+    }
+
+    @Override
+    public int getEventRetentionDays() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.db.retention.event-days", Integer.class)
+                .orElse(0);
+    }
+
+    @Override
+    public int getScanRetentionDays() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.db.retention.scan-days", Integer.class)
+                .orElse(0);
+    }
+
+    @Override
+    public int getMaxCBOMVersions() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.db.retention.cbom-versions", Integer.class)
+                .orElse(0);
+    }
+
+    @Override
+    public int getCBOMVersionRetentionDays() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue("cbomkit.db.retention.cbom-version-days", Integer.class)
+                .orElse(0);
+    }
 }
@@ -0,0 +1,350 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance;
+
+import com.ibm.domain.compliance.CryptographicAsset;
+import com.ibm.domain.compliance.PolicyIdentifier;
+import com.ibm.infrastructure.compliance.service.AssetFingerprint;
+import com.ibm.infrastructure.compliance.service.BasicCryptographicAssetPolicyResult;
+import com.ibm.infrastructure.compliance.service.ComplianceCheckResultDTO;
+import com.ibm.infrastructure.compliance.service.IComplianceService;
+import com.ibm.infrastructure.compliance.service.ICryptographicAssetPolicyResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The compliance services of the application, by the policies they evaluate.
+ *
+ * <p>The services are created once from the configuration. Results are cached per policy by {@link
+ * AssetFingerprint}, since the same algorithms occur over and over again across assets and CBOMs.
+ * Cached results are dropped when the policy version changes, or once they are older than the time
+ * to live of their service. The first configured service provides the default policy.
+ */
+@Singleton
+public final class ComplianceServiceRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ComplianceServiceRegistry.class);
+
+    private record CachedResult(
+            @Nonnull ComplianceLevel complianceLevel, @Nonnull String message, long cachedAt) {}
+
+    /** A policy with the service evaluating it and the results of that service. */
+    private static final class RegisteredPolicy {
+        @Nonnull private final PolicyIdentifier policyIdentifier;
+        @Nonnull private final IComplianceService service;
+        @Nonnull private final Map<AssetFingerprint, CachedResult> cache;
+        @Nonnull private final Counter hits;
+        @Nonnull private final Counter misses;
+        // results older than this are evaluated again, if the service limits their lifetime
+        @Nullable private final Long timeToLiveNanos;
+        // version of the policy the cached results were computed with
+        @Nullable private String cachedVersion;
+
+        RegisteredPolicy(
+                @Nonnull PolicyIdentifier policyIdentifier,
+                @Nonnull IComplianceService service,
+                int cacheSize,
+                @Nonnull MeterRegistry meterRegistry) {
+            this.policyIdentifier = policyIdentifier;
+            this.service = service;
+            this.timeToLiveNanos =
+                    service.getResultTimeToLive().map(Duration::toNanos).orElse(null);
+            // least recently used results are evicted first
+            this.cache =
+                    Collections.synchronizedMap(
+                            new LinkedHashMap<>(16, 0.75f, true) {
+                                @Override
+                                protected boolean removeEldestEntry(
+                                        Map.Entry<AssetFingerprint, CachedResult> eldest) {
+                                    return this.size() > cacheSize;
+                                }
+                            });
+            this.hits =
+                    meterRegistry.counter(
+                            "cbomkit.compliance.cache.requests",
+                            "policy",
+                            policyIdentifier.id(),
+                            "result",
+                            "hit");
+            this.misses =
+                    meterRegistry.counter(
+                            "cbomkit.compliance.cache.requests",
+                            "policy",
+                            policyIdentifier.id(),
+                            "result",
+                            "miss");
+            Gauge.builder("cbomkit.compliance.cache.size", this.cache, Map::size)
+                    .description("Number of cached compliance results")
+                    .tag("policy", policyIdentifier.id())
+                    .register(meterRegistry);
+        }
+
+        /**
+         * Evaluates the assets, using cached results where possible. All assets without a cached
+         * result are passed to the service in a single call, once per distinct fingerprint.
+         */
+        @Nonnull
+        ComplianceCheckResultDTO evaluate(
+                @Nonnull List<CryptographicAsset> cryptographicAssets,
+                @Nonnull List<AssetFingerprint> fingerprints) {
+            this.checkVersion();
+            final Map<AssetFingerprint, CachedResult> results = new HashMap<>();
+            final long now = System.nanoTime();
+            final Map<AssetFingerprint, CryptographicAsset> missing = new LinkedHashMap<>();
+            for (int i = 0; i < cryptographicAssets.size(); i++) {
+                final AssetFingerprint fingerprint = fingerprints.get(i);
+                if (results.containsKey(fingerprint) || missing.containsKey(fingerprint)) {
+                    continue;
+                }
+                final CachedResult cached = this.cache.get(fingerprint);
+                if (cached != null && !this.isExpired(cached)) {
+                    results.put(fingerprint, cached);
+                } else {
+                    missing.put(fingerprint, cryptographicAssets.get(i));
+                }
+            }
+            this.hits.increment(results.size());
+            this.misses.increment(missing.size());
+
+            if (!missing.isEmpty()) {
+                // the assets are passed under their position, so that each result is matched to
+                // its fingerprint even if identifiers repeat or results come in a different order
+                final Map<String, AssetFingerprint> requested = new HashMap<>();
+                final List<CryptographicAsset> requestedAssets = new ArrayList<>(missing.size());
+                for (final Map.Entry<AssetFingerprint, CryptographicAsset> entry :
+                        missing.entrySet()) {
+                    final String identifier = String.valueOf(requestedAssets.size());
+                    requested.put(identifier, entry.getKey());
+                    requestedAssets.add(
+                            new CryptographicAsset(identifier, entry.getValue().component()));
+                }
+                final ComplianceCheckResultDTO evaluated =
+                        this.service.evaluate(this.policyIdentifier, requestedAssets);
+                if (evaluated.error()) {
+                    return evaluated;
+                }
+                final Map<AssetFingerprint, CachedResult> evaluatedResults = new HashMap<>();
+                for (final ICryptographicAssetPolicyResult result : evaluated.policyResults()) {
+                    final AssetFingerprint fingerprint = requested.get(result.identifier());
+                    if (fingerprint != null) {
+                        evaluatedResults.put(
+                                fingerprint,
+                                new CachedResult(result.complianceLevel(), result.message(), now));
+                    }
+                }
+                if (evaluatedResults.size() < requested.size()) {
+                    LOGGER.warn(
+                            "{} returned {} of {} results for policy {}",
+                            this.service.getName(),
+                            evaluatedResults.size(),
+                            requested.size(),
+                            this.policyIdentifier.id());
+                    return new ComplianceCheckResultDTO(List.of(), true);
+                }
+                // the service may have learned about a new version of the policy
+                this.checkVersion();
+                results.putAll(evaluatedResults);
+                this.cache.putAll(evaluatedResults);
+            }
+
+            final List<ICryptographicAssetPolicyResult> policyResults =
+                    new ArrayList<>(cryptographicAssets.size());
+            for (int i = 0; i < cryptographicAssets.size(); i++) {
+                final CachedResult result = results.get(fingerprints.get(i));
+                policyResults.add(
+                        new BasicCryptographicAssetPolicyResult(
+                                cryptographicAssets.get(i).identifier(),
+                                result.complianceLevel(),
+                                result.message()));
+            }
+            return new ComplianceCheckResultDTO(policyResults, false);
+        }
+
+        private boolean isExpired(@Nonnull CachedResult cachedResult) {
+            return this.timeToLiveNanos != null
+                    && System.nanoTime() - cachedResult.cachedAt() >= this.timeToLiveNanos;
+        }
+
+        /** Drops the cached results once the service evaluates a different policy version. */
+        private synchronized void checkVersion() {
+            final String version = this.service.getPolicyVersion(this.policyIdentifier);
+            if (!version.equals(this.cachedVersion)) {
+                this.cache.clear();
+                this.cachedVersion = version;
+            }
+        }
+    }
+
+    @Nonnull private final IComplianceService defaultService;
+    @Nonnull private final Map<PolicyIdentifier, RegisteredPolicy> policies;
+
+    public ComplianceServiceRegistry(
+            @Nonnull IComplianceConfiguration complianceConfiguration,
+            @Nonnull MeterRegistry meterRegistry) {
+        this(
+                complianceConfiguration.getComplianceServices(),
+                complianceConfiguration.getComplianceCacheSize(),
+                meterRegistry);
+    }
+
+    public ComplianceServiceRegistry(
+            @Nonnull List<IComplianceService> services,
+            int cacheSize,
+            @Nonnull MeterRegistry meterRegistry) {
+        if (services.isEmpty() || services.get(0).getPolicies().isEmpty()) {
+            throw new IllegalStateException("No default compliance policy configured");
+        }
+        this.defaultService = services.get(0);
+        this.policies = new LinkedHashMap<>();
+        for (final IComplianceService service : services) {
+            for (final PolicyIdentifier policyIdentifier : service.getPolicies()) {
+                final RegisteredPolicy previous =
+                        this.policies.put(
+                                policyIdentifier,
+                                new RegisteredPolicy(
+                                        policyIdentifier, service, cacheSize, meterRegistry));
+                if (previous != null) {
+                    throw new IllegalStateException(
+                            "Policy "
+                                    + policyIdentifier.id()
+                                    + " is provided by both "
+                                    + previous.service.getName()
+                                    + " and "
+                                    + service.getName());
+                }
+            }
+        }
+    }
+
+    @Nonnull
+    public IComplianceService getDefaultService() {
+        return this.defaultService;
+    }
+
+    /** Returns the policy whose compliance levels are stored with the assets of a CBOM. */
+    @Nonnull
+    public PolicyIdentifier getDefaultPolicy() {
+        return this.defaultService.getPolicies().get(0);
+    }
+
+    /** Returns all registered policies, in the order of the configured services. */
+    @Nonnull
+    public List<PolicyIdentifier> getPolicies() {
+        return List.copyOf(this.policies.keySet());
+    }
+
+    @Nonnull
+    public Optional<IComplianceService> getService(@Nonnull PolicyIdentifier policyIdentifier) {
+        return Optional.ofNullable(this.policies.get(policyIdentifier))
+                .map(registeredPolicy -> registeredPolicy.service);
+    }
+
+    /** Evaluates the assets against a policy, with an error result if the policy is unknown. */
+    @Nonnull
+    public ComplianceCheckResultDTO evaluate(
+            @Nonnull PolicyIdentifier policyIdentifier,
+            @Nonnull Collection<CryptographicAsset> cryptographicAssets) {
+        final RegisteredPolicy registeredPolicy = this.policies.get(policyIdentifier);
+        if (registeredPolicy == null) {
+            return new ComplianceCheckResultDTO(List.of(), true);
+        }
+        return this.evaluate(List.of(registeredPolicy), cryptographicAssets).get(policyIdentifier);
+    }
+
+    /** Evaluates the assets against all registered policies in a single pass over the assets. */
+    @Nonnull
+    public Map<PolicyIdentifier, ComplianceCheckResultDTO> evaluateAll(
+            @Nonnull Collection<CryptographicAsset> cryptographicAssets) {
+        return this.evaluate(List.copyOf(this.policies.values()), cryptographicAssets);
+    }
+
+    @Nonnull
+    private Map<PolicyIdentifier, ComplianceCheckResultDTO> evaluate(
+            @Nonnull List<RegisteredPolicy> registeredPolicies,
+            @Nonnull Collection<CryptographicAsset> cryptographicAssets) {
+        final List<CryptographicAsset> assets = List.copyOf(cryptographicAssets);
+        // the fingerprint of each asset is computed once for all policies of the same scope
+        final Map<AssetFingerprint.Scope, List<AssetFingerprint>> fingerprints =
+                new EnumMap<>(AssetFingerprint.Scope.class);
+        for (final RegisteredPolicy registeredPolicy : registeredPolicies) {
+            fingerprints.computeIfAbsent(
+                    registeredPolicy.service.getFingerprintScope(),
+                    scope ->
+                            (assets.size() >= IComplianceService.PARALLEL_THRESHOLD
+                                            ? assets.parallelStream()
+                                            : assets.stream())
+                                    .map(asset -> scope.of(asset.component()))
+                                    .toList());
+        }
+        // policies are evaluated in parallel, each by its own service
+        final List<ComplianceCheckResultDTO> evaluated =
+                (registeredPolicies.size() > 1
+                                ? registeredPolicies.parallelStream()
+                                : registeredPolicies.stream())
+                        .map(
+                                registeredPolicy ->
+                                        registeredPolicy.evaluate(
+                                                assets,
+                                                fingerprints.get(
+                                                        registeredPolicy.service
+                                                                .getFingerprintScope())))
+                        .toList();
+        final Map<PolicyIdentifier, ComplianceCheckResultDTO> results = new LinkedHashMap<>();
+        for (int i = 0; i < registeredPolicies.size(); i++) {
+            results.put(registeredPolicies.get(i).policyIdentifier, evaluated.get(i));
+        }
+        return results;
+    }
+
+    /** Releases resources held by services, such as connections to remote services. */
+    @PreDestroy
+    void close() {
+        // a service providing several policies is closed once
+        final Set<IComplianceService> services = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final RegisteredPolicy registeredPolicy : this.policies.values()) {
+            if (services.add(registeredPolicy.service)
+                    && registeredPolicy.service instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    LOGGER.warn("Could not close {}", registeredPolicy.service.getName(), e);
+                }
+            }
+        }
+    }
+}
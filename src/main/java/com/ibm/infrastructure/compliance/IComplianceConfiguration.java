@@ -21,9 +21,16 @@ package com.ibm.infrastructure.compliance;
 
 import com.ibm.infrastructure.compliance.service.IComplianceService;
 import jakarta.annotation.Nonnull;
+import java.util.List;
 
 public interface IComplianceConfiguration {
 
+    /**
+     * Returns the compliance services to register. The first service provides the default policy.
+     */
     @Nonnull
-    IComplianceService getComplianceService();
+    List<IComplianceService> getComplianceServices();
+
+    /** Returns the maximum number of cached results per policy. */
+    int getComplianceCacheSize();
 }
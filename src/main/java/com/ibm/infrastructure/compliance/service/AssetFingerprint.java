@@ -0,0 +1,183 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.UUID;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.component.crypto.AlgorithmProperties;
+import org.cyclonedx.model.component.crypto.CryptoProperties;
+
+/**
+ * Canonical fingerprint of the properties of a component that a compliance service evaluates. The
+ * bom-ref and the evidence are never part of the fingerprint, so the same algorithm found at
+ * different locations or in different CBOMs gets the same fingerprint, which allows to reuse
+ * compliance results.
+ *
+ * <p>The fingerprint is the first 128 bits of the SHA-256 digest of the canonical form, which keeps
+ * cache keys small regardless of the size of the properties.
+ */
+public record AssetFingerprint(long high, long low) {
+    private static final ObjectWriter CANONICAL_WRITER =
+            JsonMapper.builder()
+                    .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                    .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .serializationInclusion(JsonInclude.Include.NON_EMPTY)
+                    .build()
+                    .writer();
+
+    /** The properties of a component that the results of a service depend on. */
+    public enum Scope {
+        /** The properties the bundled policies look at, see {@link AssetFingerprint#of}. */
+        POLICY_PROPERTIES {
+            @Nonnull
+            @Override
+            public AssetFingerprint of(@Nonnull Component component) {
+                return AssetFingerprint.of(component);
+            }
+        },
+        /**
+         * The name and all crypto properties, for services which may look at any of them, see
+         * {@link AssetFingerprint#ofCryptoProperties}.
+         */
+        CRYPTO_PROPERTIES {
+            @Nonnull
+            @Override
+            public AssetFingerprint of(@Nonnull Component component) {
+                return AssetFingerprint.ofCryptoProperties(component);
+            }
+        };
+
+        @Nonnull
+        public abstract AssetFingerprint of(@Nonnull Component component);
+    }
+
+    /**
+     * Returns the fingerprint of the properties the bundled policies look at: the name, ignoring
+     * case, the asset type, the OID, the primitive, parameter set, curve, mode, padding and
+     * security levels of an algorithm, and the size of related crypto material such as keys. It is
+     * computed from these fields only, without serializing the crypto properties.
+     */
+    @Nonnull
+    public static AssetFingerprint of(@Nonnull Component component) {
+        final MessageDigest digest = sha256();
+        if (digest == null) {
+            return unique();
+        }
+        update(digest, name(component));
+        final CryptoProperties cryptoProperties = component.getCryptoProperties();
+        if (cryptoProperties == null) {
+            return of(digest);
+        }
+        update(digest, cryptoProperties.getAssetType());
+        update(digest, cryptoProperties.getOid());
+        update(
+                digest,
+                cryptoProperties.getRelatedCryptoMaterialProperties() == null
+                        ? null
+                        : cryptoProperties.getRelatedCryptoMaterialProperties().getSize());
+        final AlgorithmProperties algorithmProperties = cryptoProperties.getAlgorithmProperties();
+        if (algorithmProperties == null) {
+            return of(digest);
+        }
+        update(digest, algorithmProperties.getPrimitive());
+        update(digest, algorithmProperties.getParameterSetIdentifier());
+        update(digest, algorithmProperties.getCurve());
+        update(digest, algorithmProperties.getMode());
+        update(digest, algorithmProperties.getPadding());
+        update(digest, algorithmProperties.getClassicalSecurityLevel());
+        update(digest, algorithmProperties.getNistQuantumSecurityLevel());
+        return of(digest);
+    }
+
+    /**
+     * Returns the fingerprint of the name, ignoring case, and the canonical JSON form of all crypto
+     * properties of the component.
+     */
+    @Nonnull
+    public static AssetFingerprint ofCryptoProperties(@Nonnull Component component) {
+        final MessageDigest digest = sha256();
+        final byte[] cryptoProperties;
+        try {
+            cryptoProperties =
+                    component.getCryptoProperties() == null
+                            ? new byte[0]
+                            : CANONICAL_WRITER.writeValueAsBytes(component.getCryptoProperties());
+        } catch (JsonProcessingException e) {
+            return unique();
+        }
+        if (digest == null) {
+            return unique();
+        }
+        update(digest, name(component));
+        digest.update(cryptoProperties);
+        return of(digest);
+    }
+
+    @Nullable private static String name(@Nonnull Component component) {
+        return component.getName() == null ? null : component.getName().toLowerCase(Locale.ROOT);
+    }
+
+    /** Adds a property to the digest, distinguishing missing from empty values. */
+    private static void update(@Nonnull MessageDigest digest, @Nullable Object value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        digest.update((byte) 1);
+        digest.update(value.toString().getBytes(StandardCharsets.UTF_8));
+        // separates the property from the next one
+        digest.update((byte) 0);
+    }
+
+    @Nullable private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    @Nonnull
+    private static AssetFingerprint of(@Nonnull MessageDigest digest) {
+        final ByteBuffer hash = ByteBuffer.wrap(digest.digest());
+        return new AssetFingerprint(hash.getLong(), hash.getLong());
+    }
+
+    /** Returns a fingerprint matching no other one, the result of the component is not reused. */
+    @Nonnull
+    private static AssetFingerprint unique() {
+        final UUID unique = UUID.randomUUID();
+        return new AssetFingerprint(
+                unique.getMostSignificantBits(), unique.getLeastSignificantBits());
+    }
+}
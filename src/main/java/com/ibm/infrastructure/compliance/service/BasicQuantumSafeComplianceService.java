@@ -24,8 +24,6 @@ import com.ibm.domain.compliance.PolicyIdentifier;
 import com.ibm.infrastructure.compliance.ComplianceLevel;
 import jakarta.annotation.Nonnull;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,52 +32,18 @@ import org.cyclonedx.model.component.crypto.CryptoProperties;
 import org.cyclonedx.model.component.crypto.enums.Primitive;
 
 public class BasicQuantumSafeComplianceService implements IComplianceService {
-    private static final List<Primitive> ASYMMETRIC_PRIMITIVES =
-            Arrays.asList(Primitive.SIGNATURE, Primitive.KEY_AGREE, Primitive.KEM, Primitive.PKE);
-    private static final List<Primitive> UNKNOWN_PRIMITIVES =
-            Arrays.asList(Primitive.UNKNOWN, Primitive.OTHER);
-    private static final List<String> WHITELIST_NAMES =
-            Arrays.asList(
-                    "ml-kem",
-                    "ml-dsa",
-                    "slh-dsa",
-                    "pqxdh",
-                    "bike",
-                    "mceliece",
-                    "frodokem",
-                    "hqc",
-                    "kyber",
-                    "ntru",
-                    "crystals",
-                    "falcon",
-                    "mayo",
-                    "sphincs",
-                    "xmss",
-                    "lms");
-    private static final List<String> WHITELIST_OIDS =
-            Arrays.asList(
-                    "1.3.6.1.4.1.2.267.12.4.4",
-                    "1.3.6.1.4.1.2.267.12.6.5",
-                    "1.3.6.1.4.1.2.267.12.8.7",
-                    "1.3.9999.6.4.16",
-                    "1.3.9999.6.7.16",
-                    "1.3.9999.6.4.13",
-                    "1.3.9999.6.7.13",
-                    "1.3.9999.6.5.12",
-                    "1.3.9999.6.8.12",
-                    "1.3.9999.6.5.10",
-                    "1.3.9999.6.8.10",
-                    "1.3.9999.6.6.12",
-                    "1.3.9999.6.9.12",
-                    "1.3.9999.6.6.10",
-                    "1.3.9999.6.9.10",
-                    "1.3.6.1.4.1.22554.5.6.1",
-                    "1.3.6.1.4.1.22554.5.6.2",
-                    "1.3.6.1.4.1.22554.5.6.3");
+    private static final PolicyIdentifier QUANTUM_SAFE_POLICY =
+            new PolicyIdentifier("quantum_safe");
 
+    @Nonnull private final QuantumSafeRules rules;
     @Nonnull private final Map<Integer, ComplianceLevel> complianceLevels;
 
     public BasicQuantumSafeComplianceService() {
+        this(QuantumSafeRules.load(null));
+    }
+
+    public BasicQuantumSafeComplianceService(@Nonnull QuantumSafeRules rules) {
+        this.rules = rules;
         complianceLevels = new HashMap<>();
         complianceLevels.put(
                 1,
@@ -135,19 +99,19 @@ public class BasicQuantumSafeComplianceService implements IComplianceService {
     }
 
     @Override
-    public @Nonnull ComplianceCheckResultDTO evaluate(
-            @Nonnull PolicyIdentifier policyIdentifier,
-            @Nonnull Collection<CryptographicAsset> cryptographicAssets) {
-        if (!policyIdentifier.id().equals("quantum_safe")) {
-            return new ComplianceCheckResultDTO(List.of(), true);
-        }
-        return new ComplianceCheckResultDTO(
-                cryptographicAssets.stream().map(this::evaluate).toList(), false);
+    public @Nonnull List<PolicyIdentifier> getPolicies() {
+        return List.of(QUANTUM_SAFE_POLICY);
+    }
+
+    @Override
+    public @Nonnull String getPolicyVersion(@Nonnull PolicyIdentifier policyIdentifier) {
+        return this.rules.getVersion();
     }
 
     @SuppressWarnings("java:S3776")
-    @Nonnull
-    private ICryptographicAssetPolicyResult evaluate(
+    @Override
+    public @Nonnull ICryptographicAssetPolicyResult evaluate(
+            @Nonnull PolicyIdentifier policyIdentifier,
             @Nonnull CryptographicAsset cryptographicAsset) {
         final CryptoProperties cryptoProperties =
                 cryptographicAsset.component().getCryptoProperties();
@@ -173,36 +137,31 @@ public class BasicQuantumSafeComplianceService implements IComplianceService {
                     cryptographicAsset.identifier(),
                     this.complianceLevels.get(2),
                     "The asset primitive was not set, which does not allow further categorization");
-        } else if (ASYMMETRIC_PRIMITIVES.contains(primitive)
-                || UNKNOWN_PRIMITIVES.contains(primitive)) {
+        } else if (this.rules.isAsymmetric(primitive) || this.rules.isUnknown(primitive)) {
             final String name = cryptographicAsset.component().getName();
             final String oid = cryptoProperties.getOid();
-            if (oid != null && WHITELIST_OIDS.contains(oid)) {
+            if (oid != null && this.rules.isQuantumSafeOid(oid)) {
                 return new BasicCryptographicAssetPolicyResult(
                         cryptographicAsset.identifier(),
                         this.complianceLevels.get(3),
                         "The OID of the asset is part of the Quantum Safe OIDs whitelist");
             }
-            if (name != null) {
-                String lowerCaseName = name.toLowerCase();
-                for (String whitelistItem : WHITELIST_NAMES) {
-                    if (lowerCaseName.contains(whitelistItem)) {
-                        return new BasicCryptographicAssetPolicyResult(
-                                cryptographicAsset.identifier(),
-                                this.complianceLevels.get(3),
-                                "The name of the asset contains '"
-                                        + whitelistItem
-                                        + "', which is part of the Quantum Safe whitelist of component names");
-                    }
-                }
+            final String whitelistItem = name == null ? null : this.rules.findQuantumSafeName(name);
+            if (whitelistItem != null) {
+                return new BasicCryptographicAssetPolicyResult(
+                        cryptographicAsset.identifier(),
+                        this.complianceLevels.get(3),
+                        "The name of the asset contains '"
+                                + whitelistItem
+                                + "', which is part of the Quantum Safe whitelist of component names");
             }
-            if (ASYMMETRIC_PRIMITIVES.contains(primitive)) {
+            if (this.rules.isAsymmetric(primitive)) {
                 return new BasicCryptographicAssetPolicyResult(
                         cryptographicAsset.identifier(),
                         this.complianceLevels.get(1),
                         "The asset has an asymmetric primitive and does not match with the Quantum Safe whitelists of OIDs and names");
             } else {
-                // Primitive is part of UNKNOWN_PRIMITIVES
+                // Primitive is one of the unknown primitives
                 return new BasicCryptographicAssetPolicyResult(
                         cryptographicAsset.identifier(),
                         this.complianceLevels.get(2),
@@ -0,0 +1,75 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance.service;
+
+import jakarta.annotation.Nonnull;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Stops calls to a remote service for a while after a number of consecutive failures, so that an
+ * unavailable service does not slow down every evaluation with timeouts. Once the open duration has
+ * passed, a single trial call is let through, which closes the circuit again on success.
+ */
+final class CircuitBreaker {
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    @Nonnull private final LongSupplier nanoTime;
+    private int failures;
+    private long openedAt;
+    private boolean trialInProgress;
+
+    CircuitBreaker(int failureThreshold, @Nonnull Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(
+            int failureThreshold, @Nonnull Duration openDuration, @Nonnull LongSupplier nanoTime) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    /** Returns whether a call may be made, in which case its outcome has to be reported. */
+    synchronized boolean tryAcquire() {
+        if (this.failures < this.failureThreshold) {
+            return true;
+        }
+        if (this.trialInProgress
+                || this.nanoTime.getAsLong() - this.openedAt < this.openDurationNanos) {
+            return false;
+        }
+        this.trialInProgress = true;
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        this.failures = 0;
+        this.trialInProgress = false;
+    }
+
+    synchronized void onFailure() {
+        this.failures++;
+        this.trialInProgress = false;
+        if (this.failures >= this.failureThreshold) {
+            this.openedAt = this.nanoTime.getAsLong();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance.service;
+
+import com.ibm.domain.compliance.CryptographicAsset;
+import com.ibm.domain.compliance.PolicyIdentifier;
+import com.ibm.infrastructure.compliance.ComplianceLevel;
+import jakarta.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.cyclonedx.model.component.crypto.AlgorithmProperties;
+import org.cyclonedx.model.component.crypto.enums.Mode;
+
+/** Flags assets using algorithms or modes of operation that are deprecated or broken. */
+public class DeprecatedAlgorithmComplianceService implements IComplianceService {
+    private static final PolicyIdentifier DEPRECATED_ALGORITHMS_POLICY =
+            new PolicyIdentifier("deprecated_algorithms");
+    private static final String POLICY_VERSION = "1";
+    private static final List<String> DEPRECATED_NAMES =
+            List.of(
+                    "md2",
+                    "md4",
+                    "md5",
+                    "sha-1",
+                    "sha1",
+                    "ripemd",
+                    "3des",
+                    "desede",
+                    "tripledes",
+                    "des",
+                    "rc2",
+                    "rc4",
+                    "blowfish");
+
+    @Nonnull private final NameMatcher deprecatedNames;
+    @Nonnull private final Map<Integer, ComplianceLevel> complianceLevels;
+
+    public DeprecatedAlgorithmComplianceService() {
+        this.deprecatedNames = new NameMatcher(DEPRECATED_NAMES);
+        complianceLevels = new HashMap<>();
+        complianceLevels.put(
+                1,
+                new ComplianceLevel(
+                        1,
+                        "Deprecated",
+                        null,
+                        "#da1e28",
+                        ComplianceLevel.ComplianceIcon.ERROR,
+                        true));
+        complianceLevels.put(
+                2,
+                new ComplianceLevel(
+                        2,
+                        "Not Deprecated",
+                        null,
+                        "green",
+                        ComplianceLevel.ComplianceIcon.CHECKMARK,
+                        false));
+    }
+
+    @Override
+    public @Nonnull String getName() {
+        return "Deprecated Algorithm Compliance Service";
+    }
+
+    @Override
+    public @Nonnull List<ComplianceLevel> getComplianceLevels() {
+        return new ArrayList<>(complianceLevels.values());
+    }
+
+    @Override
+    public @Nonnull ComplianceLevel getDefaultComplianceLevel() {
+        return this.complianceLevels.get(2);
+    }
+
+    @Override
+    public @Nonnull List<PolicyIdentifier> getPolicies() {
+        return List.of(DEPRECATED_ALGORITHMS_POLICY);
+    }
+
+    @Override
+    public @Nonnull String getPolicyVersion(@Nonnull PolicyIdentifier policyIdentifier) {
+        return POLICY_VERSION;
+    }
+
+    @Override
+    public @Nonnull ICryptographicAssetPolicyResult evaluate(
+            @Nonnull PolicyIdentifier policyIdentifier,
+            @Nonnull CryptographicAsset cryptographicAsset) {
+        final String name = cryptographicAsset.component().getName();
+        final String deprecatedName = name == null ? null : this.deprecatedNames.findFirst(name);
+        if (deprecatedName != null) {
+            return new BasicCryptographicAssetPolicyResult(
+                    cryptographicAsset.identifier(),
+                    this.complianceLevels.get(1),
+                    "The name of the asset contains '"
+                            + deprecatedName
+                            + "', which is a deprecated algorithm");
+        }
+        final AlgorithmProperties algorithmProperties =
+                cryptographicAsset.component().getCryptoProperties().getAlgorithmProperties();
+        if (algorithmProperties != null && algorithmProperties.getMode() == Mode.ECB) {
+            return new BasicCryptographicAssetPolicyResult(
+                    cryptographicAsset.identifier(),
+                    this.complianceLevels.get(1),
+                    "The asset uses the ECB mode, which does not hide patterns of the plaintext");
+        }
+        return new BasicCryptographicAssetPolicyResult(
+                cryptographicAsset.identifier(),
+                this.complianceLevels.get(2),
+                "The asset does not match any deprecated algorithm or mode");
+    }
+}
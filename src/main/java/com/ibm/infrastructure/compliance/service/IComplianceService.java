@@ -23,10 +23,14 @@ import com.ibm.domain.compliance.CryptographicAsset;
 import com.ibm.domain.compliance.PolicyIdentifier;
 import com.ibm.infrastructure.compliance.ComplianceLevel;
 import jakarta.annotation.Nonnull;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface IComplianceService {
+    /** collections of at least this many assets are evaluated in parallel */
+    int PARALLEL_THRESHOLD = 10_000;
 
     @Nonnull
     String getName();
@@ -37,8 +41,64 @@ public interface IComplianceService {
     @Nonnull
     ComplianceLevel getDefaultComplianceLevel();
 
+    /** Returns the policies of this service, which are evaluated whenever a CBOM is stored. */
     @Nonnull
-    ComplianceCheckResultDTO evaluate(
+    List<PolicyIdentifier> getPolicies();
+
+    /**
+     * Returns the current version of a policy. Stored results of a different version are outdated
+     * and get recomputed.
+     */
+    @Nonnull
+    String getPolicyVersion(@Nonnull PolicyIdentifier policyIdentifier);
+
+    /**
+     * Returns how long the results of this service may be reused. Results of services evaluating
+     * policies elsewhere expire, since the policy can change without the service noticing. By
+     * default, results are reused until the policy version changes.
+     */
+    @Nonnull
+    default Optional<Duration> getResultTimeToLive() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the properties of an asset that the results of this service depend on. By default,
+     * these are the properties the bundled policies look at, see {@link AssetFingerprint#of}.
+     */
+    @Nonnull
+    default AssetFingerprint.Scope getFingerprintScope() {
+        return AssetFingerprint.Scope.POLICY_PROPERTIES;
+    }
+
+    /**
+     * Evaluates a single asset against a policy of this service. The result must only depend on the
+     * properties in the {@link #getFingerprintScope() fingerprint scope} of the service, since it
+     * is reused for all assets with the same {@link AssetFingerprint}.
+     */
+    @Nonnull
+    ICryptographicAssetPolicyResult evaluate(
+            @Nonnull PolicyIdentifier policyIdentifier,
+            @Nonnull CryptographicAsset cryptographicAsset);
+
+    /**
+     * Evaluates assets against a policy, with the results in the order of the assets. Large
+     * collections are evaluated in parallel. Services that have to call out for an evaluation
+     * override this to evaluate the assets in batches.
+     */
+    @Nonnull
+    default ComplianceCheckResultDTO evaluate(
             @Nonnull PolicyIdentifier policyIdentifier,
-            @Nonnull Collection<CryptographicAsset> cryptographicAssets);
+            @Nonnull Collection<CryptographicAsset> cryptographicAssets) {
+        if (!this.getPolicies().contains(policyIdentifier)) {
+            return new ComplianceCheckResultDTO(List.of(), true);
+        }
+        return new ComplianceCheckResultDTO(
+                (cryptographicAssets.size() >= PARALLEL_THRESHOLD
+                                ? cryptographicAssets.parallelStream()
+                                : cryptographicAssets.stream())
+                        .map(asset -> this.evaluate(policyIdentifier, asset))
+                        .toList(),
+                false);
+    }
 }
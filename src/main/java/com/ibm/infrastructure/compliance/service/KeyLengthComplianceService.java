@@ -0,0 +1,274 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance.service;
+
+import com.ibm.domain.compliance.CryptographicAsset;
+import com.ibm.domain.compliance.PolicyIdentifier;
+import com.ibm.infrastructure.compliance.ComplianceLevel;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cyclonedx.model.component.crypto.AlgorithmProperties;
+import org.cyclonedx.model.component.crypto.CryptoProperties;
+import org.cyclonedx.model.component.crypto.enums.Primitive;
+
+/**
+ * Checks that RSA and finite field algorithms, elliptic curves and symmetric ciphers use keys of at
+ * least the minimum length recommended by NIST SP 800-57.
+ */
+public class KeyLengthComplianceService implements IComplianceService {
+    private static final PolicyIdentifier KEY_LENGTH_POLICY = new PolicyIdentifier("key_length");
+    private static final String POLICY_VERSION = "1";
+
+    private static final int MIN_FINITE_FIELD_KEY_LENGTH = 2048;
+    private static final int MIN_ELLIPTIC_CURVE_KEY_LENGTH = 224;
+    private static final int MIN_SYMMETRIC_KEY_LENGTH = 128;
+
+    private static final Set<Primitive> ASYMMETRIC_PRIMITIVES =
+            EnumSet.of(Primitive.SIGNATURE, Primitive.PKE, Primitive.KEY_AGREE, Primitive.KEM);
+    private static final Set<Primitive> SYMMETRIC_PRIMITIVES =
+            EnumSet.of(Primitive.BLOCK_CIPHER, Primitive.STREAM_CIPHER, Primitive.AE);
+    private static final Set<String> ELLIPTIC_CURVE_ALGORITHMS =
+            Set.of("eddsa", "ed25519", "ed448", "x25519", "x448");
+    private static final Set<String> FINITE_FIELD_ALGORITHMS =
+            Set.of("dsa", "dh", "ffdh", "elgamal", "diffiehellman");
+    // ciphers whose name does not contain their key length (3DES has an effective length of 112)
+    private static final List<String> FIXED_KEY_LENGTH_CIPHERS =
+            List.of("3des", "desede", "tripledes", "tdea", "chacha20", "salsa20", "des");
+    private static final Map<String, Integer> FIXED_KEY_LENGTHS =
+            Map.of(
+                    "3des", 112,
+                    "desede", 112,
+                    "tripledes", 112,
+                    "tdea", 112,
+                    "chacha20", 256,
+                    "salsa20", 256,
+                    "des", 56);
+    private static final Pattern ASYMMETRIC_KEY_LENGTH =
+            Pattern.compile("(?<!\\d)(\\d{3,5})(?!\\d)");
+    private static final Pattern SYMMETRIC_KEY_LENGTH =
+            Pattern.compile("(?<!\\d)(\\d{2,3})(?!\\d)");
+
+    @Nonnull private final NameMatcher fixedKeyLengthCiphers;
+    @Nonnull private final Map<Integer, ComplianceLevel> complianceLevels;
+
+    public KeyLengthComplianceService() {
+        this.fixedKeyLengthCiphers = new NameMatcher(FIXED_KEY_LENGTH_CIPHERS);
+        complianceLevels = new HashMap<>();
+        complianceLevels.put(
+                1,
+                new ComplianceLevel(
+                        1,
+                        "Key Too Short",
+                        null,
+                        "#fac532",
+                        ComplianceLevel.ComplianceIcon.WARNING,
+                        true));
+        complianceLevels.put(
+                2,
+                new ComplianceLevel(
+                        2,
+                        "Unknown",
+                        "Unknown Key Length",
+                        "#17a9d1",
+                        ComplianceLevel.ComplianceIcon.UNKNOWN,
+                        true));
+        complianceLevels.put(
+                3,
+                new ComplianceLevel(
+                        3,
+                        "Sufficient Key Length",
+                        null,
+                        "green",
+                        ComplianceLevel.ComplianceIcon.CHECKMARK,
+                        false));
+        complianceLevels.put(
+                4,
+                new ComplianceLevel(
+                        4,
+                        "Not Applicable",
+                        "Not Applicable: we only categorize algorithms with a key",
+                        "gray",
+                        ComplianceLevel.ComplianceIcon.NOT_APPLICABLE,
+                        false));
+    }
+
+    @Override
+    public @Nonnull String getName() {
+        return "Key Length Compliance Service";
+    }
+
+    @Override
+    public @Nonnull List<ComplianceLevel> getComplianceLevels() {
+        return new ArrayList<>(complianceLevels.values());
+    }
+
+    @Override
+    public @Nonnull ComplianceLevel getDefaultComplianceLevel() {
+        return this.complianceLevels.get(2);
+    }
+
+    @Override
+    public @Nonnull List<PolicyIdentifier> getPolicies() {
+        return List.of(KEY_LENGTH_POLICY);
+    }
+
+    @Override
+    public @Nonnull String getPolicyVersion(@Nonnull PolicyIdentifier policyIdentifier) {
+        return POLICY_VERSION;
+    }
+
+    @Override
+    public @Nonnull ICryptographicAssetPolicyResult evaluate(
+            @Nonnull PolicyIdentifier policyIdentifier,
+            @Nonnull CryptographicAsset cryptographicAsset) {
+        final CryptoProperties cryptoProperties =
+                cryptographicAsset.component().getCryptoProperties();
+        final AlgorithmProperties algorithmProperties = cryptoProperties.getAlgorithmProperties();
+        if (algorithmProperties == null || algorithmProperties.getPrimitive() == null) {
+            return new BasicCryptographicAssetPolicyResult(
+                    cryptographicAsset.identifier(),
+                    this.complianceLevels.get(2),
+                    "The asset primitive was not set, which does not allow further categorization");
+        }
+
+        final String name =
+                cryptographicAsset.component().getName() == null
+                        ? ""
+                        : cryptographicAsset.component().getName().toLowerCase(Locale.ROOT);
+        // for signature names like SHA256withRSA, only the part after 'with' names the key
+        final int with = name.lastIndexOf("with");
+        final String keyAlgorithm = with < 0 ? name : name.substring(with + "with".length());
+        final String family = keyAlgorithm.split("[^a-z0-9]", 2)[0];
+        final Primitive primitive = algorithmProperties.getPrimitive();
+        if (ASYMMETRIC_PRIMITIVES.contains(primitive)) {
+            if (algorithmProperties.getCurve() != null
+                    || family.startsWith("ec")
+                    || ELLIPTIC_CURVE_ALGORITHMS.contains(family)) {
+                return this.evaluateKeyLength(
+                        cryptographicAsset,
+                        this.ellipticCurveKeyLength(algorithmProperties, keyAlgorithm),
+                        MIN_ELLIPTIC_CURVE_KEY_LENGTH,
+                        "elliptic curve");
+            } else if (family.startsWith("rsa") || FINITE_FIELD_ALGORITHMS.contains(family)) {
+                return this.evaluateKeyLength(
+                        cryptographicAsset,
+                        this.keyLength(algorithmProperties, keyAlgorithm, ASYMMETRIC_KEY_LENGTH),
+                        MIN_FINITE_FIELD_KEY_LENGTH,
+                        "RSA or finite field");
+            }
+            return new BasicCryptographicAssetPolicyResult(
+                    cryptographicAsset.identifier(),
+                    this.complianceLevels.get(4),
+                    "The asset is not based on RSA, finite fields or elliptic curves, so the key length categorization is not applicable");
+        } else if (SYMMETRIC_PRIMITIVES.contains(primitive)) {
+            Integer keyLength = this.keyLength(algorithmProperties, null, SYMMETRIC_KEY_LENGTH);
+            if (keyLength == null) {
+                final String cipher = this.fixedKeyLengthCiphers.findFirst(name);
+                keyLength =
+                        cipher == null
+                                ? this.keyLength(algorithmProperties, name, SYMMETRIC_KEY_LENGTH)
+                                : FIXED_KEY_LENGTHS.get(cipher);
+            }
+            return this.evaluateKeyLength(
+                    cryptographicAsset, keyLength, MIN_SYMMETRIC_KEY_LENGTH, "symmetric");
+        }
+        return new BasicCryptographicAssetPolicyResult(
+                cryptographicAsset.identifier(),
+                this.complianceLevels.get(4),
+                "The asset primitive does not use a key, so the key length categorization is not applicable");
+    }
+
+    @Nonnull
+    private ICryptographicAssetPolicyResult evaluateKeyLength(
+            @Nonnull CryptographicAsset cryptographicAsset,
+            @Nullable Integer keyLength,
+            int minKeyLength,
+            @Nonnull String kind) {
+        if (keyLength == null) {
+            return new BasicCryptographicAssetPolicyResult(
+                    cryptographicAsset.identifier(),
+                    this.complianceLevels.get(2),
+                    "The key length of the "
+                            + kind
+                            + " asset could not be determined from its parameter set, curve or name");
+        } else if (keyLength < minKeyLength) {
+            return new BasicCryptographicAssetPolicyResult(
+                    cryptographicAsset.identifier(),
+                    this.complianceLevels.get(1),
+                    "The key length of "
+                            + keyLength
+                            + " bits is below the minimum of "
+                            + minKeyLength
+                            + " bits for "
+                            + kind
+                            + " algorithms");
+        }
+        return new BasicCryptographicAssetPolicyResult(
+                cryptographicAsset.identifier(),
+                this.complianceLevels.get(3),
+                "The key length of "
+                        + keyLength
+                        + " bits meets the minimum of "
+                        + minKeyLength
+                        + " bits for "
+                        + kind
+                        + " algorithms");
+    }
+
+    @Nullable private Integer ellipticCurveKeyLength(
+            @Nonnull AlgorithmProperties algorithmProperties, @Nonnull String name) {
+        final String curve =
+                algorithmProperties.getCurve() == null
+                        ? name
+                        : algorithmProperties.getCurve().toLowerCase(Locale.ROOT);
+        if (curve.contains("25519")) {
+            return 255;
+        }
+        return this.keyLength(algorithmProperties, curve, ASYMMETRIC_KEY_LENGTH);
+    }
+
+    /**
+     * Returns the key length given by the parameter set identifier, or else the first number in the
+     * name matching the pattern.
+     */
+    @Nullable private Integer keyLength(
+            @Nonnull AlgorithmProperties algorithmProperties,
+            @Nullable String name,
+            @Nonnull Pattern pattern) {
+        final String parameterSetIdentifier = algorithmProperties.getParameterSetIdentifier();
+        if (parameterSetIdentifier != null && parameterSetIdentifier.matches("\\d{1,5}")) {
+            return Integer.parseInt(parameterSetIdentifier);
+        }
+        if (name == null) {
+            return null;
+        }
+        final Matcher matcher = pattern.matcher(name);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : null;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance.service;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Finds which of a fixed list of keywords occur in a text using an Aho-Corasick automaton, so that
+ * a name is scanned once regardless of the number of keywords.
+ */
+final class NameMatcher {
+
+    private static final class Node {
+        @Nonnull final Map<Character, Node> next = new HashMap<>();
+        @Nullable Node fail;
+        // lowest index of a keyword ending in this node or in one of its suffix nodes
+        int keyword = Integer.MAX_VALUE;
+    }
+
+    @Nonnull private final List<String> keywords;
+    @Nonnull private final Node root;
+
+    NameMatcher(@Nonnull List<String> keywords) {
+        this.keywords = keywords.stream().map(String::toLowerCase).toList();
+        this.root = new Node();
+        for (int i = 0; i < this.keywords.size(); i++) {
+            Node node = this.root;
+            for (final char c : this.keywords.get(i).toCharArray()) {
+                node = node.next.computeIfAbsent(c, k -> new Node());
+            }
+            node.keyword = Math.min(node.keyword, i);
+        }
+        // breadth first to compute the failure links
+        final Queue<Node> queue = new ArrayDeque<>();
+        for (final Node child : this.root.next.values()) {
+            child.fail = this.root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final Node node = queue.remove();
+            for (final Map.Entry<Character, Node> entry : node.next.entrySet()) {
+                final Node child = entry.getValue();
+                child.fail = this.transition(node.fail, entry.getKey());
+                child.keyword = Math.min(child.keyword, child.fail.keyword);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Returns the first keyword (in the order of the keyword list) contained in the text, ignoring
+     * case.
+     */
+    @Nullable String findFirst(@Nonnull String text) {
+        int keyword = Integer.MAX_VALUE;
+        Node node = this.root;
+        for (final char c : text.toLowerCase().toCharArray()) {
+            node = this.transition(node, c);
+            keyword = Math.min(keyword, node.keyword);
+        }
+        return keyword == Integer.MAX_VALUE ? null : this.keywords.get(keyword);
+    }
+
+    @Nonnull
+    private Node transition(@Nullable Node node, char c) {
+        while (node != null) {
+            final Node next = node.next.get(c);
+            if (next != null) {
+                return next;
+            }
+            node = node.fail;
+        }
+        return this.root;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.cyclonedx.model.component.crypto.enums.Primitive;
+
+/**
+ * The rules of the {@link BasicQuantumSafeComplianceService}, loaded from a versioned JSON file and
+ * compiled into lookup structures.
+ */
+public final class QuantumSafeRules {
+    private static final String DEFAULT_RULES = "/compliance/quantum-safe-rules.json";
+    private static final Map<String, Primitive> PRIMITIVES_BY_NAME =
+            Arrays.stream(Primitive.values())
+                    .collect(Collectors.toMap(Primitive::getName, Function.identity()));
+
+    private record RuleFile(
+            @Nonnull String version,
+            @Nonnull List<String> asymmetricPrimitives,
+            @Nonnull List<String> unknownPrimitives,
+            @Nonnull List<String> names,
+            @Nonnull List<String> oids) {}
+
+    @Nonnull private final String version;
+    @Nonnull private final Set<Primitive> asymmetricPrimitives;
+    @Nonnull private final Set<Primitive> unknownPrimitives;
+    @Nonnull private final NameMatcher names;
+    @Nonnull private final Set<String> oids;
+
+    private QuantumSafeRules(@Nonnull RuleFile ruleFile) {
+        this.version = ruleFile.version();
+        this.asymmetricPrimitives = toPrimitives(ruleFile.asymmetricPrimitives());
+        this.unknownPrimitives = toPrimitives(ruleFile.unknownPrimitives());
+        this.names = new NameMatcher(ruleFile.names());
+        this.oids = new HashSet<>(ruleFile.oids());
+    }
+
+    /**
+     * Loads the rules from the given file, or the rules shipped with the application if no file is
+     * given.
+     */
+    @Nonnull
+    public static QuantumSafeRules load(@Nullable String path) {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        try {
+            if (path != null) {
+                try (InputStream in = Files.newInputStream(Path.of(path))) {
+                    return new QuantumSafeRules(objectMapper.readValue(in, RuleFile.class));
+                }
+            }
+            try (InputStream in = QuantumSafeRules.class.getResourceAsStream(DEFAULT_RULES)) {
+                if (in == null) {
+                    throw new IllegalStateException("Could not find " + DEFAULT_RULES);
+                }
+                return new QuantumSafeRules(objectMapper.readValue(in, RuleFile.class));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not load quantum safe rules", e);
+        }
+    }
+
+    @Nonnull
+    private static Set<Primitive> toPrimitives(@Nonnull Collection<String> names) {
+        final Set<Primitive> primitives = EnumSet.noneOf(Primitive.class);
+        for (final String name : names) {
+            final Primitive primitive = PRIMITIVES_BY_NAME.get(name);
+            if (primitive == null) {
+                throw new IllegalStateException("Unknown primitive " + name);
+            }
+            primitives.add(primitive);
+        }
+        return primitives;
+    }
+
+    @Nonnull
+    public String getVersion() {
+        return version;
+    }
+
+    public boolean isAsymmetric(@Nonnull Primitive primitive) {
+        return this.asymmetricPrimitives.contains(primitive);
+    }
+
+    public boolean isUnknown(@Nonnull Primitive primitive) {
+        return this.unknownPrimitives.contains(primitive);
+    }
+
+    public boolean isQuantumSafeOid(@Nonnull String oid) {
+        return this.oids.contains(oid);
+    }
+
+    /** Returns the first quantum safe name contained in the given name, if any. */
+    @Nullable public String findQuantumSafeName(@Nonnull String name) {
+        return this.names.findFirst(name);
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibm.domain.compliance.CryptographicAsset;
+import com.ibm.domain.compliance.PolicyIdentifier;
+import com.ibm.infrastructure.compliance.ComplianceLevel;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.cyclonedx.model.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delegates the evaluation of policies to a remote regulator API.
+ *
+ * <p>Assets are sent in batches to {@code POST <base url>/api/v1/compliance/evaluate} over a pool
+ * of keep-alive connections. The regulator answers with the version of the policy, its compliance
+ * levels and one result per asset, in the order of the request. After repeated failures the
+ * regulator is not called for a while and evaluations return an error result instead. Results are
+ * cached by the {@code ComplianceServiceRegistry} like those of any other service, but only for the
+ * configured time to live: the regulator may change a policy at any time, and its version is only
+ * learned from the responses of the regulator.
+ */
+public class RegulatorComplianceService implements IComplianceService, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RegulatorComplianceService.class);
+    private static final String EVALUATE_PATH = "/api/v1/compliance/evaluate";
+    private static final String UNKNOWN_VERSION = "unknown";
+    private static final ObjectMapper MAPPER =
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    // used until the regulator has sent its compliance levels
+    private static final ComplianceLevel UNKNOWN_LEVEL =
+            new ComplianceLevel(
+                    0,
+                    "Unknown",
+                    "The regulator could not be reached",
+                    "#17a9d1",
+                    ComplianceLevel.ComplianceIcon.UNKNOWN,
+                    true);
+
+    record EvaluationRequest(@Nonnull String policyIdentifier, @Nonnull List<Asset> assets) {}
+
+    record Asset(@Nonnull String identifier, @Nonnull Component component) {}
+
+    record EvaluationResponse(
+            @Nonnull String policyVersion,
+            @Nonnull List<Level> complianceLevels,
+            int defaultComplianceLevel,
+            @Nonnull List<Result> results) {}
+
+    record Level(
+            int id,
+            @Nonnull String label,
+            @Nullable String description,
+            @Nonnull String colorHex,
+            @Nonnull ComplianceLevel.ComplianceIcon icon,
+            boolean unCompliant) {}
+
+    record Result(@Nonnull String identifier, int complianceLevel, @Nonnull String message) {}
+
+    private static final class EvaluationResponseHandler
+            implements HttpClientResponseHandler<EvaluationResponse> {
+        @Override
+        public EvaluationResponse handleResponse(@Nonnull ClassicHttpResponse httpResponse)
+                throws IOException {
+            if (httpResponse.getCode() != HttpStatus.SC_OK) {
+                throw new IOException("Received " + httpResponse.getCode() + " response");
+            }
+            return MAPPER.readValue(
+                    httpResponse.getEntity().getContent(), EvaluationResponse.class);
+        }
+    }
+
+    @Nonnull private final String evaluateUrl;
+    @Nonnull private final List<PolicyIdentifier> policies;
+    private final int batchSize;
+    @Nonnull private final Duration resultTimeToLive;
+    @Nonnull private final CloseableHttpClient httpClient;
+    @Nonnull private final CircuitBreaker circuitBreaker;
+    @Nonnull private final Map<PolicyIdentifier, String> policyVersions;
+    @Nonnull private volatile Map<Integer, ComplianceLevel> complianceLevels;
+    @Nonnull private volatile ComplianceLevel defaultComplianceLevel;
+
+    public RegulatorComplianceService(
+            @Nonnull String baseUrl,
+            @Nonnull List<PolicyIdentifier> policies,
+            int batchSize,
+            int maxConnections,
+            @Nonnull Duration timeout,
+            @Nonnull Duration resultTimeToLive) {
+        this(
+                baseUrl,
+                policies,
+                batchSize,
+                maxConnections,
+                timeout,
+                resultTimeToLive,
+                new CircuitBreaker(5, Duration.ofSeconds(30)));
+    }
+
+    RegulatorComplianceService(
+            @Nonnull String baseUrl,
+            @Nonnull List<PolicyIdentifier> policies,
+            int batchSize,
+            int maxConnections,
+            @Nonnull Duration timeout,
+            @Nonnull Duration resultTimeToLive,
+            @Nonnull CircuitBreaker circuitBreaker) {
+        this.evaluateUrl = baseUrl.replaceAll("/+$", "") + EVALUATE_PATH;
+        this.policies = List.copyOf(policies);
+        this.batchSize = batchSize;
+        this.resultTimeToLive = resultTimeToLive;
+        this.circuitBreaker = circuitBreaker;
+        this.policyVersions = new ConcurrentHashMap<>();
+        this.complianceLevels = Map.of(UNKNOWN_LEVEL.id(), UNKNOWN_LEVEL);
+        this.defaultComplianceLevel = UNKNOWN_LEVEL;
+        this.httpClient =
+                HttpClients.custom()
+                        .setConnectionManager(
+                                PoolingHttpClientConnectionManagerBuilder.create()
+                                        .setMaxConnTotal(maxConnections)
+                                        .setMaxConnPerRoute(maxConnections)
+                                        .setDefaultConnectionConfig(
+                                                ConnectionConfig.custom()
+                                                        .setConnectTimeout(Timeout.of(timeout))
+                                                        .setSocketTimeout(Timeout.of(timeout))
+                                                        .build())
+                                        .build())
+                        .setDefaultRequestConfig(
+                                RequestConfig.custom()
+                                        .setConnectionRequestTimeout(Timeout.of(timeout))
+                                        .setResponseTimeout(Timeout.of(timeout))
+                                        .build())
+                        .evictIdleConnections(TimeValue.ofMinutes(1))
+                        .build();
+    }
+
+    @Override
+    public @Nonnull String getName() {
+        return "Regulator Compliance Service";
+    }
+
+    @Override
+    public @Nonnull List<ComplianceLevel> getComplianceLevels() {
+        return new ArrayList<>(this.complianceLevels.values());
+    }
+
+    @Override
+    public @Nonnull ComplianceLevel getDefaultComplianceLevel() {
+        return this.defaultComplianceLevel;
+    }
+
+    @Override
+    public @Nonnull List<PolicyIdentifier> getPolicies() {
+        return this.policies;
+    }
+
+    /** Returns the version last reported by the regulator for the policy. */
+    @Override
+    public @Nonnull String getPolicyVersion(@Nonnull PolicyIdentifier policyIdentifier) {
+        return this.policyVersions.getOrDefault(policyIdentifier, UNKNOWN_VERSION);
+    }
+
+    /** The regulator may look at any crypto property of an asset. */
+    @Override
+    public @Nonnull AssetFingerprint.Scope getFingerprintScope() {
+        return AssetFingerprint.Scope.CRYPTO_PROPERTIES;
+    }
+
+    @Override
+    public @Nonnull Optional<Duration> getResultTimeToLive() {
+        return Optional.of(this.resultTimeToLive);
+    }
+
+    @Override
+    public @Nonnull ICryptographicAssetPolicyResult evaluate(
+            @Nonnull PolicyIdentifier policyIdentifier,
+            @Nonnull CryptographicAsset cryptographicAsset) {
+        final ComplianceCheckResultDTO complianceCheckResultDTO =
+                this.evaluate(policyIdentifier, List.of(cryptographicAsset));
+        if (complianceCheckResultDTO.error()) {
+            return new BasicCryptographicAssetPolicyResult(
+                    cryptographicAsset.identifier(),
+                    UNKNOWN_LEVEL,
+                    "The regulator could not evaluate the asset");
+        }
+        return complianceCheckResultDTO.policyResults().iterator().next();
+    }
+
+    @Override
+    public @Nonnull ComplianceCheckResultDTO evaluate(
+            @Nonnull PolicyIdentifier policyIdentifier,
+            @Nonnull Collection<CryptographicAsset> cryptographicAssets) {
+        if (!this.policies.contains(policyIdentifier)) {
+            return new ComplianceCheckResultDTO(List.of(), true);
+        }
+        final List<CryptographicAsset> assets = List.copyOf(cryptographicAssets);
+        final List<ICryptographicAssetPolicyResult> results = new ArrayList<>(assets.size());
+        for (int from = 0; from < assets.size(); from += this.batchSize) {
+            final Optional<List<ICryptographicAssetPolicyResult>> batchResults =
+                    this.request(
+                            policyIdentifier,
+                            assets.subList(from, Math.min(from + this.batchSize, assets.size())));
+            if (batchResults.isEmpty()) {
+                return new ComplianceCheckResultDTO(List.of(), true);
+            }
+            results.addAll(batchResults.get());
+        }
+        return new ComplianceCheckResultDTO(results, false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.httpClient.close();
+    }
+
+    @Nonnull
+    private Optional<List<ICryptographicAssetPolicyResult>> request(
+            @Nonnull PolicyIdentifier policyIdentifier, @Nonnull List<CryptographicAsset> batch) {
+        if (!this.circuitBreaker.tryAcquire()) {
+            LOGGER.warn(
+                    "Regulator is unavailable, could not evaluate policy {}",
+                    policyIdentifier.id());
+            return Optional.empty();
+        }
+        // the outcome is reported in any case, an unreported trial call would keep the circuit open
+        boolean succeeded = false;
+        try {
+            final HttpPost request = new HttpPost(this.evaluateUrl);
+            request.setEntity(
+                    new StringEntity(
+                            MAPPER.writeValueAsString(
+                                    new EvaluationRequest(
+                                            policyIdentifier.id(),
+                                            batch.stream()
+                                                    .map(
+                                                            asset ->
+                                                                    new Asset(
+                                                                            asset.identifier(),
+                                                                            asset.component()))
+                                                    .toList())),
+                            ContentType.APPLICATION_JSON));
+            final EvaluationResponse response =
+                    this.httpClient.execute(request, new EvaluationResponseHandler());
+            final List<ICryptographicAssetPolicyResult> results =
+                    this.toResults(policyIdentifier, batch, response);
+            this.circuitBreaker.onSuccess();
+            succeeded = true;
+            return Optional.of(results);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error(
+                    "Could not evaluate policy {} with the regulator: {}",
+                    policyIdentifier.id(),
+                    e.getMessage());
+            return Optional.empty();
+        } finally {
+            if (!succeeded) {
+                this.circuitBreaker.onFailure();
+            }
+        }
+    }
+
+    @Nonnull
+    private List<ICryptographicAssetPolicyResult> toResults(
+            @Nonnull PolicyIdentifier policyIdentifier,
+            @Nonnull List<CryptographicAsset> batch,
+            @Nonnull EvaluationResponse response)
+            throws IOException {
+        final Map<Integer, ComplianceLevel> levels = new HashMap<>();
+        for (final Level level : response.complianceLevels()) {
+            levels.put(
+                    level.id(),
+                    new ComplianceLevel(
+                            level.id(),
+                            level.label(),
+                            level.description(),
+                            level.colorHex(),
+                            level.icon(),
+                            level.unCompliant()));
+        }
+        final ComplianceLevel defaultLevel = levels.get(response.defaultComplianceLevel());
+        if (defaultLevel == null || response.results().size() != batch.size()) {
+            throw new IOException("Invalid regulator response");
+        }
+        final List<ICryptographicAssetPolicyResult> results = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            final Result result = response.results().get(i);
+            final ComplianceLevel level = levels.get(result.complianceLevel());
+            if (level == null || !result.identifier().equals(batch.get(i).identifier())) {
+                throw new IOException("Invalid regulator result for " + result.identifier());
+            }
+            results.add(
+                    new BasicCryptographicAssetPolicyResult(
+                            result.identifier(), level, result.message()));
+        }
+        this.complianceLevels = levels;
+        this.defaultComplianceLevel = defaultLevel;
+        this.policyVersions.put(policyIdentifier, response.policyVersion());
+        return results;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
+import jakarta.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compact binary storage format for CBOMs.
+ *
+ * <p>A CBOM is stored as a deflate compressed Smile document. Before encoding, all occurrence
+ * locations ({@code components[].evidence.occurrences[].location}) are moved into a string
+ * dictionary and replaced by their index, since the same file paths are typically repeated for
+ * thousands of occurrences.
+ */
+public final class CBOMStorageCodec {
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final String DICTIONARY = "locations";
+    private static final String BOM = "bom";
+    private static final String COMPONENTS = "components";
+    private static final String EVIDENCE = "evidence";
+    private static final String OCCURRENCES = "occurrences";
+    private static final String LOCATION = "location";
+
+    private static final ObjectMapper SMILE_MAPPER =
+            new ObjectMapper(
+                    SmileFactory.builder()
+                            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                            .build());
+
+    private CBOMStorageCodec() {
+        // static only
+    }
+
+    @Nonnull
+    public static byte[] encode(@Nonnull JsonNode bom) throws CBOMSerializationFailed {
+        final JsonNode copy = bom.deepCopy();
+        final Map<String, Integer> index = new HashMap<>();
+        final List<String> dictionary = new ArrayList<>();
+        rewriteLocations(
+                copy,
+                location ->
+                        IntNode.valueOf(
+                                index.computeIfAbsent(
+                                        location.asText(),
+                                        l -> {
+                                            dictionary.add(l);
+                                            return dictionary.size() - 1;
+                                        })));
+
+        final ObjectNode envelope = SMILE_MAPPER.createObjectNode();
+        final ArrayNode locations = envelope.putArray(DICTIONARY);
+        dictionary.forEach(locations::add);
+        envelope.set(BOM, copy);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(FORMAT_VERSION);
+        try (OutputStream out = new DeflaterOutputStream(bytes)) {
+            SMILE_MAPPER.writeValue(out, envelope);
+        } catch (IOException e) {
+            throw new CBOMSerializationFailed();
+        }
+        return bytes.toByteArray();
+    }
+
+    @Nonnull
+    public static JsonNode decode(@Nonnull byte[] data) throws CBOMSerializationFailed {
+        if (data.length == 0 || data[0] != FORMAT_VERSION) {
+            throw new CBOMSerializationFailed();
+        }
+        try (InputStream in =
+                new InflaterInputStream(new ByteArrayInputStream(data, 1, data.length - 1))) {
+            final JsonNode envelope = SMILE_MAPPER.readTree(in);
+            final JsonNode dictionary = envelope.path(DICTIONARY);
+            final JsonNode bom = envelope.get(BOM);
+            if (bom == null) {
+                throw new CBOMSerializationFailed();
+            }
+            rewriteLocations(
+                    bom, location -> TextNode.valueOf(dictionary.path(location.asInt()).asText()));
+            return bom;
+        } catch (IOException e) {
+            throw new CBOMSerializationFailed();
+        }
+    }
+
+    private static void rewriteLocations(
+            @Nonnull JsonNode bom, @Nonnull UnaryOperator<JsonNode> rewrite) {
+        for (JsonNode component : bom.path(COMPONENTS)) {
+            for (JsonNode occurrence : component.path(EVIDENCE).path(OCCURRENCES)) {
+                if (occurrence instanceof ObjectNode objectNode && objectNode.has(LOCATION)) {
+                    objectNode.set(LOCATION, rewrite.apply(objectNode.get(LOCATION)));
+                }
+            }
+        }
+    }
+}
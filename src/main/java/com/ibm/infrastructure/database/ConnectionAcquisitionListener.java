@@ -0,0 +1,43 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database;
+
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.hibernate.SessionEventListener;
+
+/**
+ * Measures how long sessions wait for a JDBC connection from the pool, and records it for the
+ * repository operation which caused the acquisition. Hibernate creates an instance per session, as
+ * configured by {@code hibernate.session.events.auto}.
+ */
+@RegisterForReflection
+public final class ConnectionAcquisitionListener implements SessionEventListener {
+    private long start;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        this.start = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        Transactions.recordConnectionAcquisition(System.nanoTime() - this.start);
+    }
+}
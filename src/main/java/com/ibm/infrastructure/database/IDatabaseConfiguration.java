@@ -0,0 +1,81 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database;
+
+public interface IDatabaseConfiguration {
+
+    /**
+     * Returns whether CBOM payloads should be persisted using the compact binary storage format
+     * (see {@link CBOMStorageCodec}) instead of plain JSON.
+     */
+    boolean isCompactCBOMStorageEnabled();
+
+    /**
+     * Returns the maximum total size (in bytes of JSON) of the CBOMs kept in the in-memory read
+     * model cache. A value of zero or less disables the cache.
+     */
+    long getCBOMCacheMaxSize();
+
+    /**
+     * Returns the number of scan events after which a new snapshot of the scan is written. Scans
+     * are rehydrated from their latest snapshot and the events recorded after it.
+     */
+    int getSnapshotInterval();
+
+    /**
+     * Returns whether the previous CBOMs of a project are kept when a new CBOM of the project is
+     * stored. Queries always return the latest CBOM of a project.
+     */
+    boolean isCBOMHistoryEnabled();
+
+    /**
+     * Returns the number of versions in the CBOM history of a project after which the complete CBOM
+     * is stored again instead of the changes against the previous version.
+     */
+    int getCBOMCheckpointInterval();
+
+    /** Returns the maximum number of rows the retention job removes in a single transaction. */
+    int getRetentionBatchSize();
+
+    /**
+     * Returns the number of days after which the events of a scan which are contained in its
+     * snapshot are removed. The events are the audit trail of a scan, so a value of zero or less
+     * keeps them forever.
+     */
+    int getEventRetentionDays();
+
+    /**
+     * Returns the number of days after which finished scans are removed. A value of zero or less
+     * keeps scans forever.
+     */
+    int getScanRetentionDays();
+
+    /**
+     * Returns the maximum number of versions kept in the CBOM history of a project. A value of zero
+     * or less keeps all versions.
+     */
+    int getMaxCBOMVersions();
+
+    /**
+     * Returns the number of days after which versions in the CBOM history of a project are removed.
+     * The latest version is always kept. A value of zero or less keeps versions regardless of age.
+     */
+    int getCBOMVersionRetentionDays();
+}
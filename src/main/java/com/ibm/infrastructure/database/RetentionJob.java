@@ -0,0 +1,145 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database;
+
+import com.ibm.domain.scanning.ScanId;
+import com.ibm.infrastructure.database.readmodels.ICBOMVersionRepository;
+import com.ibm.infrastructure.scanning.repositories.IScanRepository;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Singleton;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodically removes data which is no longer needed from the database:
+ *
+ * <ul>
+ *   <li>scan events older than the event retention which are contained in the snapshot of their
+ *       scan (disabled by default, since the events are the audit trail of the scans),
+ *   <li>projected scans older than the scan retention (disabled by default, since the scans are the
+ *       source for rebuilding the read models),
+ *   <li>scan results which belong to no scan anymore,
+ *   <li>versions in the CBOM history of a project exceeding the version retention policy.
+ * </ul>
+ *
+ * <p>Rows are removed in batches of {@link IDatabaseConfiguration#getRetentionBatchSize()}, each in
+ * its own short transaction, so that running scans are not blocked by long-held locks.
+ */
+@Singleton
+public final class RetentionJob {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RetentionJob.class);
+
+    /** scan results without a scan might still belong to a scan which is being saved */
+    private static final Duration ORPHAN_GRACE_PERIOD = Duration.ofDays(1);
+
+    @Nonnull private final IScanRepository scanRepository;
+    @Nonnull private final ICBOMVersionRepository versionRepository;
+    @Nonnull private final IDatabaseConfiguration databaseConfiguration;
+
+    public RetentionJob(
+            @Nonnull IScanRepository scanRepository,
+            @Nonnull ICBOMVersionRepository versionRepository,
+            @Nonnull IDatabaseConfiguration databaseConfiguration) {
+        this.scanRepository = scanRepository;
+        this.versionRepository = versionRepository;
+        this.databaseConfiguration = databaseConfiguration;
+    }
+
+    @Scheduled(
+            identity = "retention",
+            every = "${cbomkit.db.retention.interval}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void run() {
+        final int batchSize = Math.max(1, this.databaseConfiguration.getRetentionBatchSize());
+        final Instant now = Instant.now();
+
+        int compactedScans = 0;
+        final int eventRetentionDays = this.databaseConfiguration.getEventRetentionDays();
+        if (eventRetentionDays > 0) {
+            final Timestamp before = Timestamp.from(now.minus(Duration.ofDays(eventRetentionDays)));
+            int compacted;
+            do {
+                compacted = this.scanRepository.compactEvents(before, batchSize);
+                compactedScans += compacted;
+            } while (compacted >= batchSize);
+        }
+
+        int deletedScans = 0;
+        final int scanRetentionDays = this.databaseConfiguration.getScanRetentionDays();
+        if (scanRetentionDays > 0) {
+            final Timestamp before = Timestamp.from(now.minus(Duration.ofDays(scanRetentionDays)));
+            List<ScanId> expired;
+            ScanId after = null;
+            do {
+                expired = this.scanRepository.readExpiredIds(before, after, batchSize);
+                for (ScanId scanId : expired) {
+                    this.scanRepository.delete(scanId);
+                    after = scanId;
+                }
+                deletedScans += expired.size();
+            } while (expired.size() >= batchSize);
+        }
+
+        int deletedResults = 0;
+        final Timestamp orphanedBefore = Timestamp.from(now.minus(ORPHAN_GRACE_PERIOD));
+        int deleted;
+        do {
+            deleted = this.scanRepository.deleteOrphanedResults(orphanedBefore, batchSize);
+            deletedResults += deleted;
+        } while (deleted >= batchSize);
+
+        final int deletedVersions = this.pruneVersions(now, batchSize);
+
+        LOGGER.info(
+                "Retention: compacted events of {} scans, removed {} scans, {} scan results and {} CBOM versions",
+                compactedScans,
+                deletedScans,
+                deletedResults,
+                deletedVersions);
+    }
+
+    private int pruneVersions(@Nonnull Instant now, int batchSize) {
+        final int maxVersions = this.databaseConfiguration.getMaxCBOMVersions();
+        final int retentionDays = this.databaseConfiguration.getCBOMVersionRetentionDays();
+        if (maxVersions <= 0 && retentionDays <= 0) {
+            return 0;
+        }
+        final Timestamp before =
+                retentionDays > 0
+                        ? Timestamp.from(now.minus(Duration.ofDays(retentionDays)))
+                        : null;
+        int deletedVersions = 0;
+        List<String> projectKeys;
+        String after = null;
+        do {
+            projectKeys = this.versionRepository.findProjectKeys(after, batchSize);
+            for (String projectKey : projectKeys) {
+                deletedVersions += this.versionRepository.prune(projectKey, maxVersions, before);
+                after = projectKey;
+            }
+        } while (projectKeys.size() >= batchSize);
+        return deletedVersions;
+    }
+}
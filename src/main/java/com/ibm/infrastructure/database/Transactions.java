@@ -0,0 +1,178 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.narayana.jta.QuarkusTransactionException;
+import io.quarkus.narayana.jta.TransactionRunnerOptions;
+import jakarta.annotation.Nonnull;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the operations of a repository in transactions.
+ *
+ * <p>The request context and the transaction of the caller are reused if they are active, so that
+ * callers can group several operations into a single transaction and commit. Otherwise, they are
+ * created for the operation. The duration of each operation is recorded as {@code
+ * cbomkit.db.operation} timer, tagged with the repository, the operation and the outcome. The time
+ * spent waiting for a pooled connection is recorded as {@code cbomkit.db.connection.acquisition}
+ * timer for the operation which acquired it (see {@link ConnectionAcquisitionListener}).
+ */
+public final class Transactions {
+    private static final String TIMER = "cbomkit.db.operation";
+    private static final String ACQUISITION_TIMER = "cbomkit.db.connection.acquisition";
+
+    /** repository and name of the operation running on the current thread */
+    private static final ThreadLocal<String[]> CURRENT = new ThreadLocal<>();
+
+    @FunctionalInterface
+    public interface Work {
+        void execute() throws Exception;
+    }
+
+    @Nonnull private final String repository;
+
+    public Transactions(@Nonnull Class<?> repository) {
+        this.repository = repository.getSimpleName();
+    }
+
+    /** Returns the result of the work, run in the active transaction or a new one. */
+    public <T> T call(@Nonnull String operation, @Nonnull Callable<T> work) throws Exception {
+        return this.execute(operation, QuarkusTransaction.joiningExisting(), work);
+    }
+
+    /** Runs the work in the active transaction or a new one. */
+    public void run(@Nonnull String operation, @Nonnull Work work) throws Exception {
+        this.execute(
+                operation,
+                QuarkusTransaction.joiningExisting(),
+                () -> {
+                    work.execute();
+                    return null;
+                });
+    }
+
+    /**
+     * Runs the work in a new transaction, which is committed when this method returns, e.g. before
+     * domain events about the changes are published.
+     */
+    public void runRequiringNew(@Nonnull String operation, @Nonnull Work work) throws Exception {
+        this.execute(
+                operation,
+                QuarkusTransaction.requiringNew(),
+                () -> {
+                    work.execute();
+                    return null;
+                });
+    }
+
+    /**
+     * Runs the action once the active transaction has completed, or right away if there is none,
+     * e.g. to invalidate cached state only when concurrent readers can see the changes.
+     */
+    public static void afterCompletion(@Nonnull Runnable action) {
+        final TransactionSynchronizationRegistry registry =
+                Arc.container().instance(TransactionSynchronizationRegistry.class).get();
+        if (registry.getTransactionStatus() != Status.STATUS_ACTIVE
+                && registry.getTransactionStatus() != Status.STATUS_MARKED_ROLLBACK) {
+            action.run();
+            return;
+        }
+        registry.registerInterposedSynchronization(
+                new Synchronization() {
+                    @Override
+                    public void beforeCompletion() {
+                        // nothing to do
+                    }
+
+                    @Override
+                    public void afterCompletion(int status) {
+                        action.run();
+                    }
+                });
+    }
+
+    private <T> T execute(
+            @Nonnull String operation,
+            @Nonnull TransactionRunnerOptions runner,
+            @Nonnull Callable<T> work)
+            throws Exception {
+        final ManagedContext requestContext = Arc.container().requestContext();
+        final boolean activated = !requestContext.isActive();
+        if (activated) {
+            requestContext.activate();
+        }
+        final String[] previous = CURRENT.get();
+        CURRENT.set(new String[] {this.repository, operation});
+        final Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+        String outcome = "failure";
+        try {
+            final T result = runner.call(work);
+            outcome = "success";
+            return result;
+        } catch (QuarkusTransactionException e) {
+            // checked exceptions of the work are wrapped by the runner
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw e;
+        } finally {
+            CURRENT.set(previous);
+            sample.stop(
+                    Timer.builder(TIMER)
+                            .description("Duration of repository operations")
+                            .tags(
+                                    "repository",
+                                    this.repository,
+                                    "operation",
+                                    operation,
+                                    "outcome",
+                                    outcome)
+                            .publishPercentileHistogram()
+                            .register(Metrics.globalRegistry));
+            if (activated) {
+                requestContext.terminate();
+            }
+        }
+    }
+
+    /** Records the time the operation running on the current thread waited for a connection. */
+    static void recordConnectionAcquisition(long nanos) {
+        final String[] current = CURRENT.get();
+        Timer.builder(ACQUISITION_TIMER)
+                .description("Time repository operations waited for a pooled connection")
+                .tags(
+                        "repository",
+                        current == null ? "none" : current[0],
+                        "operation",
+                        current == null ? "none" : current[1])
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
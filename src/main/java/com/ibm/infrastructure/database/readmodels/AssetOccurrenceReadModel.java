@@ -0,0 +1,62 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/** Location in the source code at which a {@link CryptoAssetReadModel} was detected. */
+@Entity
+@Table(indexes = {@Index(columnList = "location"), @Index(columnList = "projectKey")})
+public class AssetOccurrenceReadModel extends PanacheEntity {
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @Nonnull
+    public CryptoAssetReadModel asset;
+
+    /** key of the project of the asset, see {@link ProjectKey} */
+    @JsonIgnore @Nonnull public String projectKey;
+
+    @Nonnull public String location;
+    @Nullable public Integer line;
+    @Nullable public Integer lineOffset;
+
+    AssetOccurrenceReadModel(
+            @Nonnull CryptoAssetReadModel asset,
+            @Nonnull String projectKey,
+            @Nonnull String location,
+            @Nullable Integer line,
+            @Nullable Integer lineOffset) {
+        this.asset = asset;
+        this.projectKey = projectKey;
+        this.location = location;
+        this.line = line;
+        this.lineOffset = lineOffset;
+    }
+
+    protected AssetOccurrenceReadModel() {}
+}
@@ -0,0 +1,43 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import jakarta.annotation.Nullable;
+import java.sql.Timestamp;
+
+/**
+ * Filters of an asset search. Filters that are null are ignored.
+ *
+ * @param name the asset name, e.g. RSA-1024
+ * @param primitive the cryptographic primitive, e.g. pke
+ * @param oid the object identifier of the asset
+ * @param complianceLevel the compliance level id according to the default policy
+ * @param repositoryPrefix prefix of the git url of the project
+ * @param createdAfter only assets of CBOMs created at or after this time
+ * @param createdBefore only assets of CBOMs created before this time
+ */
+public record AssetSearchCriteria(
+        @Nullable String name,
+        @Nullable String primitive,
+        @Nullable String oid,
+        @Nullable Integer complianceLevel,
+        @Nullable String repositoryPrefix,
+        @Nullable Timestamp createdAfter,
+        @Nullable Timestamp createdBefore) {}
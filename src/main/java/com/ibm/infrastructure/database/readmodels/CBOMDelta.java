@@ -0,0 +1,202 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Changes between two versions of a CBOM document.
+ *
+ * <p>The components and dependencies of the CBOM are compared item by item, using their {@code
+ * bom-ref} and {@code ref}, so that the size of a delta is proportional to the number of changed
+ * items instead of the size of the CBOM. All other top-level properties are compared as a whole.
+ * Items are compared by value, so reordered items are not a change; applying a delta keeps the
+ * order of the previous version and appends added items.
+ *
+ * @param properties the top-level properties which were added or changed, with their new value
+ * @param removedProperties the names of the removed top-level properties
+ * @param collections the changes of the components and dependencies, by property name
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record CBOMDelta(
+        @Nonnull Map<String, JsonNode> properties,
+        @Nonnull List<String> removedProperties,
+        @Nonnull Map<String, Changes> collections) {
+
+    public CBOMDelta {
+        // empty changes are omitted in JSON
+        properties = properties == null ? Map.of() : properties;
+        removedProperties = removedProperties == null ? List.of() : removedProperties;
+        collections = collections == null ? Map.of() : collections;
+    }
+
+    /** identifying property of the items of each compared collection */
+    private static final Map<String, String> KEYS =
+            Map.of("components", "bom-ref", "dependencies", "ref");
+
+    /**
+     * Changes of the items of a collection.
+     *
+     * @param added the added items
+     * @param changed the changed items, with their new value
+     * @param removed the keys of the removed items
+     */
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    public record Changes(
+            @Nonnull List<JsonNode> added,
+            @Nonnull List<JsonNode> changed,
+            @Nonnull List<String> removed) {
+
+        public Changes {
+            added = added == null ? List.of() : added;
+            changed = changed == null ? List.of() : changed;
+            removed = removed == null ? List.of() : removed;
+        }
+
+        boolean isEmpty() {
+            return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+        }
+    }
+
+    /** Returns the changes from the previous version (if any) to the next version. */
+    @Nonnull
+    public static CBOMDelta between(@Nullable JsonNode previous, @Nonnull JsonNode next) {
+        final JsonNode from = previous == null ? JsonNodeFactory.instance.objectNode() : previous;
+        final Map<String, JsonNode> properties = new LinkedHashMap<>();
+        final List<String> removedProperties = new ArrayList<>();
+        final Map<String, Changes> collections = new LinkedHashMap<>();
+        next.fields()
+                .forEachRemaining(
+                        field -> {
+                            final String key = KEYS.get(field.getKey());
+                            if (key != null && field.getValue().isArray()) {
+                                final Changes changes =
+                                        compare(from.path(field.getKey()), field.getValue(), key);
+                                if (!changes.isEmpty()) {
+                                    collections.put(field.getKey(), changes);
+                                }
+                            } else if (!field.getValue().equals(from.get(field.getKey()))) {
+                                properties.put(field.getKey(), field.getValue());
+                            }
+                        });
+        from.fieldNames()
+                .forEachRemaining(
+                        name -> {
+                            if (next.has(name)) {
+                                return;
+                            }
+                            final String key = KEYS.get(name);
+                            if (key != null && from.get(name).isArray()) {
+                                // a removed collection is an empty one
+                                final Changes changes =
+                                        compare(
+                                                from.get(name),
+                                                JsonNodeFactory.instance.arrayNode(),
+                                                key);
+                                if (!changes.isEmpty()) {
+                                    collections.put(name, changes);
+                                }
+                            }
+                            removedProperties.add(name);
+                        });
+        return new CBOMDelta(properties, removedProperties, collections);
+    }
+
+    /** Returns whether both versions are equal, apart from the order of their items. */
+    @JsonIgnore
+    public boolean isEmpty() {
+        return properties.isEmpty() && removedProperties.isEmpty() && collections.isEmpty();
+    }
+
+    /** Returns the next version, computed from the previous version (if any) and this delta. */
+    @Nonnull
+    public JsonNode applyTo(@Nullable JsonNode previous) {
+        final ObjectNode next =
+                previous == null
+                        ? JsonNodeFactory.instance.objectNode()
+                        : ((ObjectNode) previous).deepCopy();
+        this.collections.forEach(
+                (name, changes) -> {
+                    final String key = KEYS.getOrDefault(name, "");
+                    final Map<String, JsonNode> items = index(next.path(name), key);
+                    changes.removed().forEach(items::remove);
+                    for (final JsonNode item : changes.changed()) {
+                        items.put(keyOf(item, key), item);
+                    }
+                    for (final JsonNode item : changes.added()) {
+                        final String itemKey = keyOf(item, key);
+                        items.put(items.containsKey(itemKey) ? item.toString() : itemKey, item);
+                    }
+                    final ArrayNode array = next.putArray(name);
+                    items.values().forEach(array::add);
+                });
+        this.removedProperties.forEach(next::remove);
+        next.setAll(this.properties);
+        return next;
+    }
+
+    @Nonnull
+    private static Changes compare(
+            @Nonnull JsonNode previous, @Nonnull JsonNode next, @Nonnull String key) {
+        final Map<String, JsonNode> previousItems = index(previous, key);
+        final List<JsonNode> added = new ArrayList<>();
+        final List<JsonNode> changed = new ArrayList<>();
+        for (final Map.Entry<String, JsonNode> item : index(next, key).entrySet()) {
+            final JsonNode previousItem = previousItems.remove(item.getKey());
+            if (previousItem == null) {
+                added.add(item.getValue());
+            } else if (!previousItem.equals(item.getValue())) {
+                changed.add(item.getValue());
+            }
+        }
+        return new Changes(added, changed, new ArrayList<>(previousItems.keySet()));
+    }
+
+    @Nonnull
+    private static Map<String, JsonNode> index(@Nonnull JsonNode items, @Nonnull String key) {
+        final Map<String, JsonNode> index = new LinkedHashMap<>();
+        final Iterator<JsonNode> iterator = items.elements();
+        while (iterator.hasNext()) {
+            final JsonNode item = iterator.next();
+            final String itemKey = keyOf(item, key);
+            // items without a unique key are identified by their value
+            index.put(index.containsKey(itemKey) ? item.toString() : itemKey, item);
+        }
+        return index;
+    }
+
+    @Nonnull
+    private static String keyOf(@Nonnull JsonNode item, @Nonnull String key) {
+        final JsonNode value = item.get(key);
+        return value != null && value.isTextual() ? value.asText() : item.toString();
+    }
+}
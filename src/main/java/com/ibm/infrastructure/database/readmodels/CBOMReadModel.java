@@ -25,19 +25,37 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
+import com.ibm.infrastructure.database.CBOMStorageCodec;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import jakarta.persistence.Basic;
 import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.sql.Timestamp;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 @Entity
 @Cacheable
+@Table(
+        indexes = {
+            @Index(columnList = "repository, createdAt"),
+            @Index(columnList = "projectIdentifier"),
+            @Index(columnList = "projectKey, createdAt"),
+            @Index(columnList = "commit"),
+            @Index(columnList = "createdAt")
+        })
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonPropertyOrder({
     "projectIdentifier",
@@ -46,6 +64,7 @@ import org.hibernate.type.SqlTypes;
     "packageFolder",
     "commit",
     "createdAt",
+    "statistics",
     "bom"
 })
 public class CBOMReadModel extends PanacheEntityBase implements IReadModel<UUID> {
@@ -53,6 +72,9 @@ public class CBOMReadModel extends PanacheEntityBase implements IReadModel<UUID>
 
     @Nonnull protected String projectIdentifier;
 
+    /** key of the project across its commits, see {@link ProjectKey} */
+    @JsonIgnore @Nonnull protected String projectKey;
+
     @JsonProperty("gitUrl")
     @Nonnull
     protected String repository;
@@ -66,10 +88,32 @@ public class CBOMReadModel extends PanacheEntityBase implements IReadModel<UUID>
     @Nullable protected String commit;
     @Nonnull protected Timestamp createdAt;
 
-    @Nonnull
+    @Nullable
+    @JdbcTypeCode(SqlTypes.JSON)
+    protected CBOMStatistics statistics;
+
+    @Nullable
     @JdbcTypeCode(SqlTypes.JSON)
     protected JsonNode bom;
 
+    /** BOM in the compact storage format, set instead of {@link #bom} if enabled */
+    @JsonIgnore
+    @Nullable
+    @JdbcTypeCode(SqlTypes.LONG32VARBINARY)
+    protected byte[] compactBom;
+
+    @JsonIgnore @Transient @Nullable private JsonNode decodedBom;
+
+    /** size of the JSON representation of this read model in bytes, recorded when it is stored */
+    @JsonIgnore @Nullable protected Long representationSize;
+
+    /** gzip compressed JSON representation of this read model, precomputed when it is stored */
+    @JsonIgnore
+    @Nullable
+    @Basic(fetch = FetchType.LAZY)
+    @JdbcTypeCode(SqlTypes.LONG32VARBINARY)
+    protected byte[] compressedRepresentation;
+
     @SuppressWarnings("java:S107")
     public CBOMReadModel(
             @Nonnull UUID id,
@@ -79,14 +123,17 @@ public class CBOMReadModel extends PanacheEntityBase implements IReadModel<UUID>
             @Nullable String packageFolder,
             @Nullable String commit,
             @Nonnull Timestamp createdAt,
+            @Nullable CBOMStatistics statistics,
             @Nonnull JsonNode bom) {
         this.id = id;
         this.projectIdentifier = projectIdentifier;
+        this.projectKey = ProjectKey.of(projectIdentifier);
         this.repository = repository;
         this.revision = revision;
         this.packageFolder = packageFolder;
         this.commit = commit;
         this.createdAt = createdAt;
+        this.statistics = statistics;
         this.bom = bom;
     }
 
@@ -102,6 +149,11 @@ public class CBOMReadModel extends PanacheEntityBase implements IReadModel<UUID>
         return projectIdentifier;
     }
 
+    @Nonnull
+    public String getProjectKey() {
+        return projectKey;
+    }
+
     @Nonnull
     public String getRepository() {
         return repository;
@@ -124,8 +176,45 @@ public class CBOMReadModel extends PanacheEntityBase implements IReadModel<UUID>
         return createdAt;
     }
 
+    @Nullable public CBOMStatistics getStatistics() {
+        return statistics;
+    }
+
     @Nonnull
-    public JsonNode getBom() {
-        return bom;
+    public JsonNode getBom() throws CBOMSerializationFailed {
+        if (this.bom != null) {
+            return this.bom;
+        }
+        if (this.decodedBom == null) {
+            if (this.compactBom == null) {
+                throw new CBOMSerializationFailed();
+            }
+            this.decodedBom = CBOMStorageCodec.decode(this.compactBom);
+        }
+        return this.decodedBom;
+    }
+
+    @Nullable Long getRepresentationSize() {
+        return representationSize;
+    }
+
+    /** Sets the JSON representation of this read model, which is stored gzip compressed. */
+    void setRepresentation(@Nonnull byte[] representation) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(representation);
+        }
+        this.compressedRepresentation = bytes.toByteArray();
+        this.representationSize = (long) representation.length;
+    }
+
+    /** Moves the BOM into the compact storage format before the read model gets persisted. */
+    void compact() throws CBOMSerializationFailed {
+        if (this.bom == null) {
+            return;
+        }
+        this.compactBom = CBOMStorageCodec.encode(this.bom);
+        this.decodedBom = this.bom;
+        this.bom = null;
     }
 }
@@ -0,0 +1,176 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
+import com.ibm.infrastructure.database.IDatabaseConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Singleton;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for {@link CBOMReadModel} lookups of {@link CBOMReadRepository}.
+ *
+ * <p>The cache is bounded by the total size of the cached CBOM documents (in JSON bytes) instead of
+ * the number of entries, since a single CBOM can be several megabytes. The least recently used
+ * entries are evicted first. Entries are invalidated whenever a read model of the same project or
+ * repository is written.
+ */
+@Singleton
+public final class CBOMReadModelCache {
+
+    /** lookup of the latest read model by project identifier and optional commit */
+    record IdentifierKey(@Nonnull String projectIdentifier, @Nullable String commit) {}
+
+    /** lookup of the latest read model by git url, optional commit and optional package folder */
+    record RepositoryKey(
+            @Nonnull String gitUrl, @Nullable String commit, @Nullable String packageFolder) {}
+
+    private record Entry(@Nonnull CBOMReadModel readModel, long size) {}
+
+    private final long maxSize;
+    @Nonnull private final Map<Object, Entry> entries;
+    @Nonnull private final Counter hits;
+    @Nonnull private final Counter misses;
+    @Nonnull private final Counter evictions;
+    private long size;
+    // incremented on every invalidation, so that a read model loaded before an invalidation is
+    // not cached after it
+    private long invalidations;
+
+    public CBOMReadModelCache(
+            @Nonnull IDatabaseConfiguration databaseConfiguration,
+            @Nonnull MeterRegistry meterRegistry) {
+        this(databaseConfiguration.getCBOMCacheMaxSize(), meterRegistry);
+    }
+
+    CBOMReadModelCache(long maxSize, @Nonnull MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.size = 0;
+        this.hits = meterRegistry.counter("cbomkit.cbom.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("cbomkit.cbom.cache.requests", "result", "miss");
+        this.evictions = meterRegistry.counter("cbomkit.cbom.cache.evictions");
+        Gauge.builder("cbomkit.cbom.cache.size", this, CBOMReadModelCache::size)
+                .description("Total JSON size of the cached CBOMs")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached read model for the key, or loads it using the loader and caches it if it
+     * exists.
+     */
+    @Nonnull
+    public Optional<CBOMReadModel> get(
+            @Nonnull Object key, @Nonnull Supplier<Optional<CBOMReadModel>> loader) {
+        if (this.maxSize <= 0) {
+            return loader.get();
+        }
+        final long stamp;
+        synchronized (this) {
+            final Entry entry = this.entries.get(key);
+            if (entry != null) {
+                this.hits.increment();
+                return Optional.of(entry.readModel());
+            }
+            stamp = this.invalidations;
+        }
+        this.misses.increment();
+        final Optional<CBOMReadModel> loaded = loader.get();
+        loaded.ifPresent(readModel -> this.put(key, readModel, stamp));
+        return loaded;
+    }
+
+    /** Removes all entries related to the project or repository of the given read model. */
+    public synchronized void invalidate(@Nonnull CBOMReadModel readModel) {
+        this.invalidations++;
+        this.entries
+                .values()
+                .removeIf(
+                        entry -> {
+                            final CBOMReadModel cached = entry.readModel();
+                            return cached.getId().equals(readModel.getId())
+                                    || cached.getProjectIdentifier()
+                                            .equals(readModel.getProjectIdentifier())
+                                    || cached.getRepository().equals(readModel.getRepository());
+                        });
+        this.recomputeSize();
+    }
+
+    /** Removes all entries containing the read model with the given id. */
+    public synchronized void invalidate(@Nonnull UUID id) {
+        this.invalidations++;
+        this.entries.values().removeIf(entry -> entry.readModel().getId().equals(id));
+        this.recomputeSize();
+    }
+
+    synchronized long size() {
+        return this.size;
+    }
+
+    private void put(@Nonnull Object key, @Nonnull CBOMReadModel readModel, long stamp) {
+        final long entrySize;
+        try {
+            entrySize = size(readModel);
+        } catch (CBOMSerializationFailed e) {
+            return;
+        }
+        if (entrySize > this.maxSize) {
+            return;
+        }
+        synchronized (this) {
+            if (stamp != this.invalidations) {
+                // the loaded read model might have been replaced in the meantime
+                return;
+            }
+            final Entry previous = this.entries.put(key, new Entry(readModel, entrySize));
+            this.size += entrySize - (previous == null ? 0 : previous.size());
+            // evict least recently used entries
+            final Iterator<Entry> iterator = this.entries.values().iterator();
+            while (this.size > this.maxSize && iterator.hasNext()) {
+                this.size -= iterator.next().size();
+                iterator.remove();
+                this.evictions.increment();
+            }
+        }
+    }
+
+    private static long size(@Nonnull CBOMReadModel readModel) throws CBOMSerializationFailed {
+        final Long representationSize = readModel.getRepresentationSize();
+        if (representationSize != null) {
+            return representationSize;
+        }
+        // read models stored before the size was recorded
+        return readModel.getBom().toString().length();
+    }
+
+    private void recomputeSize() {
+        this.size = this.entries.values().stream().mapToLong(Entry::size).sum();
+    }
+}
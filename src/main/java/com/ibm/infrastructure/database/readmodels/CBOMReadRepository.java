@@ -21,22 +21,35 @@ package com.ibm.infrastructure.database.readmodels;
 
 import app.bootstrap.core.ddd.IDomainEventBus;
 import app.bootstrap.core.ddd.ReadRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.packageurl.PackageURL;
 import com.ibm.domain.scanning.Commit;
 import com.ibm.domain.scanning.GitUrl;
-import io.quarkus.arc.Arc;
-import io.quarkus.arc.ArcContainer;
-import io.quarkus.narayana.jta.QuarkusTransaction;
+import com.ibm.infrastructure.database.IDatabaseConfiguration;
+import com.ibm.infrastructure.database.Transactions;
+import com.ibm.infrastructure.errors.ReadModelQueryFailed;
+import io.quarkus.runtime.StartupEvent;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Singleton;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import org.hibernate.StatelessSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,204 +57,536 @@ import org.slf4j.LoggerFactory;
 public final class CBOMReadRepository extends ReadRepository<UUID, CBOMReadModel>
         implements ICBOMReadRepository {
     private static final Logger LOGGER = LoggerFactory.getLogger(CBOMReadRepository.class);
+    private final Transactions transactions = new Transactions(CBOMReadRepository.class);
+    // ids of the latest read model of each repository, computed in a single window function pass
+    // (supported by the repository/createdAt index) instead of a correlated MAX subquery per row
+    private static final String LATEST_PER_REPOSITORY =
+            "SELECT ranked.id FROM ("
+                    + "SELECT r.id AS id, ROW_NUMBER() OVER (PARTITION BY r.repository ORDER BY r.createdAt DESC) AS position"
+                    + " FROM CBOMReadModel r) ranked"
+                    + " WHERE ranked.position = 1";
 
-    public CBOMReadRepository(@Nonnull IDomainEventBus domainEventBus) {
+    @Nonnull private final IDatabaseConfiguration databaseConfiguration;
+    @Nonnull private final ObjectMapper objectMapper;
+    @Nonnull private final CBOMReadModelCache cache;
+    @Nonnull private final StatelessSession statelessSession;
+
+    public CBOMReadRepository(
+            @Nonnull IDomainEventBus domainEventBus,
+            @Nonnull IDatabaseConfiguration databaseConfiguration,
+            @Nonnull ObjectMapper objectMapper,
+            @Nonnull CBOMReadModelCache cache,
+            @Nonnull StatelessSession statelessSession) {
         super(domainEventBus);
+        this.databaseConfiguration = databaseConfiguration;
+        this.objectMapper = objectMapper;
+        this.cache = cache;
+        this.statelessSession = statelessSession;
+    }
+
+    /**
+     * Sets the project key of read models stored before it was introduced, so that they are
+     * replaced and matched as the other read models of their project.
+     */
+    void onStart(@Observes StartupEvent event) {
+        try {
+            this.transactions.run(
+                    "setProjectKeys",
+                    () -> {
+                        final EntityManager entityManager = CBOMReadModel.getEntityManager();
+                        final List<String> projectIdentifiers =
+                                entityManager
+                                        .createQuery(
+                                                "SELECT DISTINCT r.projectIdentifier FROM CBOMReadModel r WHERE r.projectKey IS NULL",
+                                                String.class)
+                                        .getResultList();
+                        for (String projectIdentifier : projectIdentifiers) {
+                            entityManager
+                                    .createQuery(
+                                            "UPDATE CBOMReadModel r SET r.projectKey = :projectKey WHERE r.projectIdentifier = :projectIdentifier AND r.projectKey IS NULL")
+                                    .setParameter("projectKey", ProjectKey.of(projectIdentifier))
+                                    .setParameter("projectIdentifier", projectIdentifier)
+                                    .executeUpdate();
+                        }
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
     }
 
     @Override
     public @Nonnull Optional<CBOMReadModel> findBy(
             @Nonnull GitUrl gitUrl, @Nullable Commit commit, @Nullable Path packageFolder) {
-        return findByRepository(gitUrl.value(), commit, packageFolder);
+        return this.cache.get(
+                new CBOMReadModelCache.RepositoryKey(
+                        gitUrl.value(),
+                        commit == null ? null : commit.hash(),
+                        packageFolder == null ? null : packageFolder.toString()),
+                () -> findByRepository(gitUrl.value(), commit, packageFolder));
     }
 
     @Override
     public @Nonnull Optional<CBOMReadModel> findBy(
             @Nonnull PackageURL purl, @Nullable Commit commit) {
-        return findByProjectIdentifier(purl.canonicalize(), commit);
+        final String projectIdentifier = purl.canonicalize();
+        return this.cache.get(
+                new CBOMReadModelCache.IdentifierKey(
+                        projectIdentifier, commit == null ? null : commit.hash()),
+                () -> findByProjectIdentifier(projectIdentifier, commit));
     }
 
     @Override
     public @Nonnull Optional<CBOMReadModel> findBy(@Nonnull String projectIdentifier) {
-        return findByProjectIdentifier(projectIdentifier, null);
+        return this.cache.get(
+                new CBOMReadModelCache.IdentifierKey(projectIdentifier, null),
+                () -> findByProjectIdentifier(projectIdentifier, null));
+    }
+
+    @Override
+    public @Nonnull Optional<UUID> findIdBy(@Nonnull String projectIdentifier)
+            throws ReadModelQueryFailed {
+        try {
+            return this.transactions.call(
+                    "findIdBy",
+                    () -> {
+                        final EntityManager entityManager = CBOMReadModel.getEntityManager();
+                        final Optional<UUID> match =
+                                entityManager
+                                        .createQuery(
+                                                "SELECT read.id FROM CBOMReadModel read WHERE read.projectIdentifier = :projectIdentifier ORDER BY read.createdAt DESC",
+                                                UUID.class)
+                                        .setParameter("projectIdentifier", projectIdentifier)
+                                        .setMaxResults(1)
+                                        .getResultStream()
+                                        .findFirst();
+                        return match;
+                    });
+        } catch (Exception e) {
+            throw new ReadModelQueryFailed(e);
+        }
+    }
+
+    @Override
+    public @Nonnull Map<String, UUID> findIdsBy(
+            @Nullable Collection<String> projectIdentifiers,
+            @Nullable String projectIdentifierPrefix)
+            throws ReadModelQueryFailed {
+        try {
+            return this.transactions.call(
+                    "findIdsBy",
+                    () -> {
+                        final EntityManager entityManager = CBOMReadModel.getEntityManager();
+                        final List<String> conditions = new ArrayList<>();
+                        if (projectIdentifiers != null) {
+                            conditions.add("r.projectKey IN :projectKeys");
+                        }
+                        if (projectIdentifierPrefix != null) {
+                            conditions.add(
+                                    "r.projectKey LIKE :projectIdentifierPrefix ESCAPE '\\'");
+                        }
+                        // the latest read model of each project, whatever its commit
+                        final TypedQuery<Object[]> query =
+                                entityManager.createQuery(
+                                        "SELECT ranked.projectIdentifier, ranked.id FROM ("
+                                                + "SELECT r.projectIdentifier AS projectIdentifier, r.id AS id, ROW_NUMBER() OVER (PARTITION BY r.projectKey ORDER BY r.createdAt DESC) AS position"
+                                                + " FROM CBOMReadModel r"
+                                                + (conditions.isEmpty()
+                                                        ? ""
+                                                        : " WHERE "
+                                                                + String.join(" AND ", conditions))
+                                                + ") ranked"
+                                                + " WHERE ranked.position = 1"
+                                                + " ORDER BY ranked.projectIdentifier",
+                                        Object[].class);
+                        if (projectIdentifiers != null) {
+                            query.setParameter(
+                                    "projectKeys",
+                                    projectIdentifiers.stream()
+                                            .map(ProjectKey::of)
+                                            .collect(Collectors.toSet()));
+                        }
+                        if (projectIdentifierPrefix != null) {
+                            query.setParameter(
+                                    "projectIdentifierPrefix",
+                                    projectIdentifierPrefix
+                                                    .replace("\\", "\\\\")
+                                                    .replace("%", "\\%")
+                                                    .replace("_", "\\_")
+                                            + "%");
+                        }
+                        final Map<String, UUID> match = new LinkedHashMap<>();
+                        for (final Object[] row : query.getResultList()) {
+                            match.put((String) row[0], (UUID) row[1]);
+                        }
+                        return match;
+                    });
+        } catch (Exception e) {
+            throw new ReadModelQueryFailed(e);
+        }
+    }
+
+    @Override
+    public @Nonnull Collection<CBOMReadModel> readAll(@Nonnull Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return this.transactions.call(
+                    "readAll",
+                    () -> {
+                        final EntityManager entityManager = CBOMReadModel.getEntityManager();
+                        final List<CBOMReadModel> match =
+                                entityManager
+                                        .createQuery(
+                                                "SELECT read FROM CBOMReadModel read WHERE read.id IN :ids",
+                                                CBOMReadModel.class)
+                                        .setParameter("ids", ids)
+                                        .getResultList();
+                        return match;
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return List.of();
+    }
+
+    @Override
+    public @Nonnull Optional<byte[]> findCompressedRepresentation(@Nonnull UUID id) {
+        try {
+            return this.transactions.call(
+                    "findCompressedRepresentation",
+                    () -> {
+                        final EntityManager entityManager = CBOMReadModel.getEntityManager();
+                        final Optional<byte[]> match =
+                                entityManager
+                                        .createQuery(
+                                                "SELECT read.compressedRepresentation FROM CBOMReadModel read WHERE read.id = :id",
+                                                byte[].class)
+                                        .setParameter("id", id)
+                                        .getResultStream()
+                                        .filter(Objects::nonNull)
+                                        .findFirst();
+                        return match;
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return Optional.empty();
     }
 
     @Override
     public @Nonnull Collection<CBOMReadModel> getRecent(int limit) {
-        final EntityManager entityManager = CBOMReadModel.getEntityManager();
-        final ArcContainer container = Arc.container();
-        container.requestContext().activate();
         try {
-            QuarkusTransaction.begin();
-            final List<CBOMReadModel> match =
-                    entityManager
-                            .createQuery(
-                                    "SELECT DISTINCT read FROM CBOMReadModel read"
-                                            + " WHERE read.createdAt = ( SELECT MAX(r.createdAt) FROM CBOMReadModel r WHERE r.repository = read.repository )"
-                                            + " ORDER BY read.createdAt DESC"
-                                            + " LIMIT :limit",
-                                    CBOMReadModel.class)
-                            .setParameter("limit", limit)
-                            .getResultList();
-            QuarkusTransaction.commit();
-            return match;
+            return this.transactions.call(
+                    "getRecent",
+                    () -> {
+                        final EntityManager entityManager = CBOMReadModel.getEntityManager();
+                        final List<CBOMReadModel> match =
+                                entityManager
+                                        .createQuery(
+                                                "SELECT read FROM CBOMReadModel read"
+                                                        + " WHERE read.id IN ("
+                                                        + LATEST_PER_REPOSITORY
+                                                        + ")"
+                                                        + " ORDER BY read.createdAt DESC",
+                                                CBOMReadModel.class)
+                                        .setMaxResults(limit)
+                                        .getResultList();
+                        return match;
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return List.of();
+    }
+
+    @Override
+    public @Nonnull Collection<CBOMSummary> getRecentSummaries(int limit) {
+        try {
+            return this.transactions.call(
+                    "getRecentSummaries",
+                    () -> {
+                        final EntityManager entityManager = CBOMReadModel.getEntityManager();
+                        final List<CBOMSummary> match =
+                                entityManager
+                                        .createQuery(
+                                                "SELECT new com.ibm.infrastructure.database.readmodels.CBOMSummary(read.projectIdentifier, read.repository, read.revision, read.packageFolder, read.commit, read.createdAt, read.statistics)"
+                                                        + " FROM CBOMReadModel read"
+                                                        + " WHERE read.id IN ("
+                                                        + LATEST_PER_REPOSITORY
+                                                        + ")"
+                                                        + " ORDER BY read.createdAt DESC",
+                                                CBOMSummary.class)
+                                        .setMaxResults(limit)
+                                        .getResultList();
+                        return match;
+                    });
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
-            if (QuarkusTransaction.isActive()) {
-                QuarkusTransaction.rollback();
-            }
-        } finally {
-            container.requestContext().terminate();
         }
         return List.of();
     }
 
     @Override
     public @Nonnull Optional<CBOMReadModel> read(@Nonnull UUID uuid) {
-        final EntityManager entityManager = CBOMReadModel.getEntityManager();
-        final ArcContainer container = Arc.container();
-        container.requestContext().activate();
         try {
-            QuarkusTransaction.begin();
-            final Optional<CBOMReadModel> cbomReadModel =
-                    Optional.ofNullable(entityManager.find(CBOMReadModel.class, uuid));
-            QuarkusTransaction.commit();
-            return cbomReadModel;
+            return this.transactions.call(
+                    "read",
+                    () -> {
+                        final EntityManager entityManager = CBOMReadModel.getEntityManager();
+                        final Optional<CBOMReadModel> cbomReadModel =
+                                Optional.ofNullable(entityManager.find(CBOMReadModel.class, uuid));
+                        return cbomReadModel;
+                    });
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
-            if (QuarkusTransaction.isActive()) {
-                QuarkusTransaction.rollback();
-            }
-        } finally {
-            container.requestContext().terminate();
         }
         return Optional.empty();
     }
 
     @Override
     public void save(@Nonnull CBOMReadModel cbomReadModel) {
-        final EntityManager entityManager = CBOMReadModel.getEntityManager();
-        final ArcContainer container = Arc.container();
-        container.requestContext().activate();
         try {
-            QuarkusTransaction.begin();
-            final CBOMReadModel existing =
-                    entityManager.find(CBOMReadModel.class, cbomReadModel.getId());
-            if (existing == null) {
-                entityManager.persist(cbomReadModel);
-            } else {
-                entityManager.merge(cbomReadModel);
+            // a stored read model never changes, so its response body can be computed once
+            cbomReadModel.setRepresentation(this.objectMapper.writeValueAsBytes(cbomReadModel));
+            if (this.databaseConfiguration.isCompactCBOMStorageEnabled()) {
+                cbomReadModel.compact();
             }
-            QuarkusTransaction.commit();
+            this.transactions.run("save", () -> this.upsert(cbomReadModel));
+            this.cache.invalidate(cbomReadModel);
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
-            if (QuarkusTransaction.isActive()) {
-                QuarkusTransaction.rollback();
+        }
+    }
+
+    @Override
+    public boolean saveLatest(@Nonnull CBOMReadModel readModel) throws ReadModelQueryFailed {
+        try {
+            readModel.setRepresentation(this.objectMapper.writeValueAsBytes(readModel));
+            if (this.databaseConfiguration.isCompactCBOMStorageEnabled()) {
+                readModel.compact();
             }
-        } finally {
-            container.requestContext().terminate();
+            final boolean latest =
+                    this.transactions.call(
+                            "saveLatest",
+                            () -> {
+                                final EntityManager entityManager =
+                                        CBOMReadModel.getEntityManager();
+                                final boolean newer =
+                                        entityManager
+                                                        .createQuery(
+                                                                "SELECT COUNT(r) FROM CBOMReadModel r WHERE r.projectIdentifier = :projectIdentifier AND r.id <> :id AND r.createdAt > :createdAt",
+                                                                Long.class)
+                                                        .setParameter(
+                                                                "projectIdentifier",
+                                                                readModel.projectIdentifier)
+                                                        .setParameter("id", readModel.id)
+                                                        .setParameter(
+                                                                "createdAt", readModel.createdAt)
+                                                        .getSingleResult()
+                                                > 0;
+                                if (this.databaseConfiguration.isCBOMHistoryEnabled()) {
+                                    this.upsert(readModel);
+                                    return !newer;
+                                }
+                                if (newer) {
+                                    return false;
+                                }
+                                this.upsert(readModel);
+                                entityManager
+                                        .createQuery(
+                                                "DELETE FROM CBOMReadModel r WHERE r.projectIdentifier = :projectIdentifier AND r.id <> :id AND r.createdAt <= :createdAt")
+                                        .setParameter(
+                                                "projectIdentifier", readModel.projectIdentifier)
+                                        .setParameter("id", readModel.id)
+                                        .setParameter("createdAt", readModel.createdAt)
+                                        .executeUpdate();
+                                return true;
+                            });
+            // cached read models are evicted once readers can see the new one
+            Transactions.afterCompletion(() -> this.cache.invalidate(readModel));
+            return latest;
+        } catch (Exception e) {
+            throw new ReadModelQueryFailed(e);
+        }
+    }
+
+    @Override
+    public @Nonnull Set<UUID> saveLatest(@Nonnull Collection<CBOMReadModel> readModels)
+            throws ReadModelQueryFailed {
+        // the latest given read model of each project identifier
+        final Map<String, CBOMReadModel> latest = new HashMap<>();
+        for (CBOMReadModel readModel : readModels) {
+            latest.merge(
+                    readModel.getProjectIdentifier(),
+                    readModel,
+                    (a, b) -> a.getCreatedAt().after(b.getCreatedAt()) ? a : b);
+        }
+        if (latest.isEmpty()) {
+            return Set.of();
+        }
+        try {
+            for (CBOMReadModel readModel : latest.values()) {
+                readModel.setRepresentation(this.objectMapper.writeValueAsBytes(readModel));
+                if (this.databaseConfiguration.isCompactCBOMStorageEnabled()) {
+                    readModel.compact();
+                }
+            }
+            this.transactions.run(
+                    "saveLatest",
+                    () -> {
+                        final EntityManager entityManager = CBOMReadModel.getEntityManager();
+                        final List<Object[]> existing =
+                                entityManager
+                                        .createQuery(
+                                                "SELECT r.projectIdentifier, r.id, r.createdAt FROM CBOMReadModel r WHERE r.projectIdentifier IN :projectIdentifiers",
+                                                Object[].class)
+                                        .setParameter("projectIdentifiers", latest.keySet())
+                                        .getResultList();
+                        final Set<UUID> replaced = new HashSet<>();
+                        final Set<UUID> stored = new HashSet<>();
+                        for (Object[] row : existing) {
+                            final CBOMReadModel readModel = latest.get((String) row[0]);
+                            if (readModel == null) {
+                                continue;
+                            }
+                            if (readModel.getId().equals(row[1])) {
+                                stored.add(readModel.getId());
+                                continue;
+                            }
+                            if (((Timestamp) row[2]).after(readModel.getCreatedAt())) {
+                                latest.remove(readModel.getProjectIdentifier());
+                            } else {
+                                replaced.add((UUID) row[1]);
+                            }
+                        }
+                        if (!replaced.isEmpty()
+                                && !this.databaseConfiguration.isCBOMHistoryEnabled()) {
+                            entityManager
+                                    .createQuery("DELETE FROM CBOMReadModel r WHERE r.id IN :ids")
+                                    .setParameter("ids", replaced)
+                                    .executeUpdate();
+                        }
+                        // new read models are inserted in JDBC batches
+                        for (CBOMReadModel readModel : latest.values()) {
+                            if (stored.contains(readModel.getId())) {
+                                entityManager.merge(readModel);
+                            } else {
+                                entityManager.persist(readModel);
+                            }
+                        }
+                    });
+            Transactions.afterCompletion(() -> latest.values().forEach(this.cache::invalidate));
+            return latest.values().stream().map(CBOMReadModel::getId).collect(Collectors.toSet());
+        } catch (Exception e) {
+            throw new ReadModelQueryFailed(e);
         }
     }
 
     @Override
     public void delete(@Nonnull UUID uuid) {
-        final EntityManager entityManager = CBOMReadModel.getEntityManager();
-        final ArcContainer container = Arc.container();
-        container.requestContext().activate();
         try {
-            QuarkusTransaction.begin();
             final Optional<CBOMReadModel> cbomReadModel =
-                    Optional.ofNullable(entityManager.find(CBOMReadModel.class, uuid));
-            cbomReadModel.ifPresent(entityManager::remove);
-            QuarkusTransaction.commit();
+                    this.transactions.call(
+                            "delete",
+                            () -> {
+                                final EntityManager entityManager =
+                                        CBOMReadModel.getEntityManager();
+                                final Optional<CBOMReadModel> match =
+                                        Optional.ofNullable(
+                                                entityManager.find(CBOMReadModel.class, uuid));
+                                match.ifPresent(entityManager::remove);
+                                return match;
+                            });
+            cbomReadModel.ifPresentOrElse(
+                    this.cache::invalidate, () -> this.cache.invalidate(uuid));
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
-            if (QuarkusTransaction.isActive()) {
-                QuarkusTransaction.rollback();
-            }
-        } finally {
-            container.requestContext().terminate();
         }
     }
 
+    /**
+     * Inserts the read model, or updates the stored read model with the same id, in a single
+     * statement instead of looking it up first. The statement is generated for the database in use
+     * ({@code INSERT ... ON CONFLICT} or {@code MERGE}), with the JSON columns bound by type.
+     */
+    private void upsert(@Nonnull CBOMReadModel readModel) {
+        this.statelessSession.upsert(readModel);
+        // the stateless session bypasses the second level cache
+        CBOMReadModel.getEntityManager()
+                .getEntityManagerFactory()
+                .getCache()
+                .evict(CBOMReadModel.class, readModel.getId());
+    }
+
     private @Nonnull Optional<CBOMReadModel> findByRepository(
             @Nonnull String repository, @Nullable Commit commit, @Nullable Path packageFolder) {
-        final EntityManager entityManager = CBOMReadModel.getEntityManager();
-        final ArcContainer container = Arc.container();
-        container.requestContext().activate();
         try {
-            QuarkusTransaction.begin();
+            return this.transactions.call(
+                    "findByRepository",
+                    () -> {
+                        final EntityManager entityManager = CBOMReadModel.getEntityManager();
 
-            final StringBuilder queryBuilder = new StringBuilder();
-            final String baseQuery =
-                    "SELECT read FROM CBOMReadModel read WHERE read.repository = :repository";
-            queryBuilder.append(baseQuery);
+                        final StringBuilder queryBuilder = new StringBuilder();
+                        final String baseQuery =
+                                "SELECT read FROM CBOMReadModel read WHERE read.repository = :repository";
+                        queryBuilder.append(baseQuery);
 
-            if (commit != null) {
-                queryBuilder.append(" AND read.commit = :commit");
-            }
-            if (packageFolder != null) {
-                queryBuilder.append(" AND read.packageFolder = :packageFolder");
-            }
-            // set order
-            queryBuilder.append(" ORDER BY createdAt desc");
+                        if (commit != null) {
+                            queryBuilder.append(" AND read.commit = :commit");
+                        }
+                        if (packageFolder != null) {
+                            queryBuilder.append(" AND read.packageFolder = :packageFolder");
+                        }
+                        // set order
+                        queryBuilder.append(" ORDER BY createdAt desc");
 
-            final TypedQuery<CBOMReadModel> query =
-                    entityManager
-                            .createQuery(queryBuilder.toString(), CBOMReadModel.class)
-                            .setParameter("repository", repository);
+                        final TypedQuery<CBOMReadModel> query =
+                                entityManager
+                                        .createQuery(queryBuilder.toString(), CBOMReadModel.class)
+                                        .setParameter("repository", repository);
 
-            if (commit != null) {
-                query.setParameter("commit", commit.hash());
-            }
-            if (packageFolder != null) {
-                query.setParameter("packageFolder", packageFolder.toString());
-            }
-            final Optional<CBOMReadModel> match = query.getResultStream().findFirst();
-            QuarkusTransaction.commit();
-            return match;
+                        if (commit != null) {
+                            query.setParameter("commit", commit.hash());
+                        }
+                        if (packageFolder != null) {
+                            query.setParameter("packageFolder", packageFolder.toString());
+                        }
+                        final Optional<CBOMReadModel> match = query.getResultStream().findFirst();
+                        return match;
+                    });
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
-            if (QuarkusTransaction.isActive()) {
-                QuarkusTransaction.rollback();
-            }
-        } finally {
-            container.requestContext().terminate();
         }
         return Optional.empty();
     }
 
     private @Nonnull Optional<CBOMReadModel> findByProjectIdentifier(
             @Nonnull String projectIdentifier, @Nullable Commit commit) {
-        final EntityManager entityManager = CBOMReadModel.getEntityManager();
-        final ArcContainer container = Arc.container();
-        container.requestContext().activate();
         try {
-            QuarkusTransaction.begin();
-            String qString =
-                    commit != null
-                            ? "SELECT read FROM CBOMReadModel read WHERE read.commit = :commit AND read.projectIdentifier = :projectIdentifier"
-                            : "SELECT read FROM CBOMReadModel read WHERE read.projectIdentifier = :projectIdentifier";
-            qString += " ORDER BY createdAt desc";
-
-            TypedQuery<CBOMReadModel> query =
-                    entityManager
-                            .createQuery(qString, CBOMReadModel.class)
-                            .setParameter("projectIdentifier", projectIdentifier);
-
-            if (commit != null) {
-                query.setParameter("commit", commit.hash());
-            }
-            Optional<CBOMReadModel> match = query.getResultStream().findFirst();
-            QuarkusTransaction.commit();
-            return match;
+            return this.transactions.call(
+                    "findByProjectIdentifier",
+                    () -> {
+                        final EntityManager entityManager = CBOMReadModel.getEntityManager();
+                        String qString =
+                                commit != null
+                                        ? "SELECT read FROM CBOMReadModel read WHERE read.commit = :commit AND read.projectIdentifier = :projectIdentifier"
+                                        : "SELECT read FROM CBOMReadModel read WHERE read.projectIdentifier = :projectIdentifier";
+                        qString += " ORDER BY createdAt desc";
+
+                        TypedQuery<CBOMReadModel> query =
+                                entityManager
+                                        .createQuery(qString, CBOMReadModel.class)
+                                        .setParameter("projectIdentifier", projectIdentifier);
+
+                        if (commit != null) {
+                            query.setParameter("commit", commit.hash());
+                        }
+                        Optional<CBOMReadModel> match = query.getResultStream().findFirst();
+                        return match;
+                    });
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
-            if (QuarkusTransaction.isActive()) {
-                QuarkusTransaction.rollback();
-            }
-        } finally {
-            container.requestContext().terminate();
         }
         return Optional.empty();
     }
@@ -0,0 +1,38 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import jakarta.annotation.Nonnull;
+import java.util.Map;
+
+/**
+ * Statistics of a stored CBOM, computed when the CBOM is projected so that listings do not need to
+ * load the CBOM itself.
+ *
+ * @param numberOfComponents the number of cryptographic components
+ * @param primitives the number of components per cryptographic primitive
+ * @param complianceLevels the number of components per compliance level id of the default policy
+ * @param compliant whether no component has a non-compliant level according to the default policy
+ */
+public record CBOMStatistics(
+        int numberOfComponents,
+        @Nonnull Map<String, Integer> primitives,
+        @Nonnull Map<Integer, Integer> complianceLevels,
+        boolean compliant) {}
@@ -0,0 +1,37 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.sql.Timestamp;
+
+/** Metadata and statistics of a {@link CBOMReadModel} without the CBOM payload. */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CBOMSummary(
+        @Nonnull String projectIdentifier,
+        @JsonProperty("gitUrl") @Nonnull String repository,
+        @JsonProperty("branch") @Nullable String revision,
+        @Nullable String packageFolder,
+        @Nullable String commit,
+        @Nonnull Timestamp createdAt,
+        @Nullable CBOMStatistics statistics) {}
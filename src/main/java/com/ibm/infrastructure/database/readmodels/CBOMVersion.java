@@ -0,0 +1,94 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.sql.Timestamp;
+import java.util.UUID;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * A version in the CBOM history of a project.
+ *
+ * <p>Every n-th version stores the complete CBOM (a checkpoint), all other versions only store the
+ * changes against the previous version. A version is reconstructed from the latest checkpoint
+ * before it and the deltas after the checkpoint.
+ */
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(columnNames = {"projectKey", "version"}),
+        indexes = @Index(columnList = "projectKey, commit"))
+class CBOMVersion extends PanacheEntityBase {
+    /** id of the read model of the version */
+    @Id @Nonnull public UUID id;
+
+    /** key of the project, shared by all of its commits */
+    @Nonnull public String projectKey;
+
+    /** position of the version in the history of the project, starting at 1 */
+    public long version;
+
+    @Nullable public String commit;
+    @Nonnull public Timestamp createdAt;
+
+    /** complete CBOM, set for checkpoints */
+    @Nullable
+    @JdbcTypeCode(SqlTypes.JSON)
+    public JsonNode bom;
+
+    /** changes against the previous version, set for all other versions */
+    @Nullable
+    @JdbcTypeCode(SqlTypes.JSON)
+    public CBOMDelta delta;
+
+    protected CBOMVersion() {}
+
+    CBOMVersion(
+            @Nonnull CBOMReadModel readModel,
+            long version,
+            @Nullable JsonNode bom,
+            @Nullable CBOMDelta delta) {
+        this.id = readModel.getId();
+        this.projectKey = readModel.getProjectKey();
+        this.version = version;
+        this.commit = readModel.getCommit();
+        this.createdAt = readModel.getCreatedAt();
+        this.bom = bom;
+        this.delta = delta;
+    }
+
+    /** Returns the CBOM of this version, given the CBOM of the previous version. */
+    @Nonnull
+    JsonNode apply(@Nullable JsonNode previous) {
+        if (this.bom != null) {
+            return this.bom;
+        }
+        return this.delta == null ? previous : this.delta.applyTo(previous);
+    }
+}
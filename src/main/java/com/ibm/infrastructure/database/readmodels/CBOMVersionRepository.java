@@ -0,0 +1,274 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
+import com.ibm.infrastructure.database.IDatabaseConfiguration;
+import com.ibm.infrastructure.database.Transactions;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Singleton;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Singleton
+public final class CBOMVersionRepository implements ICBOMVersionRepository {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CBOMVersionRepository.class);
+    private final Transactions transactions = new Transactions(CBOMVersionRepository.class);
+
+    @Nonnull private final IDatabaseConfiguration databaseConfiguration;
+
+    public CBOMVersionRepository(@Nonnull IDatabaseConfiguration databaseConfiguration) {
+        this.databaseConfiguration = databaseConfiguration;
+    }
+
+    @Override
+    public void append(@Nonnull CBOMReadModel readModel) {
+        try {
+            this.transactions.run(
+                    "append",
+                    () ->
+                            append(
+                                    CBOMVersion.getEntityManager(),
+                                    readModel,
+                                    this.databaseConfiguration.getCBOMCheckpointInterval()));
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public @Nonnull List<CBOMVersionSummary> findVersions(@Nonnull String projectIdentifier) {
+        final String projectKey = ProjectKey.of(projectIdentifier);
+        try {
+            return this.transactions.call(
+                    "findVersions",
+                    () -> {
+                        final EntityManager entityManager = CBOMVersion.getEntityManager();
+                        final List<CBOMVersionSummary> match =
+                                entityManager
+                                        .createQuery(
+                                                "SELECT new com.ibm.infrastructure.database.readmodels.CBOMVersionSummary(v.version, v.commit, v.createdAt)"
+                                                        + " FROM CBOMVersion v WHERE v.projectKey = :projectKey ORDER BY v.version DESC",
+                                                CBOMVersionSummary.class)
+                                        .setParameter("projectKey", projectKey)
+                                        .getResultList();
+                        return match;
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return List.of();
+    }
+
+    @Override
+    public @Nonnull Optional<Long> findVersion(
+            @Nonnull String projectIdentifier, @Nonnull String commit) {
+        try {
+            return this.transactions.call(
+                    "findVersion",
+                    () ->
+                            findVersion(
+                                    CBOMVersion.getEntityManager(),
+                                    ProjectKey.of(projectIdentifier),
+                                    commit));
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public @Nonnull Optional<JsonNode> readVersion(
+            @Nonnull String projectIdentifier, long version) {
+        try {
+            return this.transactions.call(
+                    "readVersion",
+                    () ->
+                            readVersion(
+                                    CBOMVersion.getEntityManager(),
+                                    ProjectKey.of(projectIdentifier),
+                                    version));
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public @Nonnull List<String> findProjectKeys(@Nullable String after, int limit) {
+        try {
+            return this.transactions.call(
+                    "findProjectKeys",
+                    () -> {
+                        final EntityManager entityManager = CBOMVersion.getEntityManager();
+                        final TypedQuery<String> query =
+                                entityManager.createQuery(
+                                        "SELECT DISTINCT v.projectKey FROM CBOMVersion v"
+                                                + (after == null
+                                                        ? ""
+                                                        : " WHERE v.projectKey > :after")
+                                                + " ORDER BY v.projectKey",
+                                        String.class);
+                        if (after != null) {
+                            query.setParameter("after", after);
+                        }
+                        return query.setMaxResults(limit).getResultList();
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return List.of();
+    }
+
+    @Override
+    public int prune(@Nonnull String projectKey, int maxVersions, @Nullable Timestamp before) {
+        try {
+            return this.transactions.call(
+                    "prune",
+                    () -> {
+                        final EntityManager entityManager = CBOMVersion.getEntityManager();
+                        final List<CBOMVersionSummary> versions =
+                                entityManager
+                                        .createQuery(
+                                                "SELECT new com.ibm.infrastructure.database.readmodels.CBOMVersionSummary(v.version, v.commit, v.createdAt)"
+                                                        + " FROM CBOMVersion v WHERE v.projectKey = :projectKey ORDER BY v.version DESC",
+                                                CBOMVersionSummary.class)
+                                        .setParameter("projectKey", projectKey)
+                                        .getResultList();
+                        // the latest version is always kept
+                        int kept = 1;
+                        while (kept < versions.size()
+                                && (maxVersions <= 0 || kept < maxVersions)
+                                && (before == null
+                                        || !versions.get(kept).createdAt().before(before))) {
+                            kept++;
+                        }
+                        if (kept >= versions.size()) {
+                            return 0;
+                        }
+                        final long oldestKept = versions.get(kept - 1).version();
+                        final List<CBOMVersion> chain =
+                                readChain(entityManager, projectKey, oldestKept);
+                        final CBOMVersion checkpoint = chain.get(chain.size() - 1);
+                        if (checkpoint.bom == null) {
+                            checkpoint.bom = reconstruct(chain);
+                            checkpoint.delta = null;
+                        }
+                        return entityManager
+                                .createQuery(
+                                        "DELETE FROM CBOMVersion v WHERE v.projectKey = :projectKey AND v.version < :version")
+                                .setParameter("projectKey", projectKey)
+                                .setParameter("version", oldestKept)
+                                .executeUpdate();
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return 0;
+    }
+
+    /**
+     * Records the CBOM of the read model as the next version in the history of its project, unless
+     * it is already recorded.
+     */
+    static void append(
+            @Nonnull EntityManager entityManager,
+            @Nonnull CBOMReadModel readModel,
+            int checkpointInterval)
+            throws CBOMSerializationFailed {
+        if (entityManager.find(CBOMVersion.class, readModel.getId()) != null) {
+            return;
+        }
+        final JsonNode bom = readModel.getBom();
+        final List<CBOMVersion> chain =
+                readChain(entityManager, readModel.getProjectKey(), Long.MAX_VALUE);
+        final long version = chain.isEmpty() ? 1 : chain.get(chain.size() - 1).version + 1;
+        // the number of deltas to apply for reading a version is bounded by the checkpoint interval
+        if (chain.isEmpty() || chain.size() >= checkpointInterval) {
+            entityManager.persist(new CBOMVersion(readModel, version, bom, null));
+        } else {
+            entityManager.persist(
+                    new CBOMVersion(
+                            readModel, version, null, CBOMDelta.between(reconstruct(chain), bom)));
+        }
+    }
+
+    /** Returns the latest version of the project for the commit. */
+    @Nonnull
+    static Optional<Long> findVersion(
+            @Nonnull EntityManager entityManager,
+            @Nonnull String projectKey,
+            @Nonnull String commit) {
+        return Optional.ofNullable(
+                entityManager
+                        .createQuery(
+                                "SELECT MAX(v.version) FROM CBOMVersion v WHERE v.projectKey = :projectKey AND v.commit = :commit",
+                                Long.class)
+                        .setParameter("projectKey", projectKey)
+                        .setParameter("commit", commit)
+                        .getSingleResult());
+    }
+
+    /** Reconstructs the CBOM of a version of the project. */
+    @Nonnull
+    static Optional<JsonNode> readVersion(
+            @Nonnull EntityManager entityManager, @Nonnull String projectKey, long version) {
+        final List<CBOMVersion> chain = readChain(entityManager, projectKey, version);
+        if (chain.isEmpty() || chain.get(chain.size() - 1).version != version) {
+            return Optional.empty();
+        }
+        return Optional.of(reconstruct(chain));
+    }
+
+    /**
+     * Returns the versions needed to reconstruct the given version: the latest checkpoint up to the
+     * version and the versions after it, in order.
+     */
+    @Nonnull
+    private static List<CBOMVersion> readChain(
+            @Nonnull EntityManager entityManager, @Nonnull String projectKey, long version) {
+        return entityManager
+                .createQuery(
+                        "SELECT v FROM CBOMVersion v WHERE v.projectKey = :projectKey AND v.version <= :version"
+                                + " AND v.version >= (SELECT COALESCE(MAX(c.version), 0) FROM CBOMVersion c"
+                                + " WHERE c.projectKey = :projectKey AND c.version <= :version AND c.bom IS NOT NULL)"
+                                + " ORDER BY v.version",
+                        CBOMVersion.class)
+                .setParameter("projectKey", projectKey)
+                .setParameter("version", version)
+                .getResultList();
+    }
+
+    @Nonnull
+    private static JsonNode reconstruct(@Nonnull List<CBOMVersion> chain) {
+        JsonNode bom = null;
+        for (final CBOMVersion version : chain) {
+            bom = version.apply(bom);
+        }
+        return bom;
+    }
+}
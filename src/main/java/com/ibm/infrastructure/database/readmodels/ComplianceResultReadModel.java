@@ -0,0 +1,137 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import app.bootstrap.core.cqrs.IReadModel;
+import com.ibm.infrastructure.compliance.ComplianceFinding;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.annotation.Nonnull;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * The result of evaluating a stored CBOM against a policy, computed when the CBOM is projected so
+ * that compliance checks of stored CBOMs do not need to parse and evaluate the CBOM again.
+ */
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(columnNames = {"cbomId", "policyIdentifier"}),
+        indexes = @Index(columnList = "projectKey"))
+public class ComplianceResultReadModel extends PanacheEntityBase implements IReadModel<UUID> {
+    @Id @Nonnull public UUID id;
+
+    /** id of the evaluated {@link CBOMReadModel} */
+    @Nonnull protected UUID cbomId;
+
+    @Nonnull protected String projectIdentifier;
+
+    /** key of the project across its commits, see {@link ProjectKey} */
+    @Nonnull protected String projectKey;
+
+    @Nonnull protected String policyIdentifier;
+
+    /** version of the policy at evaluation time, results of other versions are recomputed */
+    @Nonnull protected String policyVersion;
+
+    @Nonnull protected String complianceServiceName;
+
+    @Nonnull
+    @JdbcTypeCode(SqlTypes.JSON)
+    protected List<ComplianceFinding> findings;
+
+    protected boolean globalComplianceStatus;
+    @Nonnull protected Timestamp createdAt;
+
+    @SuppressWarnings("java:S107")
+    public ComplianceResultReadModel(
+            @Nonnull UUID cbomId,
+            @Nonnull String projectIdentifier,
+            @Nonnull String policyIdentifier,
+            @Nonnull String policyVersion,
+            @Nonnull String complianceServiceName,
+            @Nonnull List<ComplianceFinding> findings,
+            boolean globalComplianceStatus,
+            @Nonnull Timestamp createdAt) {
+        this.id = UUID.randomUUID();
+        this.cbomId = cbomId;
+        this.projectIdentifier = projectIdentifier;
+        this.projectKey = ProjectKey.of(projectIdentifier);
+        this.policyIdentifier = policyIdentifier;
+        this.policyVersion = policyVersion;
+        this.complianceServiceName = complianceServiceName;
+        this.findings = findings;
+        this.globalComplianceStatus = globalComplianceStatus;
+        this.createdAt = createdAt;
+    }
+
+    protected ComplianceResultReadModel() {}
+
+    @Override
+    public @Nonnull UUID getId() {
+        return this.id;
+    }
+
+    @Nonnull
+    public UUID getCbomId() {
+        return cbomId;
+    }
+
+    @Nonnull
+    public String getProjectIdentifier() {
+        return projectIdentifier;
+    }
+
+    @Nonnull
+    public String getPolicyIdentifier() {
+        return policyIdentifier;
+    }
+
+    @Nonnull
+    public String getPolicyVersion() {
+        return policyVersion;
+    }
+
+    @Nonnull
+    public String getComplianceServiceName() {
+        return complianceServiceName;
+    }
+
+    @Nonnull
+    public List<ComplianceFinding> getFindings() {
+        return findings;
+    }
+
+    public boolean isGlobalComplianceStatus() {
+        return globalComplianceStatus;
+    }
+
+    @Nonnull
+    public Timestamp getCreatedAt() {
+        return createdAt;
+    }
+}
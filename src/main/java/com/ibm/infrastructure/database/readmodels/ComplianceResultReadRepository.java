@@ -0,0 +1,217 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import app.bootstrap.core.ddd.IDomainEventBus;
+import app.bootstrap.core.ddd.ReadRepository;
+import com.ibm.infrastructure.database.Transactions;
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Singleton;
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Singleton
+public final class ComplianceResultReadRepository
+        extends ReadRepository<UUID, ComplianceResultReadModel>
+        implements IComplianceResultReadRepository {
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ComplianceResultReadRepository.class);
+    private final Transactions transactions =
+            new Transactions(ComplianceResultReadRepository.class);
+
+    public ComplianceResultReadRepository(@Nonnull IDomainEventBus domainEventBus) {
+        super(domainEventBus);
+    }
+
+    @Override
+    public @Nonnull Optional<ComplianceResultReadModel> findBy(
+            @Nonnull UUID cbomId, @Nonnull String policyIdentifier) {
+        try {
+            return this.transactions.call(
+                    "findBy",
+                    () -> {
+                        final EntityManager entityManager =
+                                ComplianceResultReadModel.getEntityManager();
+                        final Optional<ComplianceResultReadModel> match =
+                                entityManager
+                                        .createQuery(
+                                                "SELECT result FROM ComplianceResultReadModel result WHERE result.cbomId = :cbomId AND result.policyIdentifier = :policyIdentifier",
+                                                ComplianceResultReadModel.class)
+                                        .setParameter("cbomId", cbomId)
+                                        .setParameter("policyIdentifier", policyIdentifier)
+                                        .getResultStream()
+                                        .findFirst();
+                        return match;
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public @Nonnull Collection<ComplianceResultReadModel> findBy(
+            @Nonnull Collection<UUID> cbomIds, @Nonnull String policyIdentifier) {
+        if (cbomIds.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return this.transactions.call(
+                    "findAllBy",
+                    () -> {
+                        final EntityManager entityManager =
+                                ComplianceResultReadModel.getEntityManager();
+                        final List<ComplianceResultReadModel> match =
+                                entityManager
+                                        .createQuery(
+                                                "SELECT result FROM ComplianceResultReadModel result WHERE result.cbomId IN :cbomIds AND result.policyIdentifier = :policyIdentifier",
+                                                ComplianceResultReadModel.class)
+                                        .setParameter("cbomIds", cbomIds)
+                                        .setParameter("policyIdentifier", policyIdentifier)
+                                        .getResultList();
+                        return match;
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return List.of();
+    }
+
+    @Override
+    public void replace(
+            @Nonnull String projectIdentifier,
+            @Nonnull Collection<ComplianceResultReadModel> results) {
+        try {
+            this.transactions.run(
+                    "replace",
+                    () -> {
+                        final EntityManager entityManager =
+                                ComplianceResultReadModel.getEntityManager();
+                        deleteByProjectKeys(
+                                entityManager, Set.of(ProjectKey.of(projectIdentifier)));
+                        results.forEach(entityManager::persist);
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void replaceAll(
+            @Nonnull Map<String, ? extends Collection<ComplianceResultReadModel>> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        try {
+            this.transactions.run(
+                    "replaceAll",
+                    () -> {
+                        final EntityManager entityManager =
+                                ComplianceResultReadModel.getEntityManager();
+                        deleteByProjectKeys(
+                                entityManager,
+                                results.keySet().stream()
+                                        .map(ProjectKey::of)
+                                        .collect(Collectors.toSet()));
+                        results.values()
+                                .forEach(
+                                        projectResults ->
+                                                projectResults.forEach(entityManager::persist));
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public @Nonnull Optional<ComplianceResultReadModel> read(@Nonnull UUID uuid) {
+        try {
+            return this.transactions.call(
+                    "read",
+                    () -> {
+                        final EntityManager entityManager =
+                                ComplianceResultReadModel.getEntityManager();
+                        final Optional<ComplianceResultReadModel> result =
+                                Optional.ofNullable(
+                                        entityManager.find(ComplianceResultReadModel.class, uuid));
+                        return result;
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void save(@Nonnull ComplianceResultReadModel result) {
+        try {
+            this.transactions.run(
+                    "save",
+                    () -> {
+                        final EntityManager entityManager =
+                                ComplianceResultReadModel.getEntityManager();
+                        // there is at most one result per CBOM and policy
+                        entityManager
+                                .createQuery(
+                                        "DELETE FROM ComplianceResultReadModel result WHERE result.cbomId = :cbomId AND result.policyIdentifier = :policyIdentifier")
+                                .setParameter("cbomId", result.getCbomId())
+                                .setParameter("policyIdentifier", result.getPolicyIdentifier())
+                                .executeUpdate();
+                        entityManager.persist(result);
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void delete(@Nonnull UUID uuid) {
+        try {
+            this.transactions.run(
+                    "delete",
+                    () ->
+                            ComplianceResultReadModel.getEntityManager()
+                                    .createQuery(
+                                            "DELETE FROM ComplianceResultReadModel result WHERE result.id = :id")
+                                    .setParameter("id", uuid)
+                                    .executeUpdate());
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
+    /** Deletes the results of all commits of the projects, see {@link ProjectKey}. */
+    private static void deleteByProjectKeys(
+            @Nonnull EntityManager entityManager, @Nonnull Set<String> projectKeys) {
+        entityManager
+                .createQuery(
+                        "DELETE FROM ComplianceResultReadModel result WHERE result.projectKey IN :projectKeys")
+                .setParameter("projectKeys", projectKeys)
+                .executeUpdate();
+    }
+}
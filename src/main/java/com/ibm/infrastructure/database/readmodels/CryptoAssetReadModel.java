@@ -0,0 +1,188 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import app.bootstrap.core.cqrs.IReadModel;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A single cryptographic asset (CBOM component) of a stored CBOM, projected into an indexed table
+ * to answer inventory wide questions without parsing the CBOM documents.
+ */
+@Entity
+@Table(
+        // the equality filters of the asset search are combined with the id, so that a filtered
+        // page is a single range of the index in the order of the keyset pagination
+        indexes = {
+            @Index(columnList = "name, id"),
+            @Index(columnList = "primitive, id"),
+            @Index(columnList = "oid, id"),
+            @Index(columnList = "complianceLevel, id"),
+            @Index(columnList = "repository"),
+            @Index(columnList = "createdAt"),
+            @Index(columnList = "projectKey")
+        })
+public class CryptoAssetReadModel extends PanacheEntityBase implements IReadModel<UUID> {
+    @Id @Nonnull public UUID id;
+
+    /** id of the {@link CBOMReadModel} this asset belongs to */
+    @Nonnull protected UUID cbomId;
+
+    @Nonnull protected String projectIdentifier;
+
+    /** key of the project across its commits, see {@link ProjectKey} */
+    @Nonnull protected String projectKey;
+
+    @Nonnull protected String repository;
+    @Nullable protected String bomRef;
+    @Nonnull protected String name;
+    @Nullable protected String assetType;
+    @Nullable protected String primitive;
+    @Nullable protected String oid;
+    @Nullable protected String parameterSetIdentifier;
+    @Nullable protected String curve;
+
+    /** compliance level of the asset according to the default policy, set at projection time */
+    @Nullable protected Integer complianceLevel;
+
+    /** creation time of the CBOM the asset belongs to */
+    @Nonnull protected Timestamp createdAt;
+
+    @JsonIgnore
+    @OneToMany(mappedBy = "asset", cascade = CascadeType.PERSIST)
+    @Nonnull
+    protected List<AssetOccurrenceReadModel> occurrences = new ArrayList<>();
+
+    @SuppressWarnings("java:S107")
+    public CryptoAssetReadModel(
+            @Nonnull UUID cbomId,
+            @Nonnull String projectIdentifier,
+            @Nonnull String repository,
+            @Nullable String bomRef,
+            @Nonnull String name,
+            @Nullable String assetType,
+            @Nullable String primitive,
+            @Nullable String oid,
+            @Nullable String parameterSetIdentifier,
+            @Nullable String curve,
+            @Nonnull Timestamp createdAt) {
+        this.id = UUID.randomUUID();
+        this.cbomId = cbomId;
+        this.projectIdentifier = projectIdentifier;
+        this.projectKey = ProjectKey.of(projectIdentifier);
+        this.repository = repository;
+        this.bomRef = bomRef;
+        this.name = name;
+        this.assetType = assetType;
+        this.primitive = primitive;
+        this.oid = oid;
+        this.parameterSetIdentifier = parameterSetIdentifier;
+        this.curve = curve;
+        this.createdAt = createdAt;
+    }
+
+    protected CryptoAssetReadModel() {}
+
+    public void addOccurrence(
+            @Nonnull String location, @Nullable Integer line, @Nullable Integer lineOffset) {
+        this.occurrences.add(
+                new AssetOccurrenceReadModel(this, this.projectKey, location, line, lineOffset));
+    }
+
+    @Override
+    public @Nonnull UUID getId() {
+        return this.id;
+    }
+
+    @Nonnull
+    public UUID getCbomId() {
+        return cbomId;
+    }
+
+    @Nonnull
+    public String getProjectIdentifier() {
+        return projectIdentifier;
+    }
+
+    @Nonnull
+    public String getRepository() {
+        return repository;
+    }
+
+    @Nullable public String getBomRef() {
+        return bomRef;
+    }
+
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    @Nullable public String getAssetType() {
+        return assetType;
+    }
+
+    @Nullable public String getPrimitive() {
+        return primitive;
+    }
+
+    @Nullable public String getOid() {
+        return oid;
+    }
+
+    @Nullable public String getParameterSetIdentifier() {
+        return parameterSetIdentifier;
+    }
+
+    @Nullable public String getCurve() {
+        return curve;
+    }
+
+    @Nullable public Integer getComplianceLevel() {
+        return complianceLevel;
+    }
+
+    public void setComplianceLevel(@Nullable Integer complianceLevel) {
+        this.complianceLevel = complianceLevel;
+    }
+
+    @Nonnull
+    public Timestamp getCreatedAt() {
+        return createdAt;
+    }
+
+    @Nonnull
+    public List<AssetOccurrenceReadModel> getOccurrences() {
+        return occurrences;
+    }
+}
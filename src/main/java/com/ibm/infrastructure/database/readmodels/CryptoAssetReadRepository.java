@@ -0,0 +1,354 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import app.bootstrap.core.ddd.IDomainEventBus;
+import app.bootstrap.core.ddd.ReadRepository;
+import com.ibm.infrastructure.database.Transactions;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Singleton;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Singleton
+public final class CryptoAssetReadRepository extends ReadRepository<UUID, CryptoAssetReadModel>
+        implements ICryptoAssetReadRepository {
+    // matches the JDBC statement batch size
+    private static final int FLUSH_INTERVAL = 50;
+    private static final Logger LOGGER = LoggerFactory.getLogger(CryptoAssetReadRepository.class);
+    private final Transactions transactions = new Transactions(CryptoAssetReadRepository.class);
+
+    public CryptoAssetReadRepository(@Nonnull IDomainEventBus domainEventBus) {
+        super(domainEventBus);
+    }
+
+    @Override
+    public void replace(
+            @Nonnull String projectIdentifier, @Nonnull Collection<CryptoAssetReadModel> assets) {
+        try {
+            this.transactions.run(
+                    "replace",
+                    () -> {
+                        final EntityManager entityManager = CryptoAssetReadModel.getEntityManager();
+                        deleteByProjectKeys(
+                                entityManager, Set.of(ProjectKey.of(projectIdentifier)));
+                        assets.forEach(entityManager::persist);
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void replaceAll(
+            @Nonnull Map<String, ? extends Collection<CryptoAssetReadModel>> assets) {
+        if (assets.isEmpty()) {
+            return;
+        }
+        try {
+            this.transactions.run(
+                    "replaceAll",
+                    () -> {
+                        final EntityManager entityManager = CryptoAssetReadModel.getEntityManager();
+                        deleteByProjectKeys(
+                                entityManager,
+                                assets.keySet().stream()
+                                        .map(ProjectKey::of)
+                                        .collect(Collectors.toSet()));
+                        int persisted = 0;
+                        for (Collection<CryptoAssetReadModel> projectAssets : assets.values()) {
+                            for (CryptoAssetReadModel asset : projectAssets) {
+                                entityManager.persist(asset);
+                                // write in batches and keep the persistence context small
+                                if (++persisted % FLUSH_INTERVAL == 0) {
+                                    entityManager.flush();
+                                    entityManager.clear();
+                                }
+                            }
+                        }
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public @Nonnull Collection<ProjectAssetUsage> findProjectsUsing(
+            @Nullable String name, @Nullable String primitive, @Nullable String oid) {
+        try {
+            return this.transactions.call(
+                    "findProjectsUsing",
+                    () -> {
+                        final EntityManager entityManager = CryptoAssetReadModel.getEntityManager();
+                        final StringBuilder queryBuilder = new StringBuilder();
+                        queryBuilder.append(
+                                "SELECT new com.ibm.infrastructure.database.readmodels.ProjectAssetUsage(asset.projectIdentifier, asset.repository, COUNT(asset))"
+                                        + " FROM CryptoAssetReadModel asset");
+                        final List<String> conditions = new ArrayList<>();
+                        if (name != null) {
+                            conditions.add("asset.name = :name");
+                        }
+                        if (primitive != null) {
+                            conditions.add("asset.primitive = :primitive");
+                        }
+                        if (oid != null) {
+                            conditions.add("asset.oid = :oid");
+                        }
+                        if (!conditions.isEmpty()) {
+                            queryBuilder.append(" WHERE ").append(String.join(" AND ", conditions));
+                        }
+                        queryBuilder.append(" GROUP BY asset.projectIdentifier, asset.repository");
+                        queryBuilder.append(" ORDER BY asset.projectIdentifier");
+
+                        final TypedQuery<ProjectAssetUsage> query =
+                                entityManager.createQuery(
+                                        queryBuilder.toString(), ProjectAssetUsage.class);
+                        if (name != null) {
+                            query.setParameter("name", name);
+                        }
+                        if (primitive != null) {
+                            query.setParameter("primitive", primitive);
+                        }
+                        if (oid != null) {
+                            query.setParameter("oid", oid);
+                        }
+                        return query.getResultList();
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return List.of();
+    }
+
+    @Override
+    public @Nonnull Collection<AlgorithmUsage> getAlgorithmUsage() {
+        try {
+            return this.transactions.call(
+                    "getAlgorithmUsage",
+                    () -> {
+                        final EntityManager entityManager = CryptoAssetReadModel.getEntityManager();
+                        final List<AlgorithmUsage> match =
+                                entityManager
+                                        .createQuery(
+                                                "SELECT new com.ibm.infrastructure.database.readmodels.AlgorithmUsage(asset.name, asset.primitive, COUNT(DISTINCT asset.projectKey), COUNT(asset))"
+                                                        + " FROM CryptoAssetReadModel asset"
+                                                        + " GROUP BY asset.name, asset.primitive"
+                                                        + " ORDER BY COUNT(DISTINCT asset.projectKey) DESC, asset.name",
+                                                AlgorithmUsage.class)
+                                        .getResultList();
+                        return match;
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return List.of();
+    }
+
+    @Override
+    public @Nonnull AssetSearchPage search(
+            @Nonnull AssetSearchCriteria criteria, @Nullable UUID after, int limit) {
+        try {
+            final List<AssetSearchResult> match =
+                    this.transactions.call(
+                            "search",
+                            () ->
+                                    searchQuery(
+                                                    CryptoAssetReadModel.getEntityManager(),
+                                                    criteria,
+                                                    after,
+                                                    limit)
+                                            .getResultList());
+            if (match.size() > limit) {
+                final List<AssetSearchResult> page = match.subList(0, limit);
+                return new AssetSearchPage(page, page.get(page.size() - 1).id());
+            }
+            return new AssetSearchPage(match, null);
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return new AssetSearchPage(List.of(), null);
+    }
+
+    @Override
+    public @Nonnull Optional<CryptoAssetReadModel> read(@Nonnull UUID uuid) {
+        try {
+            return this.transactions.call(
+                    "read",
+                    () -> {
+                        final EntityManager entityManager = CryptoAssetReadModel.getEntityManager();
+                        final Optional<CryptoAssetReadModel> asset =
+                                Optional.ofNullable(
+                                        entityManager.find(CryptoAssetReadModel.class, uuid));
+                        return asset;
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void save(@Nonnull CryptoAssetReadModel asset) {
+        try {
+            this.transactions.run(
+                    "save",
+                    () -> {
+                        final EntityManager entityManager = CryptoAssetReadModel.getEntityManager();
+                        final CryptoAssetReadModel existing =
+                                entityManager.find(CryptoAssetReadModel.class, asset.getId());
+                        if (existing == null) {
+                            entityManager.persist(asset);
+                        } else {
+                            entityManager.merge(asset);
+                        }
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void delete(@Nonnull UUID uuid) {
+        try {
+            this.transactions.run(
+                    "delete",
+                    () -> {
+                        final EntityManager entityManager = CryptoAssetReadModel.getEntityManager();
+                        entityManager
+                                .createQuery(
+                                        "DELETE FROM AssetOccurrenceReadModel o WHERE o.asset.id = :id")
+                                .setParameter("id", uuid)
+                                .executeUpdate();
+                        entityManager
+                                .createQuery(
+                                        "DELETE FROM CryptoAssetReadModel asset WHERE asset.id = :id")
+                                .setParameter("id", uuid)
+                                .executeUpdate();
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
+    /** Deletes the assets of all commits of the projects, see {@link ProjectKey}. */
+    private static void deleteByProjectKeys(
+            @Nonnull EntityManager entityManager, @Nonnull Set<String> projectKeys) {
+        // bulk deletes, occurrences first because of the foreign key to the asset
+        entityManager
+                .createQuery(
+                        "DELETE FROM AssetOccurrenceReadModel o WHERE o.projectKey IN :projectKeys")
+                .setParameter("projectKeys", projectKeys)
+                .executeUpdate();
+        entityManager
+                .createQuery(
+                        "DELETE FROM CryptoAssetReadModel asset WHERE asset.projectKey IN :projectKeys")
+                .setParameter("projectKeys", projectKeys)
+                .executeUpdate();
+    }
+
+    @Nonnull
+    private static TypedQuery<AssetSearchResult> searchQuery(
+            @Nonnull EntityManager entityManager,
+            @Nonnull AssetSearchCriteria criteria,
+            @Nullable UUID after,
+            int limit) {
+        final StringBuilder queryBuilder = new StringBuilder();
+        queryBuilder.append(
+                "SELECT new com.ibm.infrastructure.database.readmodels.AssetSearchResult(asset.id, asset.projectIdentifier, asset.repository, asset.name, asset.assetType, asset.primitive, asset.oid, asset.parameterSetIdentifier, asset.curve, asset.complianceLevel, asset.createdAt)"
+                        + " FROM CryptoAssetReadModel asset");
+        final List<String> conditions = new ArrayList<>();
+        if (criteria.name() != null) {
+            conditions.add("asset.name = :name");
+        }
+        if (criteria.primitive() != null) {
+            conditions.add("asset.primitive = :primitive");
+        }
+        if (criteria.oid() != null) {
+            conditions.add("asset.oid = :oid");
+        }
+        if (criteria.complianceLevel() != null) {
+            conditions.add("asset.complianceLevel = :complianceLevel");
+        }
+        if (criteria.repositoryPrefix() != null) {
+            conditions.add("asset.repository LIKE :repositoryPrefix ESCAPE '\\'");
+        }
+        if (criteria.createdAfter() != null) {
+            conditions.add("asset.createdAt >= :createdAfter");
+        }
+        if (criteria.createdBefore() != null) {
+            conditions.add("asset.createdAt < :createdBefore");
+        }
+        if (after != null) {
+            conditions.add("asset.id > :after");
+        }
+        if (!conditions.isEmpty()) {
+            queryBuilder.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        queryBuilder.append(" ORDER BY asset.id");
+
+        final TypedQuery<AssetSearchResult> query =
+                entityManager
+                        .createQuery(queryBuilder.toString(), AssetSearchResult.class)
+                        // fetch one more to know if there is a next page
+                        .setMaxResults(limit + 1);
+        if (criteria.name() != null) {
+            query.setParameter("name", criteria.name());
+        }
+        if (criteria.primitive() != null) {
+            query.setParameter("primitive", criteria.primitive());
+        }
+        if (criteria.oid() != null) {
+            query.setParameter("oid", criteria.oid());
+        }
+        if (criteria.complianceLevel() != null) {
+            query.setParameter("complianceLevel", criteria.complianceLevel());
+        }
+        if (criteria.repositoryPrefix() != null) {
+            query.setParameter(
+                    "repositoryPrefix",
+                    criteria.repositoryPrefix()
+                                    .replace("\\", "\\\\")
+                                    .replace("%", "\\%")
+                                    .replace("_", "\\_")
+                            + "%");
+        }
+        if (criteria.createdAfter() != null) {
+            query.setParameter("createdAfter", criteria.createdAfter());
+        }
+        if (criteria.createdBefore() != null) {
+            query.setParameter("createdBefore", criteria.createdBefore());
+        }
+        if (after != null) {
+            query.setParameter("after", after);
+        }
+        return query;
+    }
+}
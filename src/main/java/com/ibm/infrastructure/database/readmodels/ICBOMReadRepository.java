@@ -23,11 +23,14 @@ import app.bootstrap.core.ddd.IReadRepository;
 import com.github.packageurl.PackageURL;
 import com.ibm.domain.scanning.Commit;
 import com.ibm.domain.scanning.GitUrl;
+import com.ibm.infrastructure.errors.ReadModelQueryFailed;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface ICBOMReadRepository extends IReadRepository<UUID, CBOMReadModel> {
@@ -50,6 +53,87 @@ public interface ICBOMReadRepository extends IReadRepository<UUID, CBOMReadModel
     @Nonnull
     Optional<CBOMReadModel> findBy(@Nonnull String projectIdentifier);
 
+    /**
+     * Returns the id of the latest CBOM of a project without loading the read model.
+     *
+     * @param projectIdentifier the project identifier
+     * @return id of the latest read model of the project.
+     * @throws ReadModelQueryFailed if the read model could not be queried
+     */
+    @Nonnull
+    Optional<UUID> findIdBy(@Nonnull String projectIdentifier) throws ReadModelQueryFailed;
+
+    /**
+     * Returns the ids of the latest CBOM of each matching project in a single query, without
+     * loading the read models. Projects are matched by the given identifiers and, if set, by the
+     * identifier prefix. An identifier matches the project regardless of its commit, see {@link
+     * ProjectKey}.
+     *
+     * @param projectIdentifiers the project identifiers (optional)
+     * @param projectIdentifierPrefix the prefix of the project identifiers (optional)
+     * @return ids of the latest read models by their project identifier, ordered by project
+     *     identifier.
+     * @throws ReadModelQueryFailed if the read models could not be queried
+     */
+    @Nonnull
+    Map<String, UUID> findIdsBy(
+            @Nullable Collection<String> projectIdentifiers,
+            @Nullable String projectIdentifierPrefix)
+            throws ReadModelQueryFailed;
+
+    /**
+     * Returns the read models with the given ids in a single query.
+     *
+     * @param ids the ids of the read models
+     * @return the existing read models.
+     */
+    @Nonnull
+    Collection<CBOMReadModel> readAll(@Nonnull Collection<UUID> ids);
+
+    /**
+     * Returns the gzip compressed JSON representation of a read model, which is precomputed when
+     * the read model is stored.
+     *
+     * @param id the id of the read model
+     * @return the compressed representation, empty for read models stored before it was introduced.
+     */
+    @Nonnull
+    Optional<byte[]> findCompressedRepresentation(@Nonnull UUID id);
+
     @Nonnull
     Collection<CBOMReadModel> getRecent(int limit);
+
+    /**
+     * Returns the same read models as {@link #getRecent(int)} without loading the CBOM payloads.
+     *
+     * @param limit the maximum number of summaries
+     * @return summaries of the latest CBOM of each repository, newest first.
+     */
+    @Nonnull
+    Collection<CBOMSummary> getRecentSummaries(int limit);
+
+    /**
+     * Stores the read model as the latest read model of its project identifier. The read model is
+     * upserted and the read models with the same identifier created before it are removed in the
+     * same transaction, so that readers see either the previous or the new read model, never none.
+     * Previous read models are kept if the CBOM history is enabled. If a newer read model with the
+     * same identifier exists, the read model is not stored, unless the CBOM history is enabled.
+     *
+     * @param readModel the read model to store
+     * @return whether the read model is the latest read model of its project identifier.
+     * @throws ReadModelQueryFailed if the read model could not be stored
+     */
+    boolean saveLatest(@Nonnull CBOMReadModel readModel) throws ReadModelQueryFailed;
+
+    /**
+     * Stores many read models in a single transaction, keeping only the latest read model of each
+     * project identifier: a read model replaces the read models with the same identifier created
+     * before it (unless the CBOM history is enabled), and is skipped if a newer one exists.
+     *
+     * @param readModels the read models to store
+     * @return the ids of the stored read models.
+     * @throws ReadModelQueryFailed if the read models could not be stored
+     */
+    @Nonnull
+    Set<UUID> saveLatest(@Nonnull Collection<CBOMReadModel> readModels) throws ReadModelQueryFailed;
 }
@@ -0,0 +1,90 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+public interface ICBOMVersionRepository {
+
+    /**
+     * Records the CBOM of the read model as the next version in the history of its project. The
+     * history of a project spans all of its commits, see {@link ProjectKey}. Read models which are
+     * already recorded are skipped.
+     *
+     * @param readModel the stored read model
+     */
+    void append(@Nonnull CBOMReadModel readModel);
+
+    /**
+     * Returns the versions of the CBOM of a project without loading the CBOMs.
+     *
+     * @param projectIdentifier the project identifier, with or without a commit
+     * @return the versions, newest first.
+     */
+    @Nonnull
+    List<CBOMVersionSummary> findVersions(@Nonnull String projectIdentifier);
+
+    /**
+     * Returns the latest version of the CBOM of a project for a commit.
+     *
+     * @param projectIdentifier the project identifier, with or without a commit
+     * @param commit the commit hash
+     * @return the version number.
+     */
+    @Nonnull
+    Optional<Long> findVersion(@Nonnull String projectIdentifier, @Nonnull String commit);
+
+    /**
+     * Reconstructs a version of the CBOM of a project.
+     *
+     * @param projectIdentifier the project identifier, with or without a commit
+     * @param version the version number
+     * @return the CBOM of the version.
+     */
+    @Nonnull
+    Optional<JsonNode> readVersion(@Nonnull String projectIdentifier, long version);
+
+    /**
+     * Returns the keys of the projects with a CBOM history, in a stable order.
+     *
+     * @param after the last key of the previous chunk (optional)
+     * @param limit the maximum number of keys
+     * @return the keys following the given key.
+     */
+    @Nonnull
+    List<String> findProjectKeys(@Nullable String after, int limit);
+
+    /**
+     * Removes old versions from the CBOM history of a project. The latest version is always kept,
+     * and the oldest kept version becomes a checkpoint so that the remaining versions can still be
+     * read.
+     *
+     * @param projectKey the project key
+     * @param maxVersions the maximum number of versions to keep, or 0 for no limit
+     * @param before the time before which versions are removed (optional)
+     * @return the number of removed versions.
+     */
+    int prune(@Nonnull String projectKey, int maxVersions, @Nullable Timestamp before);
+}
@@ -0,0 +1,72 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import app.bootstrap.core.ddd.IReadRepository;
+import jakarta.annotation.Nonnull;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface IComplianceResultReadRepository
+        extends IReadRepository<UUID, ComplianceResultReadModel> {
+
+    /**
+     * Returns the stored result of evaluating a CBOM against a policy.
+     *
+     * @param cbomId the id of the evaluated CBOM read model
+     * @param policyIdentifier the identifier of the policy
+     * @return the stored compliance result.
+     */
+    @Nonnull
+    Optional<ComplianceResultReadModel> findBy(
+            @Nonnull UUID cbomId, @Nonnull String policyIdentifier);
+
+    /**
+     * Returns the stored results of evaluating the given CBOMs against a policy in a single query.
+     *
+     * @param cbomIds the ids of the evaluated CBOM read models
+     * @param policyIdentifier the identifier of the policy
+     * @return the stored compliance results.
+     */
+    @Nonnull
+    Collection<ComplianceResultReadModel> findBy(
+            @Nonnull Collection<UUID> cbomIds, @Nonnull String policyIdentifier);
+
+    /**
+     * Replaces all stored compliance results of a project, of any commit, with the given results in
+     * a single transaction.
+     *
+     * @param projectIdentifier the project the results belong to
+     * @param results the new results of the project
+     */
+    void replace(
+            @Nonnull String projectIdentifier,
+            @Nonnull Collection<ComplianceResultReadModel> results);
+
+    /**
+     * Replaces the compliance results of many projects at once, like {@link #replace(String,
+     * Collection)} for each project but in a single transaction with a bulk delete.
+     *
+     * @param results the new results by project identifier
+     */
+    void replaceAll(@Nonnull Map<String, ? extends Collection<ComplianceResultReadModel>> results);
+}
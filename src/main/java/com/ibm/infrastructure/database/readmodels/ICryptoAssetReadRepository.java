@@ -0,0 +1,75 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import app.bootstrap.core.ddd.IReadRepository;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+public interface ICryptoAssetReadRepository extends IReadRepository<UUID, CryptoAssetReadModel> {
+
+    /**
+     * Replaces all assets (and their occurrences) of a project, of any commit, with the given
+     * assets in a single transaction.
+     *
+     * @param projectIdentifier the project the assets belong to
+     * @param assets the new assets of the project
+     */
+    void replace(
+            @Nonnull String projectIdentifier, @Nonnull Collection<CryptoAssetReadModel> assets);
+
+    /**
+     * Replaces the assets of many projects at once, like {@link #replace(String, Collection)} for
+     * each project but in a single transaction with bulk deletes.
+     *
+     * @param assets the new assets by project identifier
+     */
+    void replaceAll(@Nonnull Map<String, ? extends Collection<CryptoAssetReadModel>> assets);
+
+    /**
+     * Returns the projects that contain at least one asset matching all given filters. Filters that
+     * are null are ignored.
+     *
+     * @param name the asset name, e.g. RSA-1024 (optional)
+     * @param primitive the cryptographic primitive, e.g. pke (optional)
+     * @param oid the object identifier of the asset (optional)
+     * @return the matching projects including the number of matching assets.
+     */
+    @Nonnull
+    Collection<ProjectAssetUsage> findProjectsUsing(
+            @Nullable String name, @Nullable String primitive, @Nullable String oid);
+
+    @Nonnull
+    Collection<AlgorithmUsage> getAlgorithmUsage();
+
+    /**
+     * Searches assets across all stored CBOMs using keyset pagination over the asset id.
+     *
+     * @param criteria the filters of the search
+     * @param after the id of the last asset of the previous page (optional)
+     * @param limit the maximum number of assets of the page
+     * @return the page of matching assets.
+     */
+    @Nonnull
+    AssetSearchPage search(@Nonnull AssetSearchCriteria criteria, @Nullable UUID after, int limit);
+}
@@ -0,0 +1,61 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import com.github.packageurl.MalformedPackageURLException;
+import com.github.packageurl.PackageURL;
+import jakarta.annotation.Nonnull;
+import java.util.TreeMap;
+
+/**
+ * Identifies a project across its commits. The identifier of a scanned project is a package URL
+ * whose version is the scanned commit, so the key of a project is its identifier without the
+ * version: the repository, the branch and the package folder.
+ */
+public final class ProjectKey {
+
+    private ProjectKey() {}
+
+    /**
+     * Returns the key of the project with the given identifier. Identifiers which are not package
+     * URLs are their own key.
+     *
+     * @param projectIdentifier the project identifier, with or without a commit
+     * @return the project key.
+     */
+    @Nonnull
+    public static String of(@Nonnull String projectIdentifier) {
+        try {
+            final PackageURL purl = new PackageURL(projectIdentifier);
+            return new PackageURL(
+                            purl.getType(),
+                            purl.getNamespace(),
+                            purl.getName(),
+                            null,
+                            purl.getQualifiers() == null
+                                    ? null
+                                    : new TreeMap<>(purl.getQualifiers()),
+                            purl.getSubpath())
+                    .canonicalize();
+        } catch (MalformedPackageURLException e) {
+            return projectIdentifier;
+        }
+    }
+}
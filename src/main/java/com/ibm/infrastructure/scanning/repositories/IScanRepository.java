@@ -0,0 +1,77 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.scanning.repositories;
+
+import app.bootstrap.core.ddd.IRepository;
+import com.ibm.domain.scanning.ScanAggregate;
+import com.ibm.domain.scanning.ScanId;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.sql.Timestamp;
+import java.util.List;
+
+public interface IScanRepository extends IRepository<ScanId, ScanAggregate> {
+
+    /**
+     * Returns the ids of the stored scans in a stable order, to iterate over all scans in chunks
+     * without keeping them in memory. Only scans with a snapshot are returned, which includes all
+     * finished scans.
+     *
+     * @param after the last id of the previous chunk (optional)
+     * @param limit the maximum number of ids
+     * @return the ids following the given id.
+     */
+    @Nonnull
+    List<ScanId> readIds(@Nullable ScanId after, int limit);
+
+    /**
+     * Removes the events of scans which are contained in the snapshot of the scan. Scans are read
+     * from the snapshot and the events after it, so the removed events are only needed as audit
+     * trail.
+     *
+     * @param before the time before which the removed events were recorded
+     * @param limit the maximum number of scans
+     * @return the number of compacted scans, less than the limit if no further scans are left.
+     */
+    int compactEvents(@Nonnull Timestamp before, int limit);
+
+    /**
+     * Returns the ids of the projected scans whose language scans all ended before the given time,
+     * in a stable order. Scans whose CBOM is neither stored as read model nor in the history of the
+     * project are kept, since they are the only source for projecting it.
+     *
+     * @param before the time before which the scans ended
+     * @param after the last id of the previous chunk (optional)
+     * @param limit the maximum number of ids
+     * @return the ids following the given id.
+     */
+    @Nonnull
+    List<ScanId> readExpiredIds(@Nonnull Timestamp before, @Nullable ScanId after, int limit);
+
+    /**
+     * Removes scan results which ended before the given time and belong to no scan, e.g. results
+     * left behind by earlier versions when scans were updated or deleted.
+     *
+     * @param before the time before which the scan results ended
+     * @param limit the maximum number of scan results
+     * @return the number of removed scan results, less than the limit if no further ones are left.
+     */
+    int deleteOrphanedResults(@Nonnull Timestamp before, int limit);
+}
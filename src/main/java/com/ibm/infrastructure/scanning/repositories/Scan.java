@@ -19,19 +19,10 @@
  */
 package com.ibm.infrastructure.scanning.repositories;
 
-import com.github.packageurl.MalformedPackageURLException;
 import com.github.packageurl.PackageURL;
-import com.ibm.domain.scanning.CBOM;
 import com.ibm.domain.scanning.Commit;
 import com.ibm.domain.scanning.GitUrl;
-import com.ibm.domain.scanning.Language;
-import com.ibm.domain.scanning.LanguageScan;
-import com.ibm.domain.scanning.Revision;
 import com.ibm.domain.scanning.ScanAggregate;
-import com.ibm.domain.scanning.ScanId;
-import com.ibm.domain.scanning.ScanMetadata;
-import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
-import com.ibm.infrastructure.errors.AggregateReconstructionFailed;
 import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
@@ -44,19 +35,18 @@ import jakarta.persistence.OneToMany;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.EnumMap;
-import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.hibernate.annotations.DynamicUpdate;
 
+/**
+ * Snapshot of a scan, containing the state after the events up to {@link #eventVersion}. The events
+ * recorded after the snapshot are stored as {@link ScanEvent}s.
+ */
 @Entity
 @Cacheable
+@DynamicUpdate
 class Scan extends PanacheEntityBase {
-    private static final Logger LOGGER = LoggerFactory.getLogger(Scan.class);
-
     @Id @Nonnull public UUID id;
 
     @Nullable public String gitUrl;
@@ -65,80 +55,36 @@ class Scan extends PanacheEntityBase {
     @Nullable public String packageFolder;
     @Nullable public String commitHash;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    /** version of the last event contained in the snapshot, not set for scans without events */
+    @Nullable public Long eventVersion;
+
+    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @Nonnull
     public Collection<ScanResult> scanResults;
 
     protected Scan() {}
 
-    Scan(@Nonnull ScanAggregate aggregate) {
+    Scan(@Nonnull ScanAggregate aggregate, long eventVersion) {
         this.id = aggregate.getId().getUuid();
+        this.scanResults = new ArrayList<>();
+        this.update(aggregate, eventVersion);
+    }
+
+    /**
+     * Applies the state of the aggregate. The scan results are stored with the events and have to
+     * be added separately, since the result of a language does not change once it is reported.
+     */
+    void update(@Nonnull ScanAggregate aggregate, long eventVersion) {
         this.gitUrl = aggregate.getGitUrl().map(GitUrl::value).orElse(null);
         final PackageURL packageURL = aggregate.getPurl().orElse(null);
         this.purl = Optional.ofNullable(packageURL).map(PackageURL::canonicalize).orElse(null);
         this.revision = aggregate.getRevision().value();
         this.packageFolder = aggregate.getPackageFolder().map(Path::toString).orElse(null);
         this.commitHash = aggregate.getCommit().map(Commit::hash).orElse(null);
-
-        final Optional<List<LanguageScan>> languageScans = aggregate.getLanguageScans();
-        if (languageScans.isEmpty()) {
-            this.scanResults = new ArrayList<>();
-            return;
-        }
-
-        final List<ScanResult> scanResultList = new ArrayList<>();
-        for (LanguageScan languageScan : languageScans.get()) {
-            try {
-                final ScanResult scanResult =
-                        new ScanResult(
-                                languageScan.language(),
-                                languageScan.scanMetadata().startTime(),
-                                languageScan.scanMetadata().endTime(),
-                                languageScan.scanMetadata().numberOfScannedLines(),
-                                languageScan.scanMetadata().numberOfScannedFiles(),
-                                languageScan.icbom().toJSON());
-                scanResultList.add(scanResult);
-            } catch (CBOMSerializationFailed e) {
-                LOGGER.error(e.getMessage());
-            }
-        }
-        this.scanResults = scanResultList;
+        this.eventVersion = eventVersion;
     }
 
-    @Nonnull
-    protected ScanAggregate asAggregate() throws AggregateReconstructionFailed {
-        try {
-            final Map<Language, LanguageScan> languageScans = new EnumMap<>(Language.class);
-            for (ScanResult scanResult : scanResults) {
-                final LanguageScan languageScan =
-                        new LanguageScan(
-                                scanResult.language,
-                                new ScanMetadata(
-                                        scanResult.startTime.getTime(),
-                                        scanResult.endTime.getTime(),
-                                        scanResult.numberOfScannedLines,
-                                        scanResult.numberOfScannedFiles),
-                                CBOM.formJSON(scanResult.cbom));
-                languageScans.put(languageScan.language(), languageScan);
-            }
-
-            Optional<PackageURL> optionalPackageURL = Optional.empty();
-            if (this.purl != null) {
-                optionalPackageURL = Optional.of(new PackageURL(purl));
-            }
-
-            return ScanAggregate.reconstruct(
-                    new ScanId(this.id),
-                    Optional.ofNullable(this.gitUrl).map(GitUrl::new).orElse(null),
-                    optionalPackageURL.orElse(null),
-                    Optional.ofNullable(this.revision)
-                            .map(Revision::new)
-                            .orElse(ScanAggregate.REVISION_MAIN),
-                    Optional.ofNullable(this.packageFolder).map(Path::of).orElse(null),
-                    Optional.ofNullable(this.commitHash).map(Commit::new).orElse(null),
-                    languageScans);
-        } catch (MalformedPackageURLException | CBOMSerializationFailed e) {
-            throw new AggregateReconstructionFailed(e);
-        }
+    long version() {
+        return this.eventVersion == null ? 0 : this.eventVersion;
     }
 }
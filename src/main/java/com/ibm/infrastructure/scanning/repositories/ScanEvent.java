@@ -0,0 +1,149 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.scanning.repositories;
+
+import app.bootstrap.core.ddd.IDomainEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ibm.domain.scanning.Commit;
+import com.ibm.domain.scanning.GitUrl;
+import com.ibm.domain.scanning.ScanAggregate;
+import com.ibm.domain.scanning.events.CommitHashIdentifiedEvent;
+import com.ibm.domain.scanning.events.GitUrlResolvedEvent;
+import com.ibm.domain.scanning.events.PackageFolderResolvedEvent;
+import com.ibm.domain.scanning.events.PurlScanRequestedEvent;
+import com.ibm.domain.scanning.events.RevisionIdentifiedEvent;
+import com.ibm.domain.scanning.events.ScanRequestedEvent;
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.UUID;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Append-only record of a domain event of a {@link ScanAggregate}.
+ *
+ * <p>The domain events only reference the scan, so the payload holds the part of the aggregate
+ * state that was set with the event. Since every property of the aggregate can only be set once,
+ * the state of the aggregate at save time is the state of the event. Credentials of scan requests
+ * are never stored. The CBOM of a language scan is stored as a {@link ScanResult}, which is
+ * referenced by id.
+ */
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(columnNames = {"scanId", "version"}),
+        indexes = @Index(columnList = "scanResultId"))
+class ScanEvent extends PanacheEntity {
+    static final String GIT_URL = "gitUrl";
+    static final String PURL = "purl";
+    static final String REVISION = "revision";
+    static final String PACKAGE_FOLDER = "packageFolder";
+    static final String COMMIT_HASH = "commitHash";
+    static final String LANGUAGE = "language";
+    static final String START_TIME = "startTime";
+    static final String END_TIME = "endTime";
+    static final String NUMBER_OF_SCANNED_LINES = "numberOfScannedLines";
+    static final String NUMBER_OF_SCANNED_FILES = "numberOfScannedFiles";
+
+    @Nonnull public UUID scanId;
+
+    /** position of the event in the history of the scan, starting at 1 */
+    public long version;
+
+    /** simple class name of the domain event */
+    @Nonnull public String type;
+
+    @Nonnull
+    @JdbcTypeCode(SqlTypes.JSON)
+    public JsonNode payload;
+
+    /** id of the scan result stored with the event, if any */
+    @Nullable public Long scanResultId;
+
+    @Nonnull public Timestamp recordedAt;
+
+    protected ScanEvent() {}
+
+    ScanEvent(
+            @Nonnull UUID scanId,
+            long version,
+            @Nonnull String type,
+            @Nonnull JsonNode payload,
+            @Nullable Long scanResultId) {
+        this.scanId = scanId;
+        this.version = version;
+        this.type = type;
+        this.payload = payload;
+        this.scanResultId = scanResultId;
+        this.recordedAt = new Timestamp(System.currentTimeMillis());
+    }
+
+    /**
+     * Creates the record of an event of the aggregate. The scan result has to be given for {@link
+     * com.ibm.domain.scanning.events.LanguageScanDoneEvent}s and must already have an id.
+     */
+    @Nonnull
+    static ScanEvent of(
+            @Nonnull UUID scanId,
+            long version,
+            @Nonnull IDomainEvent event,
+            @Nonnull ScanAggregate aggregate,
+            @Nullable ScanResult scanResult) {
+        final ObjectNode payload = JsonNodeFactory.instance.objectNode();
+        if (event instanceof ScanRequestedEvent || event instanceof PurlScanRequestedEvent) {
+            aggregate.getGitUrl().ifPresent(gitUrl -> payload.put(GIT_URL, gitUrl.value()));
+            aggregate.getPurl().ifPresent(purl -> payload.put(PURL, purl.canonicalize()));
+            payload.put(REVISION, aggregate.getRevision().value());
+            aggregate
+                    .getPackageFolder()
+                    .ifPresent(folder -> payload.put(PACKAGE_FOLDER, folder.toString()));
+        } else if (event instanceof GitUrlResolvedEvent) {
+            payload.put(GIT_URL, aggregate.getGitUrl().map(GitUrl::value).orElse(null));
+        } else if (event instanceof RevisionIdentifiedEvent) {
+            payload.put(REVISION, aggregate.getRevision().value());
+        } else if (event instanceof CommitHashIdentifiedEvent) {
+            payload.put(COMMIT_HASH, aggregate.getCommit().map(Commit::hash).orElse(null));
+        } else if (event instanceof PackageFolderResolvedEvent) {
+            payload.put(
+                    PACKAGE_FOLDER, aggregate.getPackageFolder().map(Path::toString).orElse(null));
+        }
+        if (scanResult != null) {
+            payload.put(LANGUAGE, scanResult.language.name());
+            payload.put(START_TIME, scanResult.startTime.getTime());
+            payload.put(END_TIME, scanResult.endTime.getTime());
+            payload.put(NUMBER_OF_SCANNED_LINES, scanResult.numberOfScannedLines);
+            payload.put(NUMBER_OF_SCANNED_FILES, scanResult.numberOfScannedFiles);
+        }
+        return new ScanEvent(
+                scanId,
+                version,
+                event.getClass().getSimpleName(),
+                payload,
+                scanResult == null ? null : scanResult.id);
+    }
+}
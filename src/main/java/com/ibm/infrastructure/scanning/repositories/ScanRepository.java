@@ -19,107 +19,421 @@
  */
 package com.ibm.infrastructure.scanning.repositories;
 
+import app.bootstrap.core.ddd.IDomainEvent;
 import app.bootstrap.core.ddd.IDomainEventBus;
 import app.bootstrap.core.ddd.Repository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ibm.domain.scanning.CBOM;
+import com.ibm.domain.scanning.Language;
+import com.ibm.domain.scanning.LanguageScan;
 import com.ibm.domain.scanning.ScanAggregate;
 import com.ibm.domain.scanning.ScanId;
+import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
+import com.ibm.domain.scanning.events.LanguageScanDoneEvent;
+import com.ibm.domain.scanning.events.ScanFinishedEvent;
+import com.ibm.infrastructure.database.CBOMStorageCodec;
+import com.ibm.infrastructure.database.IDatabaseConfiguration;
+import com.ibm.infrastructure.database.Transactions;
+import com.ibm.infrastructure.errors.AggregatePersistenceFailed;
 import com.ibm.infrastructure.errors.EntityNotFoundById;
-import io.quarkus.arc.Arc;
-import io.quarkus.arc.ArcContainer;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
-import io.quarkus.narayana.jta.QuarkusTransaction;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Singleton;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @Singleton
 public final class ScanRepository extends Repository<ScanId, ScanAggregate>
-        implements PanacheRepository<Scan> {
+        implements IScanRepository, PanacheRepository<Scan> {
     private static final Logger LOGGER = LoggerFactory.getLogger(ScanRepository.class);
+    private final Transactions transactions = new Transactions(ScanRepository.class);
 
-    public ScanRepository(@Nonnull IDomainEventBus domainEventBus) {
+    @Nonnull private final IDatabaseConfiguration databaseConfiguration;
+
+    public ScanRepository(
+            @Nonnull IDomainEventBus domainEventBus,
+            @Nonnull IDatabaseConfiguration databaseConfiguration) {
         super(domainEventBus);
+        this.databaseConfiguration = databaseConfiguration;
     }
 
+    /**
+     * Rehydrates the aggregate from its latest snapshot and the events recorded after it. Scans
+     * stored before the event store was introduced only have a snapshot.
+     */
     @Nonnull
     @Override
     public Optional<ScanAggregate> read(@Nonnull ScanId id) {
-        final EntityManager entityManager = Scan.getEntityManager();
-        final ArcContainer container = Arc.container();
-        container.requestContext().activate();
         try {
-            QuarkusTransaction.begin();
-            final Optional<Scan> scan =
-                    Optional.ofNullable(entityManager.find(Scan.class, id.getUuid()));
-            QuarkusTransaction.commit();
-            if (scan.isEmpty()) {
-                throw new EntityNotFoundById(id);
-            }
-            final ScanAggregate scanAggregate = scan.get().asAggregate();
-            return Optional.of(scanAggregate);
+            return this.transactions.call(
+                    "read",
+                    () -> {
+                        final EntityManager entityManager = Scan.getEntityManager();
+                        final Scan snapshot = entityManager.find(Scan.class, id.getUuid());
+                        final List<ScanEvent> tail =
+                                this.readEvents(
+                                        entityManager,
+                                        id.getUuid(),
+                                        snapshot == null ? 0 : snapshot.version());
+                        if (snapshot == null && tail.isEmpty()) {
+                            throw new EntityNotFoundById(id);
+                        }
+                        final ScanState state =
+                                snapshot == null
+                                        ? ScanState.empty(id.getUuid())
+                                        : ScanState.of(snapshot);
+                        tail.forEach(state::apply);
+                        final ScanAggregate scanAggregate =
+                                state.asAggregate(
+                                        scanResultId ->
+                                                () -> CBOM.formJSON(this.readCbom(scanResultId)));
+                        return Optional.of(scanAggregate);
+                    });
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
-            if (QuarkusTransaction.isActive()) {
-                QuarkusTransaction.rollback();
-            }
-        } finally {
-            container.requestContext().terminate();
         }
         return Optional.empty();
     }
 
+    /**
+     * Appends the uncommitted events of the aggregate to the event store. The scan results of new
+     * language scans are stored with their events. A snapshot is written once the configured number
+     * of events was appended since the last snapshot, and when the scan is finished, so that
+     * finished scans are read from a single row.
+     *
+     * <p>Concurrent saves of the same scan fail on the unique event version instead of overwriting
+     * each other.
+     *
+     * @throws AggregatePersistenceFailed if the events could not be stored. The aggregate hands out
+     *     its uncommitted events only by committing them, so it no longer matches the stored scan
+     *     and has to be read again.
+     */
     @Override
     public void save(@Nonnull ScanAggregate entity) {
-        final EntityManager entityManager = Scan.getEntityManager();
-        final ArcContainer container = Arc.container();
-        container.requestContext().activate();
+        final List<IDomainEvent> domainEvents = new ArrayList<>();
+        if (entity.hasUncommitedChanges()) {
+            entity.commit(domainEvents::addAll);
+        }
         try {
-            QuarkusTransaction.begin();
-            final Optional<Scan> existing =
-                    Optional.ofNullable(entityManager.find(Scan.class, entity.getId().getUuid()));
-            final Scan scan = new Scan(entity);
-            if (existing.isEmpty()) {
-                entityManager.persist(scan);
-            } else {
-                entityManager.merge(scan);
-            }
-            QuarkusTransaction.commit();
-            // emit domain events
-            if (entity.hasUncommitedChanges()) {
-                // commit uncommited events from the aggregate here
-                entity.commit(domainEvents -> domainEvents.forEach(domainEventBus::publish));
+            // the events are appended in a transaction of their own, so that they are published
+            // only once they are stored
+            this.transactions.runRequiringNew(
+                    "save",
+                    () -> {
+                        final EntityManager entityManager = Scan.getEntityManager();
+                        final UUID scanId = entity.getId().getUuid();
+                        final Scan snapshot = entityManager.find(Scan.class, scanId);
+                        final long snapshotVersion = snapshot == null ? 0 : snapshot.version();
+                        long version =
+                                Math.max(snapshotVersion, this.readVersion(entityManager, scanId));
+                        boolean finished = false;
+                        for (IDomainEvent domainEvent : domainEvents) {
+                            ScanResult scanResult = null;
+                            if (domainEvent
+                                    instanceof LanguageScanDoneEvent languageScanDoneEvent) {
+                                scanResult =
+                                        this.persistScanResult(
+                                                entityManager,
+                                                entity,
+                                                languageScanDoneEvent.getLanguage());
+                            }
+                            finished |= domainEvent instanceof ScanFinishedEvent;
+                            version++;
+                            entityManager.persist(
+                                    ScanEvent.of(scanId, version, domainEvent, entity, scanResult));
+                        }
+                        if (finished
+                                || version - snapshotVersion
+                                        >= this.databaseConfiguration.getSnapshotInterval()) {
+                            this.writeSnapshot(entityManager, entity, snapshot, version);
+                        }
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            throw new AggregatePersistenceFailed(e);
+        }
+        // emit domain events
+        domainEvents.forEach(domainEventBus::publish);
+    }
+
+    @Nonnull
+    private ScanResult persistScanResult(
+            @Nonnull EntityManager entityManager,
+            @Nonnull ScanAggregate aggregate,
+            @Nonnull Language language)
+            throws CBOMSerializationFailed {
+        final LanguageScan languageScan =
+                aggregate.getLanguageScan(language).orElseThrow(CBOMSerializationFailed::new);
+        final ScanResult scanResult =
+                new ScanResult(
+                        languageScan.language(),
+                        languageScan.scanMetadata().startTime(),
+                        languageScan.scanMetadata().endTime(),
+                        languageScan.scanMetadata().numberOfScannedLines(),
+                        languageScan.scanMetadata().numberOfScannedFiles(),
+                        languageScan.icbom().toJSON(),
+                        this.databaseConfiguration.isCompactCBOMStorageEnabled());
+        entityManager.persist(scanResult);
+        return scanResult;
+    }
+
+    private void writeSnapshot(
+            @Nonnull EntityManager entityManager,
+            @Nonnull ScanAggregate aggregate,
+            @Nullable Scan snapshot,
+            long version) {
+        final Scan updated;
+        final List<ScanEvent> tail;
+        if (snapshot == null) {
+            updated = new Scan(aggregate, version);
+            tail = this.readEvents(entityManager, updated.id, 0);
+            entityManager.persist(updated);
+        } else {
+            tail = this.readEvents(entityManager, snapshot.id, snapshot.version());
+            updated = snapshot;
+            updated.update(aggregate, version);
+        }
+        // the scan results stored since the last snapshot
+        for (ScanEvent event : tail) {
+            final Long scanResultId = event.scanResultId;
+            if (scanResultId != null) {
+                updated.scanResults.add(entityManager.getReference(ScanResult.class, scanResultId));
             }
+        }
+    }
+
+    private long readVersion(@Nonnull EntityManager entityManager, @Nonnull UUID scanId) {
+        return entityManager
+                .createQuery(
+                        "SELECT COALESCE(MAX(e.version), 0) FROM ScanEvent e WHERE e.scanId = :scanId",
+                        Long.class)
+                .setParameter("scanId", scanId)
+                .getSingleResult();
+    }
+
+    @Nonnull
+    private List<ScanEvent> readEvents(
+            @Nonnull EntityManager entityManager, @Nonnull UUID scanId, long afterVersion) {
+        return entityManager
+                .createQuery(
+                        "SELECT e FROM ScanEvent e WHERE e.scanId = :scanId AND e.version > :version"
+                                + " ORDER BY e.version",
+                        ScanEvent.class)
+                .setParameter("scanId", scanId)
+                .setParameter("version", afterVersion)
+                .getResultList();
+    }
+
+    @Nonnull
+    @Override
+    public List<ScanId> readIds(@Nullable ScanId after, int limit) {
+        try {
+            return this.transactions.call(
+                    "readIds",
+                    () -> {
+                        final EntityManager entityManager = Scan.getEntityManager();
+                        // keyset pagination, the position of a chunk does not depend on the number
+                        // of scans
+                        final TypedQuery<UUID> query =
+                                entityManager.createQuery(
+                                        after == null
+                                                ? "SELECT s.id FROM Scan s ORDER BY s.id"
+                                                : "SELECT s.id FROM Scan s WHERE s.id > :after ORDER BY s.id",
+                                        UUID.class);
+                        if (after != null) {
+                            query.setParameter("after", after.getUuid());
+                        }
+                        final List<ScanId> ids =
+                                query.setMaxResults(limit).getResultList().stream()
+                                        .map(ScanId::new)
+                                        .toList();
+                        return ids;
+                    });
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
-            if (QuarkusTransaction.isActive()) {
-                QuarkusTransaction.rollback();
+        }
+        return List.of();
+    }
+
+    @Override
+    public int compactEvents(@Nonnull Timestamp before, int limit) {
+        try {
+            return this.transactions.call(
+                    "compactEvents",
+                    () -> {
+                        final EntityManager entityManager = Scan.getEntityManager();
+                        final List<UUID> scanIds =
+                                entityManager
+                                        .createQuery(
+                                                "SELECT DISTINCT e.scanId FROM ScanEvent e WHERE e.recordedAt < :before"
+                                                        + " AND e.version <= (SELECT s.eventVersion FROM Scan s WHERE s.id = e.scanId)",
+                                                UUID.class)
+                                        .setParameter("before", before)
+                                        .setMaxResults(limit)
+                                        .getResultList();
+                        if (!scanIds.isEmpty()) {
+                            entityManager
+                                    .createQuery(
+                                            "DELETE FROM ScanEvent e WHERE e.scanId IN :scanIds AND e.recordedAt < :before"
+                                                    + " AND e.version <= (SELECT s.eventVersion FROM Scan s WHERE s.id = e.scanId)")
+                                    .setParameter("scanIds", scanIds)
+                                    .setParameter("before", before)
+                                    .executeUpdate();
+                        }
+                        return scanIds.size();
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return 0;
+    }
+
+    @Nonnull
+    @Override
+    public List<ScanId> readExpiredIds(
+            @Nonnull Timestamp before, @Nullable ScanId after, int limit) {
+        try {
+            return this.transactions.call(
+                    "readExpiredIds",
+                    () -> {
+                        final EntityManager entityManager = Scan.getEntityManager();
+                        final TypedQuery<UUID> query =
+                                entityManager.createQuery(
+                                        // only projected scans, since the scan is the source for
+                                        // rebuilding its read models; the CBOMs of replaced scans
+                                        // are kept in the history
+                                        "SELECT s.id FROM Scan s JOIN s.scanResults r"
+                                                + " WHERE (EXISTS (SELECT 1 FROM CBOMReadModel m WHERE m.id = s.id)"
+                                                + " OR EXISTS (SELECT 1 FROM CBOMVersion v WHERE v.id = s.id))"
+                                                + (after == null ? "" : " AND s.id > :after")
+                                                + " GROUP BY s.id HAVING MAX(r.endTime) < :before ORDER BY s.id",
+                                        UUID.class);
+                        if (after != null) {
+                            query.setParameter("after", after.getUuid());
+                        }
+                        return query
+                                .setParameter("before", before)
+                                .setMaxResults(limit)
+                                .getResultList()
+                                .stream()
+                                .map(ScanId::new)
+                                .toList();
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return List.of();
+    }
+
+    @Override
+    public int deleteOrphanedResults(@Nonnull Timestamp before, int limit) {
+        try {
+            return this.transactions.call(
+                    "deleteOrphanedResults",
+                    () -> {
+                        final EntityManager entityManager = Scan.getEntityManager();
+                        // results of scans without a snapshot yet are only referenced by events
+                        final List<Long> orphaned =
+                                entityManager
+                                        .createQuery(
+                                                "SELECT r.id FROM ScanResult r WHERE r.endTime < :before"
+                                                        + " AND r.id NOT IN (SELECT sr.id FROM Scan s JOIN s.scanResults sr)"
+                                                        + " AND NOT EXISTS (SELECT 1 FROM ScanEvent e WHERE e.scanResultId = r.id)"
+                                                        + " ORDER BY r.id",
+                                                Long.class)
+                                        .setParameter("before", before)
+                                        .setMaxResults(limit)
+                                        .getResultList();
+                        if (!orphaned.isEmpty()) {
+                            entityManager
+                                    .createQuery("DELETE FROM ScanResult r WHERE r.id IN :ids")
+                                    .setParameter("ids", orphaned)
+                                    .executeUpdate();
+                        }
+                        return orphaned.size();
+                    });
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+        return 0;
+    }
+
+    /**
+     * Reads the CBOM of a scan result, for aggregates which load their CBOMs on demand. Only the
+     * CBOM columns are selected, instead of loading the scan result and fetching its lazy CBOM in a
+     * second round trip.
+     */
+    @Nonnull
+    JsonNode readCbom(long scanResultId) throws CBOMSerializationFailed {
+        try {
+            final Optional<JsonNode> cbom =
+                    this.transactions.call(
+                            "readCbom",
+                            () -> {
+                                final List<Object[]> rows =
+                                        ScanResult.getEntityManager()
+                                                .createQuery(
+                                                        "SELECT r.cbom, r.compactCbom FROM ScanResult r WHERE r.id = :id",
+                                                        Object[].class)
+                                                .setParameter("id", scanResultId)
+                                                .getResultList();
+                                if (rows.isEmpty()) {
+                                    return Optional.empty();
+                                }
+                                final Object[] row = rows.get(0);
+                                if (row[1] instanceof byte[] compactCbom) {
+                                    return Optional.of(CBOMStorageCodec.decode(compactCbom));
+                                }
+                                return Optional.ofNullable((JsonNode) row[0]);
+                            });
+            if (cbom.isPresent()) {
+                return cbom.get();
             }
-        } finally {
-            container.requestContext().terminate();
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
         }
+        throw new CBOMSerializationFailed();
     }
 
     @Override
     public void delete(@Nonnull ScanId id) {
-        final EntityManager entityManager = Scan.getEntityManager();
-        final ArcContainer container = Arc.container();
-        container.requestContext().activate();
         try {
-            QuarkusTransaction.begin();
-            final Optional<Scan> scan =
-                    Optional.ofNullable(entityManager.find(Scan.class, id.getUuid()));
-            scan.ifPresent(entityManager::remove);
-            QuarkusTransaction.commit();
+            this.transactions.run(
+                    "delete",
+                    () -> {
+                        final EntityManager entityManager = Scan.getEntityManager();
+                        final Scan snapshot = entityManager.find(Scan.class, id.getUuid());
+                        final Set<Long> scanResultIds = new HashSet<>();
+                        for (ScanEvent event : this.readEvents(entityManager, id.getUuid(), 0)) {
+                            Optional.ofNullable(event.scanResultId).ifPresent(scanResultIds::add);
+                        }
+                        if (snapshot != null) {
+                            // removes the scan results of the snapshot as well
+                            snapshot.scanResults.forEach(
+                                    scanResult -> scanResultIds.remove(scanResult.id));
+                            entityManager.remove(snapshot);
+                        }
+                        for (Long scanResultId : scanResultIds) {
+                            entityManager.remove(
+                                    entityManager.getReference(ScanResult.class, scanResultId));
+                        }
+                        entityManager
+                                .createQuery("DELETE FROM ScanEvent e WHERE e.scanId = :scanId")
+                                .setParameter("scanId", id.getUuid())
+                                .executeUpdate();
+                    });
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
-            if (QuarkusTransaction.isActive()) {
-                QuarkusTransaction.rollback();
-            }
-        } finally {
-            container.requestContext().terminate();
         }
     }
 }
@@ -21,10 +21,15 @@ package com.ibm.infrastructure.scanning.repositories;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.ibm.domain.scanning.Language;
+import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
+import com.ibm.infrastructure.database.CBOMStorageCodec;
 import io.quarkus.hibernate.orm.panache.PanacheEntity;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.Basic;
 import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import java.sql.Timestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
@@ -40,22 +45,47 @@ class ScanResult extends PanacheEntity {
 
     protected ScanResult() {}
 
-    @Nonnull
+    // the CBOMs are only loaded when they are accessed, not with the scan metadata
+    @Nullable
+    @Basic(fetch = FetchType.LAZY)
     @JdbcTypeCode(SqlTypes.JSON)
     public JsonNode cbom;
 
+    /** CBOM in the compact storage format, set instead of {@link #cbom} if enabled */
+    @Nullable
+    @Basic(fetch = FetchType.LAZY)
+    @JdbcTypeCode(SqlTypes.LONG32VARBINARY)
+    public byte[] compactCbom;
+
     public ScanResult(
             @Nonnull Language language,
             long startTime,
             long endTime,
             int numberOfScannedLines,
             int numberOfScannedFiles,
-            @Nonnull JsonNode cbom) {
+            @Nonnull JsonNode cbom,
+            boolean compactStorage)
+            throws CBOMSerializationFailed {
         this.language = language;
         this.startTime = new Timestamp(startTime);
         this.endTime = new Timestamp(endTime);
         this.numberOfScannedLines = numberOfScannedLines;
         this.numberOfScannedFiles = numberOfScannedFiles;
-        this.cbom = cbom;
+        if (compactStorage) {
+            this.compactCbom = CBOMStorageCodec.encode(cbom);
+        } else {
+            this.cbom = cbom;
+        }
+    }
+
+    @Nonnull
+    public JsonNode readCbom() throws CBOMSerializationFailed {
+        if (this.compactCbom != null) {
+            return CBOMStorageCodec.decode(this.compactCbom);
+        }
+        if (this.cbom == null) {
+            throw new CBOMSerializationFailed();
+        }
+        return this.cbom;
     }
 }
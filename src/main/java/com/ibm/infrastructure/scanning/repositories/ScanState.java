@@ -0,0 +1,172 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.scanning.repositories;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.packageurl.MalformedPackageURLException;
+import com.github.packageurl.PackageURL;
+import com.ibm.domain.scanning.Commit;
+import com.ibm.domain.scanning.GitUrl;
+import com.ibm.domain.scanning.Language;
+import com.ibm.domain.scanning.LanguageScan;
+import com.ibm.domain.scanning.Revision;
+import com.ibm.domain.scanning.ScanAggregate;
+import com.ibm.domain.scanning.ScanId;
+import com.ibm.domain.scanning.ScanMetadata;
+import com.ibm.infrastructure.errors.AggregateReconstructionFailed;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.LongFunction;
+
+/**
+ * State of a scan while it is rehydrated from its latest snapshot and the events recorded after it.
+ */
+final class ScanState {
+    private record StoredScanResult(
+            @Nonnull Language language, @Nonnull ScanMetadata scanMetadata, long scanResultId) {}
+
+    @Nonnull private final UUID id;
+    private long version;
+    @Nullable private String gitUrl;
+    @Nullable private String purl;
+    @Nullable private String revision;
+    @Nullable private String packageFolder;
+    @Nullable private String commitHash;
+    @Nonnull private final Map<Language, StoredScanResult> scanResults;
+
+    private ScanState(@Nonnull UUID id) {
+        this.id = id;
+        this.version = 0;
+        this.scanResults = new EnumMap<>(Language.class);
+    }
+
+    /** Returns the initial state of a scan without snapshot. */
+    @Nonnull
+    static ScanState empty(@Nonnull UUID id) {
+        return new ScanState(id);
+    }
+
+    /** Returns the state of a snapshot. Has to be called within the transaction that loaded it. */
+    @Nonnull
+    static ScanState of(@Nonnull Scan snapshot) {
+        final ScanState state = new ScanState(snapshot.id);
+        state.version = snapshot.version();
+        state.gitUrl = snapshot.gitUrl;
+        state.purl = snapshot.purl;
+        state.revision = snapshot.revision;
+        state.packageFolder = snapshot.packageFolder;
+        state.commitHash = snapshot.commitHash;
+        for (ScanResult scanResult : snapshot.scanResults) {
+            state.scanResults.put(
+                    scanResult.language,
+                    new StoredScanResult(
+                            scanResult.language,
+                            new ScanMetadata(
+                                    scanResult.startTime.getTime(),
+                                    scanResult.endTime.getTime(),
+                                    scanResult.numberOfScannedLines,
+                                    scanResult.numberOfScannedFiles),
+                            scanResult.id));
+        }
+        return state;
+    }
+
+    /** Returns the version of the last applied event. */
+    long version() {
+        return this.version;
+    }
+
+    /** Applies an event, which has to follow the events already contained in this state. */
+    void apply(@Nonnull ScanEvent event) {
+        final JsonNode payload = event.payload;
+        this.gitUrl = text(payload, ScanEvent.GIT_URL, this.gitUrl);
+        this.purl = text(payload, ScanEvent.PURL, this.purl);
+        this.revision = text(payload, ScanEvent.REVISION, this.revision);
+        this.packageFolder = text(payload, ScanEvent.PACKAGE_FOLDER, this.packageFolder);
+        this.commitHash = text(payload, ScanEvent.COMMIT_HASH, this.commitHash);
+        final Long scanResultId = event.scanResultId;
+        if (scanResultId != null) {
+            final Language language = Language.valueOf(payload.get(ScanEvent.LANGUAGE).asText());
+            this.scanResults.put(
+                    language,
+                    new StoredScanResult(
+                            language,
+                            new ScanMetadata(
+                                    payload.get(ScanEvent.START_TIME).asLong(),
+                                    payload.get(ScanEvent.END_TIME).asLong(),
+                                    payload.get(ScanEvent.NUMBER_OF_SCANNED_LINES).asInt(),
+                                    payload.get(ScanEvent.NUMBER_OF_SCANNED_FILES).asInt()),
+                            scanResultId));
+        }
+        this.version = event.version;
+    }
+
+    /**
+     * Reconstructs the aggregate. The CBOMs of the language scans are loaded on demand by the
+     * loaders created for the ids of the scan results.
+     */
+    @Nonnull
+    ScanAggregate asAggregate(@Nonnull LongFunction<LanguageScan.ICBOMLoader> cbomLoaders)
+            throws AggregateReconstructionFailed {
+        try {
+            final Map<Language, LanguageScan> languageScans = new EnumMap<>(Language.class);
+            for (StoredScanResult scanResult : this.scanResults.values()) {
+                languageScans.put(
+                        scanResult.language(),
+                        new LanguageScan(
+                                scanResult.language(),
+                                scanResult.scanMetadata(),
+                                cbomLoaders.apply(scanResult.scanResultId())));
+            }
+
+            Optional<PackageURL> optionalPackageURL = Optional.empty();
+            if (this.purl != null) {
+                optionalPackageURL = Optional.of(new PackageURL(this.purl));
+            }
+
+            return ScanAggregate.reconstruct(
+                    new ScanId(this.id),
+                    Optional.ofNullable(this.gitUrl).map(GitUrl::new).orElse(null),
+                    optionalPackageURL.orElse(null),
+                    Optional.ofNullable(this.revision)
+                            .map(Revision::new)
+                            .orElse(ScanAggregate.REVISION_MAIN),
+                    Optional.ofNullable(this.packageFolder).map(Path::of).orElse(null),
+                    Optional.ofNullable(this.commitHash).map(Commit::new).orElse(null),
+                    languageScans);
+        } catch (MalformedPackageURLException e) {
+            throw new AggregateReconstructionFailed(e);
+        }
+    }
+
+    @Nullable private static String text(
+            @Nonnull JsonNode payload, @Nonnull String field, @Nullable String current) {
+        final JsonNode value = payload.get(field);
+        if (value == null || value.isNull()) {
+            return current;
+        }
+        return value.asText();
+    }
+}
@@ -20,8 +20,19 @@
 package com.ibm.presentation.api.v1.compliance;
 
 import app.bootstrap.core.cqrs.IQueryBus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ibm.usecases.compliance.errors.ComplianceCheckFailed;
+import com.ibm.usecases.compliance.errors.ErrorWhileParsingStringToCBOM;
+import com.ibm.usecases.compliance.errors.PolicyNotSupported;
+import com.ibm.usecases.compliance.queries.RequestBatchComplianceCheckQuery;
 import com.ibm.usecases.compliance.queries.RequestComplianceCheckForCBOMQuery;
 import com.ibm.usecases.compliance.queries.RequestComplianceCheckForScannedGitRepositoryQuery;
+import com.ibm.usecases.compliance.queries.RequestStreamingComplianceCheckForCBOMQuery;
+import com.ibm.usecases.compliance.service.ComplianceFindingStream;
+import com.ibm.usecases.compliance.service.ProjectComplianceStream;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -29,9 +40,13 @@ import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.concurrent.ExecutionException;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.jboss.resteasy.reactive.RestQuery;
@@ -39,11 +54,14 @@ import org.jboss.resteasy.reactive.RestQuery;
 @Path("/api/v1/compliance")
 @ApplicationScoped
 public class ComplianceResource {
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
 
     @Nonnull protected final IQueryBus queryBus;
+    @Nonnull private final ObjectMapper objectMapper;
 
-    public ComplianceResource(@Nonnull IQueryBus queryBus) {
+    public ComplianceResource(@Nonnull IQueryBus queryBus, @Nonnull ObjectMapper objectMapper) {
         this.queryBus = queryBus;
+        this.objectMapper = objectMapper;
     }
 
     @GET
@@ -97,4 +115,124 @@ public class ComplianceResource {
                 .thenApply(res -> Response.ok(res).build())
                 .get();
     }
+
+    @POST
+    @Path("/check/stream")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(APPLICATION_NDJSON)
+    @Operation(
+            summary = "Verify the compliance of a large provided CBOM against a policy",
+            description =
+                    "Evaluates the components of the CBOM while it is uploaded and returns one "
+                            + "finding per line (NDJSON), without loading the whole CBOM into memory. "
+                            + "If the CBOM turns out to be invalid or the policy cannot be evaluated while "
+                            + "streaming, the response is aborted.")
+    public Response checkStream(
+            @Nullable @QueryParam("policyIdentifier") String policyIdentifier,
+            @Nullable InputStream cbom)
+            throws ExecutionException, InterruptedException {
+        if (policyIdentifier == null) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+
+        if (cbom == null) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+
+        final ComplianceFindingStream findings;
+        try {
+            findings =
+                    this.queryBus
+                            .send(
+                                    new RequestStreamingComplianceCheckForCBOMQuery(
+                                            policyIdentifier, cbom))
+                            .get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof PolicyNotSupported) {
+                return Response.status(Response.Status.BAD_REQUEST).build();
+            }
+            throw e;
+        }
+        final ObjectWriter writer = this.ndjsonWriter();
+        final StreamingOutput output =
+                out -> {
+                    try (JsonGenerator generator = writer.createGenerator(out)) {
+                        findings.forEach(
+                                finding -> {
+                                    writer.writeValue(generator, finding);
+                                    generator.writeRaw('\n');
+                                });
+                    } catch (ErrorWhileParsingStringToCBOM | ComplianceCheckFailed e) {
+                        // the response has started, so it can only be aborted
+                        throw new IOException(e);
+                    }
+                };
+        return Response.ok(output).build();
+    }
+
+    @POST
+    @Path("/check/batch")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(APPLICATION_NDJSON)
+    @Operation(
+            summary = "Verify the compliance of many stored CBOMs against a policy",
+            description =
+                    "Checks the latest CBOM of each project given by 'projectIdentifiers' and/or "
+                            + "whose identifier starts with 'projectIdentifierPrefix', and returns "
+                            + "one result per line (NDJSON) as soon as it is available. Projects "
+                            + "without a stored CBOM are returned with an error.")
+    public Response checkBatch(
+            @Nullable @QueryParam("policyIdentifier") String policyIdentifier,
+            @Nullable BatchComplianceCheckRequest request)
+            throws ExecutionException, InterruptedException {
+        if (policyIdentifier == null) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+
+        if (request == null
+                || (request.getProjectIdentifiers() == null
+                        && request.getProjectIdentifierPrefix() == null)) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+
+        final ProjectComplianceStream results;
+        try {
+            results =
+                    this.queryBus
+                            .send(
+                                    new RequestBatchComplianceCheckQuery(
+                                            policyIdentifier,
+                                            request.getProjectIdentifiers(),
+                                            request.getProjectIdentifierPrefix()))
+                            .get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof PolicyNotSupported) {
+                return Response.status(Response.Status.BAD_REQUEST).build();
+            }
+            throw e;
+        }
+        final ObjectWriter writer = this.ndjsonWriter();
+        final StreamingOutput output =
+                out -> {
+                    try (JsonGenerator generator = writer.createGenerator(out)) {
+                        results.forEach(
+                                result -> {
+                                    writer.writeValue(generator, result);
+                                    generator.writeRaw('\n');
+                                    // results can take a while, pass each on immediately
+                                    generator.flush();
+                                });
+                    }
+                };
+        return Response.ok(output).build();
+    }
+
+    @Nonnull
+    private ObjectWriter ndjsonWriter() {
+        return this.objectMapper
+                .writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                // every value is terminated by a new line instead
+                .withRootValueSeparator("");
+    }
 }
@@ -20,16 +20,34 @@
 package com.ibm.presentation.api.v1.database;
 
 import app.bootstrap.core.cqrs.IQueryBus;
+import com.ibm.usecases.database.errors.NoCBOMForProjectIdentifierFound;
+import com.ibm.usecases.database.errors.NoCBOMVersionFound;
 import com.ibm.usecases.database.queries.GetCBOMByProjectIdentifierQuery;
+import com.ibm.usecases.database.queries.GetCBOMDiffQuery;
+import com.ibm.usecases.database.queries.GetCBOMIdByProjectIdentifierQuery;
+import com.ibm.usecases.database.queries.GetCBOMVersionQuery;
+import com.ibm.usecases.database.queries.GetCompressedCBOMQuery;
+import com.ibm.usecases.database.queries.ListCBOMVersionsQuery;
+import com.ibm.usecases.database.queries.ListStoredCBOMSummariesQuery;
 import com.ibm.usecases.database.queries.ListStoredCBOMsQuery;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.jboss.resteasy.reactive.RestPath;
@@ -38,6 +56,13 @@ import org.jboss.resteasy.reactive.RestPath;
 @ApplicationScoped
 public class CBOMResource {
 
+    // clients may store responses, but have to revalidate them using the ETag
+    private static final CacheControl CACHE_CONTROL = new CacheControl();
+
+    static {
+        CACHE_CONTROL.setNoCache(true);
+    }
+
     @Nonnull protected final IQueryBus queryBus;
 
     public CBOMResource(@Nonnull IQueryBus queryBus) {
@@ -61,17 +86,151 @@ public class CBOMResource {
                 .get();
     }
 
+    @GET
+    @Path("/summary/last/{limit}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Return summaries of recently generated CBOMs from the repository",
+            description =
+                    "Returns the same list as '/last/{limit}' without the CBOM documents, "
+                            + "containing only the metadata and the component statistics of each CBOM.")
+    public Response getLastCBOMSummaries(@RestPath @Nullable Integer limit)
+            throws ExecutionException, InterruptedException {
+        return this.queryBus
+                .send(new ListStoredCBOMSummariesQuery(limit))
+                .thenApply(summaries -> Response.ok(summaries).build())
+                .get();
+    }
+
     @GET
     @Path("/{projectIdentifier}")
     @Produces(MediaType.APPLICATION_JSON)
-    public Response getCBOM(@RestPath @Nullable String projectIdentifier)
+    @Operation(
+            summary = "Return the latest CBOM of a project",
+            description =
+                    "Returns the latest stored CBOM of the project. The response carries an ETag "
+                            + "derived from the scan id, so clients can poll with 'If-None-Match' "
+                            + "and receive '304 Not Modified' until a new CBOM is stored.")
+    public Response getCBOM(
+            @RestPath @Nullable String projectIdentifier,
+            @Nullable @HeaderParam(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding,
+            @Context Request request)
             throws ExecutionException, InterruptedException {
         if (projectIdentifier == null) {
             return Response.status(Response.Status.BAD_REQUEST).build();
         }
+        // a stored CBOM never changes, only a new scan replaces it with a new id
+        final UUID id =
+                this.queryBus.send(new GetCBOMIdByProjectIdentifierQuery(projectIdentifier)).get();
+        final EntityTag entityTag = new EntityTag(id.toString());
+        final Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.cacheControl(CACHE_CONTROL).build();
+        }
+
+        if (acceptsGzip(acceptEncoding)) {
+            final Optional<byte[]> compressed =
+                    this.queryBus.send(new GetCompressedCBOMQuery(id)).get();
+            if (compressed.isPresent()) {
+                return Response.ok(compressed.get(), MediaType.APPLICATION_JSON_TYPE)
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                        .tag(entityTag)
+                        .cacheControl(CACHE_CONTROL)
+                        .build();
+            }
+        }
         return this.queryBus
                 .send(new GetCBOMByProjectIdentifierQuery(projectIdentifier))
-                .thenApply(readModel -> Response.ok(readModel).build())
+                .thenApply(
+                        readModel ->
+                                Response.ok(readModel)
+                                        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                                        .tag(new EntityTag(readModel.getId().toString()))
+                                        .cacheControl(CACHE_CONTROL)
+                                        .build())
                 .get();
     }
+
+    @GET
+    @Path("/{projectIdentifier}/versions")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Return the CBOM history of a project",
+            description =
+                    "Returns the version number, commit and creation time of each stored CBOM "
+                            + "of the project, newest first. The history spans all commits of the "
+                            + "project, so the project identifier may be given with or without a "
+                            + "commit.")
+    public Response getCBOMVersions(@RestPath @Nullable String projectIdentifier)
+            throws ExecutionException, InterruptedException {
+        if (projectIdentifier == null) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        return ok(this.queryBus.send(new ListCBOMVersionsQuery(projectIdentifier)));
+    }
+
+    @GET
+    @Path("/{projectIdentifier}/versions/{version}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Return a version of the CBOM of a project",
+            description = "Returns the CBOM document of the given version of the project.")
+    public Response getCBOMVersion(
+            @RestPath @Nullable String projectIdentifier, @RestPath @Nullable Long version)
+            throws ExecutionException, InterruptedException {
+        if (projectIdentifier == null || version == null) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        return ok(this.queryBus.send(new GetCBOMVersionQuery(projectIdentifier, version)));
+    }
+
+    @GET
+    @Path("/{projectIdentifier}/diff")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Compare the CBOMs of a project for two commits",
+            description =
+                    "Returns the components and dependencies which were added, changed or removed "
+                            + "between the latest CBOMs of the commits 'from' and 'to', and the "
+                            + "changed top-level properties.")
+    public Response getCBOMDiff(
+            @RestPath @Nullable String projectIdentifier,
+            @Nullable @QueryParam("from") String fromCommit,
+            @Nullable @QueryParam("to") String toCommit)
+            throws ExecutionException, InterruptedException {
+        if (projectIdentifier == null || fromCommit == null || toCommit == null) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        return ok(
+                this.queryBus.send(new GetCBOMDiffQuery(projectIdentifier, fromCommit, toCommit)));
+    }
+
+    @Nonnull
+    private static Response ok(@Nonnull CompletableFuture<?> result)
+            throws ExecutionException, InterruptedException {
+        try {
+            return Response.ok(result.get()).build();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof NoCBOMForProjectIdentifierFound
+                    || e.getCause() instanceof NoCBOMVersionFound) {
+                return Response.status(Response.Status.NOT_FOUND).build();
+            }
+            throw e;
+        }
+    }
+
+    private static boolean acceptsGzip(@Nullable String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (final String coding : acceptEncoding.split(",")) {
+            final String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                // gzip;q=0 explicitly excludes gzip
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.presentation.api.v1.database;
+
+import app.bootstrap.core.cqrs.IQueryBus;
+import com.ibm.infrastructure.database.readmodels.AssetSearchCriteria;
+import com.ibm.usecases.database.queries.FindProjectsUsingAssetQuery;
+import com.ibm.usecases.database.queries.ListAlgorithmUsageQuery;
+import com.ibm.usecases.database.queries.SearchAssetsQuery;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.jboss.resteasy.reactive.RestQuery;
+
+@Path("/api/v1/inventory")
+@ApplicationScoped
+public class InventoryResource {
+
+    @Nonnull protected final IQueryBus queryBus;
+
+    public InventoryResource(@Nonnull IQueryBus queryBus) {
+        this.queryBus = queryBus;
+    }
+
+    @GET
+    @Path("/assets")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Search cryptographic assets across all stored CBOMs",
+            description =
+                    "Returns a page of assets matching the optional filters 'algorithm' (asset name), "
+                            + "'primitive', 'oid', 'complianceLevel', 'repository' (git url prefix) and "
+                            + "the creation time range 'from' (inclusive) and 'to' (exclusive) as ISO-8601 "
+                            + "instants. Pages hold up to 'limit' assets (default 100, max 1000). The next "
+                            + "page is requested by passing the returned 'next' cursor as 'after'.")
+    public Response searchAssets(
+            @Nullable @RestQuery("algorithm") String algorithm,
+            @Nullable @RestQuery("primitive") String primitive,
+            @Nullable @RestQuery("oid") String oid,
+            @Nullable @RestQuery("complianceLevel") Integer complianceLevel,
+            @Nullable @RestQuery("repository") String repository,
+            @Nullable @RestQuery("from") String from,
+            @Nullable @RestQuery("to") String to,
+            @Nullable @RestQuery("after") String after,
+            @Nullable @RestQuery("limit") Integer limit)
+            throws ExecutionException, InterruptedException {
+        if (limit != null && limit < 1) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        final AssetSearchCriteria criteria;
+        final UUID afterId;
+        try {
+            criteria =
+                    new AssetSearchCriteria(
+                            algorithm,
+                            primitive,
+                            oid,
+                            complianceLevel,
+                            repository,
+                            from == null ? null : Timestamp.from(Instant.parse(from)),
+                            to == null ? null : Timestamp.from(Instant.parse(to)));
+            afterId = after == null ? null : UUID.fromString(after);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        return this.queryBus
+                .send(new SearchAssetsQuery(criteria, afterId, limit))
+                .thenApply(page -> Response.ok(page).build())
+                .get();
+    }
+
+    @GET
+    @Path("/projects")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Return the projects using a cryptographic asset",
+            description =
+                    "Returns all projects with a stored CBOM that contains at least one asset "
+                            + "matching the given 'algorithm' (asset name), 'primitive' and 'oid' "
+                            + "query parameters. At least one parameter must be specified.")
+    public Response getProjectsUsingAsset(
+            @Nullable @RestQuery("algorithm") String algorithm,
+            @Nullable @RestQuery("primitive") String primitive,
+            @Nullable @RestQuery("oid") String oid)
+            throws ExecutionException, InterruptedException {
+        if (algorithm == null && primitive == null && oid == null) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        return this.queryBus
+                .send(new FindProjectsUsingAssetQuery(algorithm, primitive, oid))
+                .thenApply(projects -> Response.ok(projects).build())
+                .get();
+    }
+
+    @GET
+    @Path("/algorithms")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Return the usage of algorithms across all stored CBOMs",
+            description =
+                    "Returns each asset name and primitive together with the number of projects "
+                            + "and assets it occurs in, ordered by the number of projects.")
+    public Response getAlgorithmUsage() throws ExecutionException, InterruptedException {
+        return this.queryBus
+                .send(new ListAlgorithmUsageQuery())
+                .thenApply(usage -> Response.ok(usage).build())
+                .get();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.presentation.api.v1.database;
+
+import app.bootstrap.core.cqrs.ICommandBus;
+import app.bootstrap.core.cqrs.IQueryBus;
+import com.ibm.usecases.scanning.commands.RebuildProjectionsCommand;
+import com.ibm.usecases.scanning.projector.ProjectionRebuildProgress;
+import com.ibm.usecases.scanning.queries.GetProjectionRebuildProgressQuery;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.util.concurrent.ExecutionException;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+
+@Path("/api/v1/projections/rebuild")
+@ApplicationScoped
+public class ProjectionResource {
+
+    @Nonnull protected final ICommandBus commandBus;
+    @Nonnull protected final IQueryBus queryBus;
+
+    public ProjectionResource(@Nonnull ICommandBus commandBus, @Nonnull IQueryBus queryBus) {
+        this.commandBus = commandBus;
+        this.queryBus = queryBus;
+    }
+
+    @POST
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Rebuild the read models of all stored scans",
+            description =
+                    "Starts rebuilding the stored CBOMs, assets and compliance results from the "
+                            + "stored scans in the background, without rescanning. Scans are "
+                            + "processed in chunks of 'chunkSize' scans, 'parallelism' scans at a "
+                            + "time. Returns the progress, or '409 Conflict' if a rebuild is "
+                            + "already running.")
+    public Response rebuild(
+            @Nullable @QueryParam("chunkSize") Integer chunkSize,
+            @Nullable @QueryParam("parallelism") Integer parallelism)
+            throws Exception {
+        if ((chunkSize != null && chunkSize <= 0) || (parallelism != null && parallelism <= 0)) {
+            return Response.status(Response.Status.BAD_REQUEST).build();
+        }
+        if (this.progress().isRunning()) {
+            return Response.status(Response.Status.CONFLICT).entity(this.progress()).build();
+        }
+        this.commandBus.send(new RebuildProjectionsCommand(chunkSize, parallelism));
+        return Response.accepted(this.progress()).build();
+    }
+
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(
+            summary = "Return the progress of the rebuild of the read models",
+            description =
+                    "Returns the state of the current or last rebuild, the number of processed, "
+                            + "stored, skipped and failed scans and the throughput in scans per "
+                            + "second.")
+    public Response getProgress() throws ExecutionException, InterruptedException {
+        return Response.ok(this.progress()).build();
+    }
+
+    @Nonnull
+    private ProjectionRebuildProgress progress() throws ExecutionException, InterruptedException {
+        return this.queryBus.send(new GetProjectionRebuildProgressQuery()).get();
+    }
+}
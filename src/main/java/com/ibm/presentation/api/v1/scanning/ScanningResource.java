@@ -26,6 +26,7 @@ import com.ibm.domain.scanning.ScanId;
 import com.ibm.domain.scanning.authentication.ICredentials;
 import com.ibm.domain.scanning.authentication.PersonalAccessToken;
 import com.ibm.domain.scanning.authentication.UsernameAndPasswordCredentials;
+import com.ibm.infrastructure.database.IDatabaseConfiguration;
 import com.ibm.infrastructure.progress.ProgressMessage;
 import com.ibm.infrastructure.progress.ProgressMessageType;
 import com.ibm.infrastructure.progress.WebSocketProgressDispatcher;
@@ -58,15 +59,18 @@ public class ScanningResource {
     @Nonnull protected final ICommandBus commandBus;
     @Nonnull private final IDomainEventBus domainEventBus;
     @Nonnull private final IScanConfiguration configuration;
+    @Nonnull private final IDatabaseConfiguration databaseConfiguration;
 
     public ScanningResource(
             @Nonnull ICommandBus commandBus,
             @Nonnull IDomainEventBus domainEventBus,
-            @Nonnull IScanConfiguration configuration) {
+            @Nonnull IScanConfiguration configuration,
+            @Nonnull IDatabaseConfiguration databaseConfiguration) {
         this.sessions = new ConcurrentHashMap<>();
         this.commandBus = commandBus;
         this.domainEventBus = domainEventBus;
         this.configuration = configuration;
+        this.databaseConfiguration = databaseConfiguration;
     }
 
     @OnOpen
@@ -98,7 +102,8 @@ public class ScanningResource {
             final ScanRequest scanRequest =
                     new ObjectMapper().readValue(requestJSONString, ScanRequest.class);
 
-            final ScanRepository scanRepository = new ScanRepository(this.domainEventBus);
+            final ScanRepository scanRepository =
+                    new ScanRepository(this.domainEventBus, this.databaseConfiguration);
 
             final ScanId scanId = new ScanId();
             final ScanProcessManager scanProcessManager =
@@ -19,6 +19,7 @@
  */
 package com.ibm.usecases.compliance.errors;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import jakarta.annotation.Nonnull;
 import org.cyclonedx.exception.ParseException;
 
@@ -26,4 +27,8 @@ public class ErrorWhileParsingStringToCBOM extends Exception {
     public ErrorWhileParsingStringToCBOM(@Nonnull ParseException parseException) {
         super("Error while parsing string to CBOM: " + parseException.getMessage());
     }
+
+    public ErrorWhileParsingStringToCBOM(@Nonnull JsonProcessingException processingException) {
+        super("Error while parsing string to CBOM: " + processingException.getOriginalMessage());
+    }
 }
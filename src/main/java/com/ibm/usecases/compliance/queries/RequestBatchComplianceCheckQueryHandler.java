@@ -0,0 +1,99 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.compliance.queries;
+
+import app.bootstrap.core.cqrs.IQueryBus;
+import app.bootstrap.core.cqrs.QueryHandler;
+import com.ibm.domain.compliance.PolicyIdentifier;
+import com.ibm.infrastructure.compliance.ComplianceServiceRegistry;
+import com.ibm.infrastructure.database.readmodels.ICBOMReadRepository;
+import com.ibm.infrastructure.database.readmodels.IComplianceResultReadRepository;
+import com.ibm.infrastructure.database.readmodels.ProjectKey;
+import com.ibm.usecases.compliance.errors.PolicyNotSupported;
+import com.ibm.usecases.compliance.service.ComplianceEvaluationService;
+import com.ibm.usecases.compliance.service.ProjectComplianceStream;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Singleton
+public final class RequestBatchComplianceCheckQueryHandler
+        extends QueryHandler<RequestBatchComplianceCheckQuery, ProjectComplianceStream> {
+    @Nonnull private final ICBOMReadRepository readRepository;
+    @Nonnull private final IComplianceResultReadRepository complianceResultRepository;
+    @Nonnull private final ComplianceServiceRegistry complianceServiceRegistry;
+
+    void onStart(@Observes StartupEvent event) {
+        this.queryBus.register(this, RequestBatchComplianceCheckQuery.class);
+    }
+
+    public RequestBatchComplianceCheckQueryHandler(
+            @Nonnull IQueryBus queryBus,
+            @Nonnull ICBOMReadRepository readRepository,
+            @Nonnull IComplianceResultReadRepository complianceResultRepository,
+            @Nonnull ComplianceServiceRegistry complianceServiceRegistry) {
+        super(queryBus);
+        this.readRepository = readRepository;
+        this.complianceResultRepository = complianceResultRepository;
+        this.complianceServiceRegistry = complianceServiceRegistry;
+    }
+
+    @Override
+    public @Nonnull ProjectComplianceStream handle(
+            @Nonnull RequestBatchComplianceCheckQuery requestBatchComplianceCheckQuery)
+            throws Exception {
+        final PolicyIdentifier policyIdentifier =
+                new PolicyIdentifier(requestBatchComplianceCheckQuery.policyIdentifier());
+        // fail before streaming, errors cannot be reported once the response has started
+        if (!this.complianceServiceRegistry.getPolicies().contains(policyIdentifier)) {
+            throw new PolicyNotSupported(policyIdentifier.id());
+        }
+        final List<String> projectIdentifiers =
+                requestBatchComplianceCheckQuery.projectIdentifiers();
+        // a failing query is thrown here, before the response starts
+        final Map<String, UUID> cbomIds =
+                this.readRepository.findIdsBy(
+                        projectIdentifiers,
+                        requestBatchComplianceCheckQuery.projectIdentifierPrefix());
+        final Set<String> projectKeys =
+                cbomIds.keySet().stream().map(ProjectKey::of).collect(Collectors.toSet());
+        return new ProjectComplianceStream(
+                this.readRepository,
+                this.complianceResultRepository,
+                new ComplianceEvaluationService(this.complianceServiceRegistry),
+                policyIdentifier,
+                cbomIds,
+                projectIdentifiers == null
+                        ? List.of()
+                        : projectIdentifiers.stream()
+                                .distinct()
+                                .filter(
+                                        projectIdentifier ->
+                                                !projectKeys.contains(
+                                                        ProjectKey.of(projectIdentifier)))
+                                .toList());
+    }
+}
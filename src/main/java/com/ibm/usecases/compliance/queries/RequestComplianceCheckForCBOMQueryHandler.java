@@ -23,11 +23,9 @@ import app.bootstrap.core.cqrs.IQueryBus;
 import app.bootstrap.core.cqrs.QueryHandler;
 import com.ibm.domain.compliance.CryptographicAsset;
 import com.ibm.domain.compliance.PolicyIdentifier;
-import com.ibm.infrastructure.compliance.ComplianceFinding;
 import com.ibm.infrastructure.compliance.ComplianceResult;
-import com.ibm.infrastructure.compliance.IComplianceConfiguration;
-import com.ibm.infrastructure.compliance.service.ComplianceCheckResultDTO;
-import com.ibm.infrastructure.compliance.service.IComplianceService;
+import com.ibm.infrastructure.compliance.ComplianceServiceRegistry;
+import com.ibm.usecases.compliance.service.ComplianceEvaluationService;
 import com.ibm.usecases.compliance.service.CompliancePreparationService;
 import io.quarkus.runtime.StartupEvent;
 import jakarta.annotation.Nonnull;
@@ -38,7 +36,7 @@ import java.util.Collection;
 @Singleton
 public final class RequestComplianceCheckForCBOMQueryHandler
         extends QueryHandler<RequestComplianceCheckForCBOMQuery, ComplianceResult> {
-    @Nonnull private final IComplianceService complianceService;
+    @Nonnull private final ComplianceEvaluationService complianceEvaluationService;
 
     void onStart(@Observes StartupEvent event) {
         this.queryBus.register(this, RequestComplianceCheckForCBOMQuery.class);
@@ -46,9 +44,10 @@ public final class RequestComplianceCheckForCBOMQueryHandler
 
     public RequestComplianceCheckForCBOMQueryHandler(
             @Nonnull IQueryBus queryBus,
-            @Nonnull IComplianceConfiguration complianceConfiguration) {
+            @Nonnull ComplianceServiceRegistry complianceServiceRegistry) {
         super(queryBus);
-        this.complianceService = complianceConfiguration.getComplianceService();
+        this.complianceEvaluationService =
+                new ComplianceEvaluationService(complianceServiceRegistry);
     }
 
     @Override
@@ -63,27 +62,6 @@ public final class RequestComplianceCheckForCBOMQueryHandler
 
         final PolicyIdentifier policyIdentifier =
                 new PolicyIdentifier(requestComplianceCheckForCBOMQuery.policyIdentifier());
-        final ComplianceCheckResultDTO complianceCheckResultDTO =
-                this.complianceService.evaluate(policyIdentifier, cryptographicAssets);
-
-        if (complianceCheckResultDTO.error()) {
-            return ComplianceResult.error(this.complianceService.getName());
-        }
-        return new ComplianceResult(
-                this.complianceService.getName(),
-                policyIdentifier.id(),
-                complianceCheckResultDTO.policyResults().stream()
-                        .map(
-                                result ->
-                                        new ComplianceFinding(
-                                                result.identifier(),
-                                                result.complianceLevel().id(),
-                                                result.message()))
-                        .toList(),
-                this.complianceService.getComplianceLevels(),
-                this.complianceService.getDefaultComplianceLevel().id(),
-                complianceCheckResultDTO.policyResults().stream()
-                        .noneMatch(result -> result.complianceLevel().isUnCompliant()),
-                false);
+        return this.complianceEvaluationService.evaluate(policyIdentifier, cryptographicAssets);
     }
 }
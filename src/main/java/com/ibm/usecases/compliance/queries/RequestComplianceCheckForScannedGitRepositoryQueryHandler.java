@@ -23,24 +23,28 @@ import app.bootstrap.core.cqrs.IQueryBus;
 import app.bootstrap.core.cqrs.QueryHandler;
 import com.ibm.domain.compliance.CryptographicAsset;
 import com.ibm.domain.compliance.PolicyIdentifier;
-import com.ibm.infrastructure.compliance.ComplianceFinding;
 import com.ibm.infrastructure.compliance.ComplianceResult;
-import com.ibm.infrastructure.compliance.IComplianceConfiguration;
-import com.ibm.infrastructure.compliance.service.ComplianceCheckResultDTO;
-import com.ibm.infrastructure.compliance.service.IComplianceService;
+import com.ibm.infrastructure.compliance.ComplianceServiceRegistry;
+import com.ibm.infrastructure.database.readmodels.ComplianceResultReadModel;
 import com.ibm.infrastructure.database.readmodels.ICBOMReadRepository;
+import com.ibm.infrastructure.database.readmodels.IComplianceResultReadRepository;
+import com.ibm.usecases.compliance.errors.CouldNotFindCBOMForGitRepository;
+import com.ibm.usecases.compliance.service.ComplianceEvaluationService;
 import com.ibm.usecases.compliance.service.CompliancePreparationService;
 import io.quarkus.runtime.StartupEvent;
 import jakarta.annotation.Nonnull;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Singleton;
 import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
 
 @Singleton
 public final class RequestComplianceCheckForScannedGitRepositoryQueryHandler
         extends QueryHandler<RequestComplianceCheckForScannedGitRepositoryQuery, ComplianceResult> {
     @Nonnull private final ICBOMReadRepository readRepository;
-    @Nonnull private final IComplianceService complianceService;
+    @Nonnull private final IComplianceResultReadRepository complianceResultRepository;
+    @Nonnull private final ComplianceEvaluationService complianceEvaluationService;
 
     void onStart(@Observes StartupEvent event) {
         this.queryBus.register(this, RequestComplianceCheckForScannedGitRepositoryQuery.class);
@@ -49,10 +53,13 @@ public final class RequestComplianceCheckForScannedGitRepositoryQueryHandler
     public RequestComplianceCheckForScannedGitRepositoryQueryHandler(
             @Nonnull IQueryBus queryBus,
             @Nonnull ICBOMReadRepository readRepository,
-            @Nonnull IComplianceConfiguration complianceConfiguration) {
+            @Nonnull IComplianceResultReadRepository complianceResultRepository,
+            @Nonnull ComplianceServiceRegistry complianceServiceRegistry) {
         super(queryBus);
         this.readRepository = readRepository;
-        this.complianceService = complianceConfiguration.getComplianceService();
+        this.complianceResultRepository = complianceResultRepository;
+        this.complianceEvaluationService =
+                new ComplianceEvaluationService(complianceServiceRegistry);
     }
 
     @Override
@@ -61,37 +68,36 @@ public final class RequestComplianceCheckForScannedGitRepositoryQueryHandler
                     RequestComplianceCheckForScannedGitRepositoryQuery
                             requestComplianceCheckForScannedGitRepositoryQuery)
             throws Exception {
-        final CompliancePreparationService compliancePreparationService =
-                new CompliancePreparationService();
-        final Collection<CryptographicAsset> cryptographicAssets =
-                compliancePreparationService.receiveCryptographicAssets(
-                        this.readRepository,
-                        requestComplianceCheckForScannedGitRepositoryQuery.projectIdentifier());
-
+        final String projectIdentifier =
+                requestComplianceCheckForScannedGitRepositoryQuery.projectIdentifier();
         final PolicyIdentifier policyIdentifier =
                 new PolicyIdentifier(
                         requestComplianceCheckForScannedGitRepositoryQuery.policyIdentifier());
-        final ComplianceCheckResultDTO complianceCheckResultDTO =
-                this.complianceService.evaluate(policyIdentifier, cryptographicAssets);
+        final UUID cbomId =
+                this.readRepository
+                        .findIdBy(projectIdentifier)
+                        .orElseThrow(() -> new CouldNotFindCBOMForGitRepository(projectIdentifier));
+        // serve the result computed when the CBOM was stored, unless the policy changed since then
+        final Optional<ComplianceResultReadModel> storedResult =
+                this.complianceResultRepository
+                        .findBy(cbomId, policyIdentifier.id())
+                        .filter(this.complianceEvaluationService::isCurrent);
+        if (storedResult.isPresent()) {
+            return this.complianceEvaluationService.fromStored(storedResult.get());
+        }
 
-        if (complianceCheckResultDTO.error()) {
-            return ComplianceResult.error(this.complianceService.getName());
+        final CompliancePreparationService compliancePreparationService =
+                new CompliancePreparationService();
+        final Collection<CryptographicAsset> cryptographicAssets =
+                compliancePreparationService.receiveCryptographicAssets(
+                        this.readRepository, projectIdentifier);
+        final ComplianceResult complianceResult =
+                this.complianceEvaluationService.evaluate(policyIdentifier, cryptographicAssets);
+        if (!complianceResult.error()) {
+            this.complianceResultRepository.save(
+                    this.complianceEvaluationService.toStored(
+                            cbomId, projectIdentifier, policyIdentifier, complianceResult));
         }
-        return new ComplianceResult(
-                this.complianceService.getName(),
-                policyIdentifier.id(),
-                complianceCheckResultDTO.policyResults().stream()
-                        .map(
-                                result ->
-                                        new ComplianceFinding(
-                                                result.identifier(),
-                                                result.complianceLevel().id(),
-                                                result.message()))
-                        .toList(),
-                this.complianceService.getComplianceLevels(),
-                this.complianceService.getDefaultComplianceLevel().id(),
-                complianceCheckResultDTO.policyResults().stream()
-                        .noneMatch(result -> result.complianceLevel().isUnCompliant()),
-                false);
+        return complianceResult;
     }
 }
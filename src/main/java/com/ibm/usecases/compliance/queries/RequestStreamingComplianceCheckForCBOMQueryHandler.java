@@ -0,0 +1,60 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.compliance.queries;
+
+import app.bootstrap.core.cqrs.IQueryBus;
+import app.bootstrap.core.cqrs.QueryHandler;
+import com.ibm.domain.compliance.PolicyIdentifier;
+import com.ibm.infrastructure.compliance.ComplianceServiceRegistry;
+import com.ibm.usecases.compliance.errors.PolicyNotSupported;
+import com.ibm.usecases.compliance.service.ComplianceFindingStream;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+@Singleton
+public final class RequestStreamingComplianceCheckForCBOMQueryHandler
+        extends QueryHandler<RequestStreamingComplianceCheckForCBOMQuery, ComplianceFindingStream> {
+    @Nonnull private final ComplianceServiceRegistry complianceServiceRegistry;
+
+    void onStart(@Observes StartupEvent event) {
+        this.queryBus.register(this, RequestStreamingComplianceCheckForCBOMQuery.class);
+    }
+
+    public RequestStreamingComplianceCheckForCBOMQueryHandler(
+            @Nonnull IQueryBus queryBus,
+            @Nonnull ComplianceServiceRegistry complianceServiceRegistry) {
+        super(queryBus);
+        this.complianceServiceRegistry = complianceServiceRegistry;
+    }
+
+    @Override
+    public @Nonnull ComplianceFindingStream handle(
+            @Nonnull RequestStreamingComplianceCheckForCBOMQuery query) throws Exception {
+        final PolicyIdentifier policyIdentifier = new PolicyIdentifier(query.policyIdentifier());
+        // fail before streaming, errors cannot be reported once the response has started
+        if (!this.complianceServiceRegistry.getPolicies().contains(policyIdentifier)) {
+            throw new PolicyNotSupported(policyIdentifier.id());
+        }
+        return new ComplianceFindingStream(
+                this.complianceServiceRegistry, policyIdentifier, query.cbom());
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.compliance.service;
+
+import com.ibm.domain.compliance.CryptographicAsset;
+import com.ibm.domain.compliance.PolicyIdentifier;
+import com.ibm.infrastructure.compliance.ComplianceFinding;
+import com.ibm.infrastructure.compliance.ComplianceResult;
+import com.ibm.infrastructure.compliance.ComplianceServiceRegistry;
+import com.ibm.infrastructure.compliance.service.ComplianceCheckResultDTO;
+import com.ibm.infrastructure.compliance.service.IComplianceService;
+import com.ibm.infrastructure.database.readmodels.ComplianceResultReadModel;
+import jakarta.annotation.Nonnull;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Creates {@link ComplianceResult}s from evaluations of the registered compliance services and
+ * converts them from and to stored results.
+ */
+public final class ComplianceEvaluationService {
+    @Nonnull private final ComplianceServiceRegistry complianceServiceRegistry;
+
+    public ComplianceEvaluationService(
+            @Nonnull ComplianceServiceRegistry complianceServiceRegistry) {
+        this.complianceServiceRegistry = complianceServiceRegistry;
+    }
+
+    @Nonnull
+    public ComplianceResult evaluate(
+            @Nonnull PolicyIdentifier policyIdentifier,
+            @Nonnull Collection<CryptographicAsset> cryptographicAssets) {
+        return this.toResult(
+                policyIdentifier,
+                this.complianceServiceRegistry.evaluate(policyIdentifier, cryptographicAssets));
+    }
+
+    /** Creates the result of an evaluation of the assets against a policy. */
+    @Nonnull
+    public ComplianceResult toResult(
+            @Nonnull PolicyIdentifier policyIdentifier,
+            @Nonnull ComplianceCheckResultDTO complianceCheckResultDTO) {
+        final IComplianceService complianceService = this.serviceOf(policyIdentifier);
+        if (complianceCheckResultDTO.error()) {
+            return ComplianceResult.error(complianceService.getName());
+        }
+        return new ComplianceResult(
+                complianceService.getName(),
+                policyIdentifier.id(),
+                complianceCheckResultDTO.policyResults().stream()
+                        .map(
+                                result ->
+                                        new ComplianceFinding(
+                                                result.identifier(),
+                                                result.complianceLevel().id(),
+                                                result.message()))
+                        .toList(),
+                complianceService.getComplianceLevels(),
+                complianceService.getDefaultComplianceLevel().id(),
+                complianceCheckResultDTO.policyResults().stream()
+                        .noneMatch(result -> result.complianceLevel().isUnCompliant()),
+                false);
+    }
+
+    /**
+     * Returns whether a stored result was computed by the compliance service currently registered
+     * for its policy, with the current version of the policy.
+     */
+    public boolean isCurrent(@Nonnull ComplianceResultReadModel storedResult) {
+        final PolicyIdentifier policyIdentifier =
+                new PolicyIdentifier(storedResult.getPolicyIdentifier());
+        return this.complianceServiceRegistry
+                .getService(policyIdentifier)
+                .filter(
+                        service ->
+                                storedResult.getComplianceServiceName().equals(service.getName())
+                                        && storedResult
+                                                .getPolicyVersion()
+                                                .equals(service.getPolicyVersion(policyIdentifier)))
+                .isPresent();
+    }
+
+    @Nonnull
+    public ComplianceResult fromStored(@Nonnull ComplianceResultReadModel storedResult) {
+        final IComplianceService complianceService =
+                this.serviceOf(new PolicyIdentifier(storedResult.getPolicyIdentifier()));
+        // compliance levels are not stored, they do not depend on the evaluated CBOM
+        return new ComplianceResult(
+                storedResult.getComplianceServiceName(),
+                storedResult.getPolicyIdentifier(),
+                storedResult.getFindings(),
+                complianceService.getComplianceLevels(),
+                complianceService.getDefaultComplianceLevel().id(),
+                storedResult.isGlobalComplianceStatus(),
+                false);
+    }
+
+    @Nonnull
+    public ComplianceResultReadModel toStored(
+            @Nonnull UUID cbomId,
+            @Nonnull String projectIdentifier,
+            @Nonnull PolicyIdentifier policyIdentifier,
+            @Nonnull ComplianceResult complianceResult) {
+        return this.toStored(
+                cbomId,
+                projectIdentifier,
+                policyIdentifier,
+                complianceResult,
+                new Timestamp(System.currentTimeMillis()));
+    }
+
+    @Nonnull
+    public ComplianceResultReadModel toStored(
+            @Nonnull UUID cbomId,
+            @Nonnull String projectIdentifier,
+            @Nonnull PolicyIdentifier policyIdentifier,
+            @Nonnull ComplianceResult complianceResult,
+            @Nonnull Timestamp createdAt) {
+        return new ComplianceResultReadModel(
+                cbomId,
+                projectIdentifier,
+                policyIdentifier.id(),
+                this.serviceOf(policyIdentifier).getPolicyVersion(policyIdentifier),
+                complianceResult.complianceServiceName(),
+                complianceResult.complianceFindings(),
+                complianceResult.globalComplianceStatus(),
+                createdAt);
+    }
+
+    @Nonnull
+    private IComplianceService serviceOf(@Nonnull PolicyIdentifier policyIdentifier) {
+        return this.complianceServiceRegistry
+                .getService(policyIdentifier)
+                .orElseGet(this.complianceServiceRegistry::getDefaultService);
+    }
+}
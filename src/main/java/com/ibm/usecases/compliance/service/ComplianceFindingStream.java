@@ -0,0 +1,129 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.compliance.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibm.domain.compliance.CryptographicAsset;
+import com.ibm.domain.compliance.PolicyIdentifier;
+import com.ibm.infrastructure.compliance.ComplianceFinding;
+import com.ibm.infrastructure.compliance.ComplianceServiceRegistry;
+import com.ibm.infrastructure.compliance.service.ComplianceCheckResultDTO;
+import com.ibm.infrastructure.compliance.service.ICryptographicAssetPolicyResult;
+import com.ibm.usecases.compliance.errors.ComplianceCheckFailed;
+import com.ibm.usecases.compliance.errors.ErrorWhileParsingStringToCBOM;
+import jakarta.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.cyclonedx.model.Component;
+
+/**
+ * The compliance findings of a CBOM read from a stream. Components are evaluated in batches while
+ * the CBOM is parsed, so the CBOM is never held in memory as a whole.
+ */
+public final class ComplianceFindingStream {
+    private static final int BATCH_SIZE = 1000;
+    private static final ObjectMapper MAPPER =
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @FunctionalInterface
+    public interface IFindingConsumer {
+        void accept(@Nonnull ComplianceFinding finding) throws IOException;
+    }
+
+    @Nonnull private final ComplianceServiceRegistry complianceServiceRegistry;
+    @Nonnull private final PolicyIdentifier policyIdentifier;
+    @Nonnull private final InputStream cbom;
+
+    public ComplianceFindingStream(
+            @Nonnull ComplianceServiceRegistry complianceServiceRegistry,
+            @Nonnull PolicyIdentifier policyIdentifier,
+            @Nonnull InputStream cbom) {
+        this.complianceServiceRegistry = complianceServiceRegistry;
+        this.policyIdentifier = policyIdentifier;
+        this.cbom = cbom;
+    }
+
+    /**
+     * Parses the CBOM and passes the finding of each component to the consumer. Components without
+     * crypto properties are skipped. The stream can only be consumed once. If the policy cannot be
+     * evaluated, consuming stops with an error instead of passing on incomplete findings.
+     */
+    public void forEach(@Nonnull IFindingConsumer consumer)
+            throws IOException, ErrorWhileParsingStringToCBOM, ComplianceCheckFailed {
+        try (JsonParser parser = MAPPER.createParser(this.cbom)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a CBOM object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && "components".equals(field)) {
+                    this.evaluateComponents(parser, consumer);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new ErrorWhileParsingStringToCBOM(e);
+        }
+    }
+
+    private void evaluateComponents(@Nonnull JsonParser parser, @Nonnull IFindingConsumer consumer)
+            throws IOException, ComplianceCheckFailed {
+        final List<CryptographicAsset> batch = new ArrayList<>(BATCH_SIZE);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            final Component component = MAPPER.readValue(parser, Component.class);
+            if (component.getCryptoProperties() == null) {
+                continue;
+            }
+            batch.add(new CryptographicAsset(component.getBomRef(), component));
+            if (batch.size() == BATCH_SIZE) {
+                this.evaluate(batch, consumer);
+                batch.clear();
+            }
+        }
+        this.evaluate(batch, consumer);
+    }
+
+    private void evaluate(
+            @Nonnull List<CryptographicAsset> batch, @Nonnull IFindingConsumer consumer)
+            throws IOException, ComplianceCheckFailed {
+        if (batch.isEmpty()) {
+            return;
+        }
+        final ComplianceCheckResultDTO complianceCheckResultDTO =
+                this.complianceServiceRegistry.evaluate(this.policyIdentifier, batch);
+        if (complianceCheckResultDTO.error()) {
+            throw new ComplianceCheckFailed(this.policyIdentifier);
+        }
+        for (final ICryptographicAssetPolicyResult result :
+                complianceCheckResultDTO.policyResults()) {
+            consumer.accept(
+                    new ComplianceFinding(
+                            result.identifier(), result.complianceLevel().id(), result.message()));
+        }
+    }
+}
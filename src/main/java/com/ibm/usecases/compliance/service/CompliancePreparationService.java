@@ -27,10 +27,13 @@ import com.ibm.infrastructure.database.readmodels.ICBOMReadRepository;
 import com.ibm.usecases.compliance.errors.CouldNotFindCBOMForGitRepository;
 import com.ibm.usecases.compliance.errors.ErrorWhileParsingStringToCBOM;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.nio.charset.StandardCharsets;
 import java.util.Collection;
+import java.util.List;
 import org.cyclonedx.exception.ParseException;
 import org.cyclonedx.model.Bom;
+import org.cyclonedx.model.Component;
 import org.cyclonedx.parsers.BomParserFactory;
 import org.cyclonedx.parsers.Parser;
 
@@ -44,10 +47,13 @@ public final class CompliancePreparationService {
                         .findBy(projectIdentifier)
                         .orElseThrow(() -> new CouldNotFindCBOMForGitRepository(projectIdentifier));
 
+        return receiveCryptographicAssets(cbomReadModel);
+    }
+
+    public Collection<CryptographicAsset> receiveCryptographicAssets(
+            @Nonnull CBOMReadModel cbomReadModel) throws CBOMSerializationFailed {
         final CBOM cbom = CBOM.formJSON(cbomReadModel.getBom());
-        return cbom.cycloneDXbom().getComponents().stream()
-                .map(component -> new CryptographicAsset(component.getBomRef(), component))
-                .toList();
+        return toCryptographicAssets(cbom.cycloneDXbom().getComponents());
     }
 
     public Collection<CryptographicAsset> transformCBOMString(@Nonnull String cbomString)
@@ -58,11 +64,25 @@ public final class CompliancePreparationService {
             Parser parser = BomParserFactory.createParser(cbomBytes);
             // Parse the BOM content
             Bom cycloneDXbom = parser.parse(cbomBytes);
-            return cycloneDXbom.getComponents().stream()
-                    .map(component -> new CryptographicAsset(component.getBomRef(), component))
-                    .toList();
+            return toCryptographicAssets(cycloneDXbom.getComponents());
         } catch (ParseException e) {
             throw new ErrorWhileParsingStringToCBOM(e);
         }
     }
+
+    /**
+     * Returns the assets evaluated for the components of a CBOM: every component, identified by its
+     * bom-ref, in the order of the components. Compliance results stored with a CBOM are computed
+     * from the same assets, so that they equal the results of a compliance check.
+     */
+    @Nonnull
+    public static List<CryptographicAsset> toCryptographicAssets(
+            @Nullable List<Component> components) {
+        if (components == null) {
+            return List.of();
+        }
+        return components.stream()
+                .map(component -> new CryptographicAsset(component.getBomRef(), component))
+                .toList();
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.compliance.service;
+
+import com.ibm.domain.compliance.PolicyIdentifier;
+import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
+import com.ibm.infrastructure.compliance.ComplianceResult;
+import com.ibm.infrastructure.compliance.ProjectComplianceResult;
+import com.ibm.infrastructure.database.readmodels.CBOMReadModel;
+import com.ibm.infrastructure.database.readmodels.ComplianceResultReadModel;
+import com.ibm.infrastructure.database.readmodels.ICBOMReadRepository;
+import com.ibm.infrastructure.database.readmodels.IComplianceResultReadRepository;
+import com.ibm.usecases.compliance.errors.CouldNotFindCBOMForGitRepository;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The compliance results of many projects against one policy. Projects are processed in chunks:
+ * stored results of a chunk are fetched with a single query, the CBOMs without a current result are
+ * loaded with a single query and evaluated in parallel.
+ */
+public final class ProjectComplianceStream {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProjectComplianceStream.class);
+    private static final int CHUNK_SIZE = 50;
+
+    @FunctionalInterface
+    public interface IResultConsumer {
+        void accept(@Nonnull ProjectComplianceResult result) throws IOException;
+    }
+
+    /** the evaluation of a loaded CBOM, without a result if the CBOM could not be read */
+    private record Evaluation(
+            @Nonnull CBOMReadModel cbomReadModel, @Nullable ComplianceResult complianceResult) {}
+
+    @Nonnull private final ICBOMReadRepository readRepository;
+    @Nonnull private final IComplianceResultReadRepository complianceResultRepository;
+    @Nonnull private final ComplianceEvaluationService complianceEvaluationService;
+    @Nonnull private final PolicyIdentifier policyIdentifier;
+    @Nonnull private final Map<String, UUID> cbomIds;
+    @Nonnull private final Collection<String> unknownProjectIdentifiers;
+
+    /**
+     * @param cbomIds the ids of the latest CBOM of each project to check, by project identifier
+     * @param unknownProjectIdentifiers the requested projects without a stored CBOM
+     */
+    public ProjectComplianceStream(
+            @Nonnull ICBOMReadRepository readRepository,
+            @Nonnull IComplianceResultReadRepository complianceResultRepository,
+            @Nonnull ComplianceEvaluationService complianceEvaluationService,
+            @Nonnull PolicyIdentifier policyIdentifier,
+            @Nonnull Map<String, UUID> cbomIds,
+            @Nonnull Collection<String> unknownProjectIdentifiers) {
+        this.readRepository = readRepository;
+        this.complianceResultRepository = complianceResultRepository;
+        this.complianceEvaluationService = complianceEvaluationService;
+        this.policyIdentifier = policyIdentifier;
+        this.cbomIds = cbomIds;
+        this.unknownProjectIdentifiers = unknownProjectIdentifiers;
+    }
+
+    /** Passes the result of each project to the consumer as soon as its chunk is evaluated. */
+    public void forEach(@Nonnull IResultConsumer consumer) throws IOException {
+        for (final String projectIdentifier : this.unknownProjectIdentifiers) {
+            consumer.accept(notFound(projectIdentifier));
+        }
+        final List<Map.Entry<String, UUID>> projects = new ArrayList<>(this.cbomIds.entrySet());
+        for (int from = 0; from < projects.size(); from += CHUNK_SIZE) {
+            final List<Map.Entry<String, UUID>> chunk =
+                    projects.subList(from, Math.min(from + CHUNK_SIZE, projects.size()));
+            for (final ProjectComplianceResult result : this.evaluate(chunk)) {
+                consumer.accept(result);
+            }
+        }
+    }
+
+    @Nonnull
+    private List<ProjectComplianceResult> evaluate(@Nonnull List<Map.Entry<String, UUID>> chunk) {
+        final List<UUID> ids = chunk.stream().map(Map.Entry::getValue).toList();
+        // results stored for the current version of the policy are served as they are
+        final Map<UUID, ComplianceResultReadModel> storedResults =
+                this.complianceResultRepository.findBy(ids, this.policyIdentifier.id()).stream()
+                        .filter(this.complianceEvaluationService::isCurrent)
+                        .collect(
+                                Collectors.toMap(
+                                        ComplianceResultReadModel::getCbomId,
+                                        Function.identity(),
+                                        (a, b) -> a));
+        final List<UUID> outdated =
+                ids.stream().filter(id -> !storedResults.containsKey(id)).toList();
+        final Map<UUID, Evaluation> evaluations =
+                this.readRepository.readAll(outdated).parallelStream()
+                        .map(this::evaluate)
+                        .collect(
+                                Collectors.toMap(
+                                        evaluation -> evaluation.cbomReadModel().getId(),
+                                        Function.identity()));
+        for (final Evaluation evaluation : evaluations.values()) {
+            if (evaluation.complianceResult() != null && !evaluation.complianceResult().error()) {
+                this.complianceResultRepository.save(
+                        this.complianceEvaluationService.toStored(
+                                evaluation.cbomReadModel().getId(),
+                                evaluation.cbomReadModel().getProjectIdentifier(),
+                                this.policyIdentifier,
+                                evaluation.complianceResult()));
+            }
+        }
+
+        final List<ProjectComplianceResult> results = new ArrayList<>(chunk.size());
+        for (final Map.Entry<String, UUID> project : chunk) {
+            final ComplianceResultReadModel storedResult = storedResults.get(project.getValue());
+            final Evaluation evaluation = evaluations.get(project.getValue());
+            if (storedResult != null) {
+                results.add(
+                        new ProjectComplianceResult(
+                                project.getKey(),
+                                this.complianceEvaluationService.fromStored(storedResult),
+                                null));
+            } else if (evaluation != null && evaluation.complianceResult() != null) {
+                results.add(
+                        new ProjectComplianceResult(
+                                project.getKey(), evaluation.complianceResult(), null));
+            } else if (evaluation != null) {
+                results.add(
+                        new ProjectComplianceResult(
+                                project.getKey(),
+                                null,
+                                "Could not read CBOM of " + project.getKey()));
+            } else {
+                results.add(notFound(project.getKey()));
+            }
+        }
+        return results;
+    }
+
+    @Nonnull
+    private Evaluation evaluate(@Nonnull CBOMReadModel cbomReadModel) {
+        try {
+            return new Evaluation(
+                    cbomReadModel,
+                    this.complianceEvaluationService.evaluate(
+                            this.policyIdentifier,
+                            new CompliancePreparationService()
+                                    .receiveCryptographicAssets(cbomReadModel)));
+        } catch (CBOMSerializationFailed e) {
+            LOGGER.error(e.getMessage(), e);
+            return new Evaluation(cbomReadModel, null);
+        }
+    }
+
+    @Nonnull
+    private static ProjectComplianceResult notFound(@Nonnull String projectIdentifier) {
+        return new ProjectComplianceResult(
+                projectIdentifier,
+                null,
+                new CouldNotFindCBOMForGitRepository(projectIdentifier).getMessage());
+    }
+}
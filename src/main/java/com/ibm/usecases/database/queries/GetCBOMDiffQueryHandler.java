@@ -0,0 +1,69 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.database.queries;
+
+import app.bootstrap.core.cqrs.IQueryBus;
+import app.bootstrap.core.cqrs.QueryHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ibm.infrastructure.database.readmodels.CBOMDelta;
+import com.ibm.infrastructure.database.readmodels.ICBOMVersionRepository;
+import com.ibm.usecases.database.errors.NoCBOMVersionFound;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class GetCBOMDiffQueryHandler extends QueryHandler<GetCBOMDiffQuery, CBOMDelta> {
+
+    @Nonnull private final ICBOMVersionRepository versionRepository;
+
+    void onStart(@Observes StartupEvent event) {
+        this.queryBus.register(this, GetCBOMDiffQuery.class);
+    }
+
+    public GetCBOMDiffQueryHandler(
+            @Nonnull IQueryBus queryBus, @Nonnull ICBOMVersionRepository versionRepository) {
+        super(queryBus);
+        this.versionRepository = versionRepository;
+    }
+
+    @Override
+    public @Nonnull CBOMDelta handle(@Nonnull GetCBOMDiffQuery getCBOMDiffQuery) throws Exception {
+        final JsonNode from =
+                this.readCommit(
+                        getCBOMDiffQuery.projectIdentifier(), getCBOMDiffQuery.fromCommit());
+        final JsonNode to =
+                this.readCommit(getCBOMDiffQuery.projectIdentifier(), getCBOMDiffQuery.toCommit());
+        return CBOMDelta.between(from, to);
+    }
+
+    @Nonnull
+    private JsonNode readCommit(@Nonnull String projectIdentifier, @Nonnull String commit)
+            throws NoCBOMVersionFound {
+        final long version =
+                this.versionRepository
+                        .findVersion(projectIdentifier, commit)
+                        .orElseThrow(() -> new NoCBOMVersionFound(projectIdentifier, commit));
+        return this.versionRepository
+                .readVersion(projectIdentifier, version)
+                .orElseThrow(() -> new NoCBOMVersionFound(projectIdentifier, commit));
+    }
+}
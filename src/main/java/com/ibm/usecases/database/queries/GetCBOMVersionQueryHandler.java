@@ -0,0 +1,58 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.database.queries;
+
+import app.bootstrap.core.cqrs.IQueryBus;
+import app.bootstrap.core.cqrs.QueryHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ibm.infrastructure.database.readmodels.ICBOMVersionRepository;
+import com.ibm.usecases.database.errors.NoCBOMVersionFound;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+
+@Singleton
+public class GetCBOMVersionQueryHandler extends QueryHandler<GetCBOMVersionQuery, JsonNode> {
+
+    @Nonnull private final ICBOMVersionRepository versionRepository;
+
+    void onStart(@Observes StartupEvent event) {
+        this.queryBus.register(this, GetCBOMVersionQuery.class);
+    }
+
+    public GetCBOMVersionQueryHandler(
+            @Nonnull IQueryBus queryBus, @Nonnull ICBOMVersionRepository versionRepository) {
+        super(queryBus);
+        this.versionRepository = versionRepository;
+    }
+
+    @Override
+    public @Nonnull JsonNode handle(@Nonnull GetCBOMVersionQuery getCBOMVersionQuery)
+            throws Exception {
+        return this.versionRepository
+                .readVersion(getCBOMVersionQuery.projectIdentifier(), getCBOMVersionQuery.version())
+                .orElseThrow(
+                        () ->
+                                new NoCBOMVersionFound(
+                                        getCBOMVersionQuery.projectIdentifier(),
+                                        String.valueOf(getCBOMVersionQuery.version())));
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.database.queries;
+
+import app.bootstrap.core.cqrs.IQuery;
+import com.ibm.infrastructure.database.readmodels.AssetSearchCriteria;
+import com.ibm.infrastructure.database.readmodels.AssetSearchPage;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.util.Optional;
+import java.util.UUID;
+
+public record SearchAssetsQuery(
+        @Nonnull AssetSearchCriteria criteria, @Nullable UUID after, @Nullable Integer limit)
+        implements IQuery<AssetSearchPage> {
+    public static final int MAX_LIMIT = 1000;
+
+    @Override
+    @Nonnull
+    public Integer limit() {
+        return Math.min(Optional.ofNullable(limit).orElse(100), MAX_LIMIT);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.commands;
+
+import app.bootstrap.core.cqrs.CommandHandler;
+import app.bootstrap.core.cqrs.ICommand;
+import app.bootstrap.core.cqrs.ICommandBus;
+import app.bootstrap.core.ddd.IRepository;
+import com.ibm.domain.scanning.ScanAggregate;
+import com.ibm.domain.scanning.ScanId;
+import com.ibm.usecases.scanning.projector.ProjectionRebuilder;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Nonnull;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Singleton
+public final class RebuildProjectionsCommandHandler extends CommandHandler<ScanId, ScanAggregate> {
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(RebuildProjectionsCommandHandler.class);
+
+    @Nonnull private final ProjectionRebuilder projectionRebuilder;
+
+    void onStart(@Observes StartupEvent event) {
+        this.commandBus.register(this);
+    }
+
+    public RebuildProjectionsCommandHandler(
+            @Nonnull ICommandBus commandBus,
+            @Nonnull IRepository<ScanId, ScanAggregate> repository,
+            @Nonnull ProjectionRebuilder projectionRebuilder) {
+        super(commandBus, repository);
+        this.projectionRebuilder = projectionRebuilder;
+    }
+
+    @Override
+    public void handle(@Nonnull ICommand command) {
+        if (command instanceof RebuildProjectionsCommand rebuildProjectionsCommand) {
+            // the rebuild runs in the background, its progress can be queried
+            if (!this.projectionRebuilder.start(
+                    rebuildProjectionsCommand.chunkSize(),
+                    rebuildProjectionsCommand.parallelism())) {
+                LOGGER.warn("A rebuild of the read models is already running");
+            }
+        }
+    }
+}
@@ -35,6 +35,7 @@ import com.ibm.domain.scanning.ScanMetadata;
 import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
 import com.ibm.domain.scanning.errors.ScanResultForLanguageAlreadyExists;
 import com.ibm.infrastructure.errors.ClientDisconnected;
+import com.ibm.infrastructure.errors.AggregatePersistenceFailed;
 import com.ibm.infrastructure.errors.EntityNotFoundById;
 import com.ibm.infrastructure.progress.IProgressDispatcher;
 import com.ibm.infrastructure.progress.ProgressMessage;
@@ -65,6 +66,7 @@ import com.ibm.usecases.scanning.services.pkg.TomlPackageFinderService;
 import com.ibm.usecases.scanning.services.resolve.DepsDevService;
 import com.ibm.usecases.scanning.services.resolve.GithubPurlResolver;
 import com.ibm.usecases.scanning.services.resolve.PurlResolver;
+import com.ibm.usecases.scanning.services.scan.OccurrenceLocationTable;
 import com.ibm.usecases.scanning.services.scan.ScanResultDTO;
 import com.ibm.usecases.scanning.services.scan.java.JavaScannerService;
 import com.ibm.usecases.scanning.services.scan.python.PythonScannerService;
@@ -88,6 +90,8 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
     @Nonnull private final String baseCloneDirPath;
     @Nonnull private final String javaDependencyJARSPath;
 
+    // the aggregate is only changed by this process manager, so it is read once and kept
+    @Nullable private ScanAggregate scanAggregate;
     @Nullable private File projectDirectory;
     @Nonnull private final Map<Language, List<ProjectModule>> index;
     @Nonnull private final Map<Language, IBuildType> buildTypes;
@@ -129,9 +133,7 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
         if (this.scanId != command.id()) {
             return;
         }
-        final Optional<ScanAggregate> possibleScanAggregate = this.repository.read(command.id());
-        final ScanAggregate scanAggregate =
-                possibleScanAggregate.orElseThrow(() -> new EntityNotFoundById(command.id()));
+        final ScanAggregate scanAggregate = this.readAggregate(command.id());
         final PackageURL purl =
                 scanAggregate.getPurl().orElseThrow(() -> new NoPurlSpecifiedForScan(scanId));
 
@@ -155,7 +157,7 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
                 }
             }
 
-            this.repository.save(scanAggregate);
+            this.save(scanAggregate);
 
             this.commandBus.send(
                     new CloneGitRepositoryCommand(command.id(), command.credentials()));
@@ -172,9 +174,7 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
         if (this.scanId != command.id()) {
             return;
         }
-        final Optional<ScanAggregate> possibleScanAggregate = this.repository.read(command.id());
-        final ScanAggregate scanAggregate =
-                possibleScanAggregate.orElseThrow(() -> new EntityNotFoundById(command.id()));
+        final ScanAggregate scanAggregate = this.readAggregate(command.id());
         final GitUrl gitUrl =
                 scanAggregate
                         .getGitUrl()
@@ -203,7 +203,7 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
                                 ProgressMessageType.REVISION_HASH, cloneResultDTO.commit().hash()));
                 scanAggregate.setCommitHash(cloneResultDTO.commit());
             }
-            this.repository.save(scanAggregate);
+            this.save(scanAggregate);
             // set subfolder
             this.commandBus.send(new IdentifyPackageFolderCommand(command.id()));
         } catch (GitCloneFailed gitCloneFailed) {
@@ -211,6 +211,7 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
             if (scanAggregate.getRevision().equals(ScanAggregate.REVISION_MAIN)) {
                 // delete old aggregate
                 this.repository.delete(scanId);
+                this.scanAggregate = null;
                 // emit new scan command with `master` branch
                 this.commandBus.send(
                         new RequestScanCommand(
@@ -241,10 +242,7 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
         }
 
         try {
-            final Optional<ScanAggregate> possibleScanAggregate =
-                    this.repository.read(command.id());
-            final ScanAggregate scanAggregate =
-                    possibleScanAggregate.orElseThrow(() -> new EntityNotFoundById(command.id()));
+            final ScanAggregate scanAggregate = this.readAggregate(command.id());
             final File dir =
                     Optional.ofNullable(this.projectDirectory)
                             .orElseThrow(GitCloneResultNotAvailable::new);
@@ -267,7 +265,7 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
                 // update aggregate
                 if (packagePath.isPresent()) {
                     scanAggregate.setPackageFolder(packagePath.get());
-                    this.repository.save(scanAggregate);
+                    this.save(scanAggregate);
                     // send data to frontend
                     this.progressDispatcher.send(
                             new ProgressMessage(
@@ -290,10 +288,7 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
         }
 
         try {
-            final Optional<ScanAggregate> possibleScanAggregate =
-                    this.repository.read(command.id());
-            final ScanAggregate scanAggregate =
-                    possibleScanAggregate.orElseThrow(() -> new EntityNotFoundById(command.id()));
+            final ScanAggregate scanAggregate = this.readAggregate(command.id());
             final File projectDir =
                     Optional.ofNullable(this.projectDirectory)
                             .orElseThrow(GitCloneResultNotAvailable::new);
@@ -339,10 +334,7 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
         }
 
         try {
-            final Optional<ScanAggregate> possibleScanAggregate =
-                    this.repository.read(command.id());
-            final ScanAggregate scanAggregate =
-                    possibleScanAggregate.orElseThrow(() -> new EntityNotFoundById(command.id()));
+            final ScanAggregate scanAggregate = this.readAggregate(command.id());
             final GitUrl gitUrl =
                     scanAggregate
                             .getGitUrl()
@@ -355,13 +347,20 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
             int numberOfScannedFiles;
             CBOM cbom = null;
 
+            final File scanDirectory =
+                    Optional.ofNullable(this.projectDirectory)
+                            .orElseThrow(NoProjectDirectoryProvided::new);
+            // occurrence locations are shared between all languages of this scan
+            final OccurrenceLocationTable occurrenceLocations =
+                    new OccurrenceLocationTable(scanDirectory);
+
             // java
             final JavaScannerService javaScannerService =
                     new JavaScannerService(
                             this.progressDispatcher,
                             this.javaDependencyJARSPath,
-                            Optional.ofNullable(this.projectDirectory)
-                                    .orElseThrow(NoProjectDirectoryProvided::new));
+                            scanDirectory,
+                            occurrenceLocations);
             final ScanResultDTO javaScanResultDTO =
                     javaScannerService.scan(
                             gitUrl,
@@ -392,9 +391,7 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
             // python
             final PythonScannerService pythonScannerService =
                     new PythonScannerService(
-                            this.progressDispatcher,
-                            Optional.ofNullable(this.projectDirectory)
-                                    .orElseThrow(NoProjectDirectoryProvided::new));
+                            this.progressDispatcher, scanDirectory, occurrenceLocations);
             final ScanResultDTO pythonScanResultDTO =
                     pythonScannerService.scan(
                             gitUrl,
@@ -428,7 +425,7 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
 
             // publish scan finished and save state
             scanAggregate.scanFinished();
-            this.repository.save(scanAggregate);
+            this.save(scanAggregate);
 
             this.progressDispatcher.send(
                     new ProgressMessage(
@@ -459,6 +456,28 @@ public final class ScanProcessManager extends ProcessManager<ScanId, ScanAggrega
         }
     }
 
+    /**
+     * Saves the aggregate. After a failed save, the kept aggregate is dropped and read again by the
+     * next command, since its events were committed without being stored.
+     */
+    private void save(@Nonnull ScanAggregate scanAggregate) {
+        try {
+            this.repository.save(scanAggregate);
+        } catch (AggregatePersistenceFailed e) {
+            this.scanAggregate = null;
+            throw e;
+        }
+    }
+
+    @Nonnull
+    private ScanAggregate readAggregate(@Nonnull ScanId id) throws EntityNotFoundById {
+        if (this.scanAggregate == null) {
+            this.scanAggregate =
+                    this.repository.read(id).orElseThrow(() -> new EntityNotFoundById(id));
+        }
+        return this.scanAggregate;
+    }
+
     @Override
     public void compensate(@Nonnull ScanId id) {
         // unregister process manager
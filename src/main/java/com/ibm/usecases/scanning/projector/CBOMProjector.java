@@ -23,6 +23,7 @@ import app.bootstrap.core.cqrs.Projector;
 import app.bootstrap.core.ddd.IDomainEvent;
 import app.bootstrap.core.ddd.IDomainEventBus;
 import app.bootstrap.core.ddd.IRepository;
+import com.ibm.domain.compliance.PolicyIdentifier;
 import com.ibm.domain.scanning.CBOM;
 import com.ibm.domain.scanning.Commit;
 import com.ibm.domain.scanning.GitUrl;
@@ -32,9 +33,22 @@ import com.ibm.domain.scanning.ScanId;
 import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
 import com.ibm.domain.scanning.errors.NoValidProjectIdentifierForScan;
 import com.ibm.domain.scanning.events.ScanFinishedEvent;
+import com.ibm.infrastructure.compliance.ComplianceLevel;
+import com.ibm.infrastructure.compliance.ComplianceServiceRegistry;
+import com.ibm.infrastructure.compliance.service.ComplianceCheckResultDTO;
+import com.ibm.infrastructure.compliance.service.ICryptographicAssetPolicyResult;
+import com.ibm.infrastructure.database.Transactions;
 import com.ibm.infrastructure.database.readmodels.CBOMReadModel;
+import com.ibm.infrastructure.database.readmodels.CBOMStatistics;
+import com.ibm.infrastructure.database.readmodels.ComplianceResultReadModel;
+import com.ibm.infrastructure.database.readmodels.CryptoAssetReadModel;
 import com.ibm.infrastructure.database.readmodels.ICBOMReadRepository;
+import com.ibm.infrastructure.database.readmodels.ICBOMVersionRepository;
+import com.ibm.infrastructure.database.readmodels.IComplianceResultReadRepository;
+import com.ibm.infrastructure.database.readmodels.ICryptoAssetReadRepository;
 import com.ibm.infrastructure.errors.EntityNotFoundById;
+import com.ibm.usecases.compliance.service.ComplianceEvaluationService;
+import com.ibm.usecases.compliance.service.CompliancePreparationService;
 import com.ibm.usecases.scanning.errors.NoCBOMForScan;
 import com.ibm.usecases.scanning.errors.NoGitUrlSpecifiedForScan;
 import io.quarkus.runtime.StartupEvent;
@@ -42,16 +56,42 @@ import jakarta.annotation.Nonnull;
 import jakarta.enterprise.event.Observes;
 import jakarta.inject.Singleton;
 import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Evidence;
+import org.cyclonedx.model.component.crypto.AlgorithmProperties;
+import org.cyclonedx.model.component.crypto.CryptoProperties;
+import org.cyclonedx.model.component.crypto.enums.AssetType;
+import org.cyclonedx.model.component.crypto.enums.Primitive;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @Singleton
 public class CBOMProjector extends Projector<UUID, CBOMReadModel> {
     private static final Logger LOGGER = LoggerFactory.getLogger(CBOMProjector.class);
+
+    private final Transactions transactions = new Transactions(CBOMProjector.class);
+
+    @Nonnull private final ICBOMReadRepository readRepository;
     @Nonnull private final IRepository<ScanId, ScanAggregate> sourceRepository;
+    @Nonnull private final ICryptoAssetReadRepository assetRepository;
+    @Nonnull private final IComplianceResultReadRepository complianceResultRepository;
+    @Nonnull private final ICBOMVersionRepository versionRepository;
+    @Nonnull private final ComplianceServiceRegistry complianceServiceRegistry;
+    @Nonnull private final ComplianceEvaluationService complianceEvaluationService;
 
     void onStart(@Observes StartupEvent event) {
         this.domainEventBus.subscribe(this);
@@ -60,9 +100,20 @@ public class CBOMProjector extends Projector<UUID, CBOMReadModel> {
     public CBOMProjector(
             @Nonnull IDomainEventBus domainEventBus,
             @Nonnull ICBOMReadRepository repository,
-            @Nonnull IRepository<ScanId, ScanAggregate> sourceRepository) {
+            @Nonnull IRepository<ScanId, ScanAggregate> sourceRepository,
+            @Nonnull ICryptoAssetReadRepository assetRepository,
+            @Nonnull IComplianceResultReadRepository complianceResultRepository,
+            @Nonnull ICBOMVersionRepository versionRepository,
+            @Nonnull ComplianceServiceRegistry complianceServiceRegistry) {
         super(domainEventBus, repository);
+        this.readRepository = repository;
         this.sourceRepository = sourceRepository;
+        this.assetRepository = assetRepository;
+        this.complianceResultRepository = complianceResultRepository;
+        this.versionRepository = versionRepository;
+        this.complianceServiceRegistry = complianceServiceRegistry;
+        this.complianceEvaluationService =
+                new ComplianceEvaluationService(complianceServiceRegistry);
     }
 
     @Override
@@ -73,32 +124,66 @@ public class CBOMProjector extends Projector<UUID, CBOMReadModel> {
     }
 
     private void handleScanFinishedEvent(@Nonnull ScanFinishedEvent scanFinishedEvent)
-            throws CBOMSerializationFailed,
-                    NoCBOMForScan,
-                    EntityNotFoundById,
-                    NoGitUrlSpecifiedForScan,
-                    NoValidProjectIdentifierForScan {
+            throws Exception {
         final ScanId scanId = scanFinishedEvent.getScanId();
         // fetch scan aggregate
         final Optional<ScanAggregate> possibleScanAggregate = this.sourceRepository.read(scanId);
         final ScanAggregate scanAggregate =
                 possibleScanAggregate.orElseThrow(() -> new EntityNotFoundById(scanId));
-        // delete existing read model
-        String projectIdentifier = scanAggregate.getProjectIdentifier();
-        if (this.repository instanceof ICBOMReadRepository cbomReadRepository) {
-            cbomReadRepository
-                    .findBy(projectIdentifier)
-                    .ifPresent(crm -> this.repository.delete(crm.getId()));
+        final String projectIdentifier = scanAggregate.getProjectIdentifier();
+        final Projection projection = this.project(scanAggregate, scanFinishedEvent.getTimestamp());
+        // all read models of the scan are replaced in one transaction, so that readers never see
+        // the CBOM of one commit with the assets or compliance results of another
+        final AtomicBoolean latest = new AtomicBoolean();
+        this.transactions.runRequiringNew(
+                "project",
+                () -> {
+                    // replace the read model of the project identifier, without a gap in which it
+                    // has none
+                    latest.set(this.readRepository.saveLatest(projection.readModel()));
+                    if (!latest.get()) {
+                        return;
+                    }
+                    // record the CBOM in the history of the project
+                    this.versionRepository.append(projection.readModel());
+                    this.assetRepository.replace(projectIdentifier, projection.assets());
+                    this.complianceResultRepository.replace(
+                            projectIdentifier, projection.complianceResults());
+                });
+        if (latest.get()) {
+            LOGGER.info("Stored CBOM for {}", projectIdentifier);
+        } else {
+            LOGGER.info(
+                    "Skipped CBOM for {}, a newer CBOM for the identifier exists",
+                    projectIdentifier);
         }
+    }
+
+    /** The read models of a scan, stored together. */
+    record Projection(
+            @Nonnull CBOMReadModel readModel,
+            @Nonnull Collection<CryptoAssetReadModel> assets,
+            @Nonnull List<ComplianceResultReadModel> complianceResults) {}
+
+    /**
+     * Builds the read models of a finished scan without storing them. Used for projecting new scans
+     * and for rebuilding the read models of stored scans.
+     */
+    @Nonnull
+    Projection project(@Nonnull ScanAggregate scanAggregate, @Nonnull Timestamp createdAt)
+            throws CBOMSerializationFailed,
+                    NoCBOMForScan,
+                    NoGitUrlSpecifiedForScan,
+                    NoValidProjectIdentifierForScan {
+        final ScanId scanId = scanAggregate.getId();
+        final String projectIdentifier = scanAggregate.getProjectIdentifier();
         // build merged CBOM
-        final List<CBOM> cbomList =
-                scanAggregate
-                        .getLanguageScans()
-                        .map(scans -> scans.stream().map(LanguageScan::icbom).toList())
-                        .orElseThrow(NoCBOMForScan::new);
-        // merge CBOMs for each language
+        final List<LanguageScan> languageScans =
+                scanAggregate.getLanguageScans().orElseThrow(NoCBOMForScan::new);
+        // merge CBOMs for each language, stored CBOMs are loaded here
         CBOM mergedCBOM = null;
-        for (final CBOM cbom : cbomList) {
+        for (final LanguageScan languageScan : languageScans) {
+            final CBOM cbom = languageScan.icbom();
             if (mergedCBOM == null) {
                 mergedCBOM = cbom;
             } else {
@@ -109,22 +194,158 @@ public class CBOMProjector extends Projector<UUID, CBOMReadModel> {
         if (mergedCBOM == null) {
             throw new NoCBOMForScan();
         }
+        final String gitUrl =
+                scanAggregate
+                        .getGitUrl()
+                        .map(GitUrl::value)
+                        .orElseThrow(() -> new NoGitUrlSpecifiedForScan(scanId));
+        final List<Component> components =
+                Optional.ofNullable(mergedCBOM.cycloneDXbom().getComponents())
+                        .orElse(Collections.emptyList());
+        // assets of the CBOM for the normalized inventory tables, with the component of each asset
+        final Map<CryptoAssetReadModel, Component> assets =
+                this.toAssets(scanId.getUuid(), projectIdentifier, gitUrl, createdAt, components);
+        // evaluate all policies once, so that compliance checks can be served from the results
+        final List<ComplianceResultReadModel> complianceResults =
+                this.evaluateCompliance(
+                        scanId.getUuid(), projectIdentifier, createdAt, components, assets);
         // create read model
         final CBOMReadModel cbomReadModel =
                 new CBOMReadModel(
-                        scanAggregate.getId().getUuid(),
+                        scanId.getUuid(),
                         projectIdentifier,
-                        scanAggregate
-                                .getGitUrl()
-                                .map(GitUrl::value)
-                                .orElseThrow(() -> new NoGitUrlSpecifiedForScan(scanId)),
+                        gitUrl,
                         scanAggregate.getRevision().value(),
                         scanAggregate.getPackageFolder().map(Path::toString).orElse(null),
                         scanAggregate.getCommit().map(Commit::hash).orElse(null),
-                        scanFinishedEvent.getTimestamp(),
+                        createdAt,
+                        this.toStatistics(assets.keySet()),
                         mergedCBOM.toJSON());
-        // save read model
-        this.repository.save(cbomReadModel);
-        LOGGER.info("Stored CBOM for {}", projectIdentifier);
+        return new Projection(cbomReadModel, assets.keySet(), complianceResults);
+    }
+
+    @Nonnull
+    private Map<CryptoAssetReadModel, Component> toAssets(
+            @Nonnull UUID cbomId,
+            @Nonnull String projectIdentifier,
+            @Nonnull String gitUrl,
+            @Nonnull Timestamp createdAt,
+            @Nonnull List<Component> components) {
+        final Map<CryptoAssetReadModel, Component> assets = new LinkedHashMap<>();
+        for (final Component component : components) {
+            if (component.getName() == null) {
+                continue;
+            }
+            final Optional<CryptoProperties> cryptoProperties =
+                    Optional.ofNullable(component.getCryptoProperties());
+            final Optional<AlgorithmProperties> algorithmProperties =
+                    cryptoProperties.map(CryptoProperties::getAlgorithmProperties);
+            final CryptoAssetReadModel asset =
+                    new CryptoAssetReadModel(
+                            cbomId,
+                            projectIdentifier,
+                            gitUrl,
+                            component.getBomRef(),
+                            component.getName(),
+                            cryptoProperties
+                                    .map(CryptoProperties::getAssetType)
+                                    .map(AssetType::getName)
+                                    .orElse(null),
+                            algorithmProperties
+                                    .map(AlgorithmProperties::getPrimitive)
+                                    .map(Primitive::getName)
+                                    .orElse(null),
+                            cryptoProperties.map(CryptoProperties::getOid).orElse(null),
+                            algorithmProperties
+                                    .map(AlgorithmProperties::getParameterSetIdentifier)
+                                    .orElse(null),
+                            algorithmProperties.map(AlgorithmProperties::getCurve).orElse(null),
+                            createdAt);
+            Optional.ofNullable(component.getEvidence())
+                    .map(Evidence::getOccurrences)
+                    .orElse(Collections.emptyList())
+                    .stream()
+                    .filter(occurrence -> occurrence.getLocation() != null)
+                    .forEach(
+                            occurrence ->
+                                    asset.addOccurrence(
+                                            occurrence.getLocation(),
+                                            occurrence.getLine(),
+                                            occurrence.getOffset()));
+            assets.put(asset, component);
+        }
+        return assets;
+    }
+
+    /**
+     * Evaluates the components against all policies. The components are evaluated as by a
+     * compliance check of the stored CBOM, so that the stored results can be served instead.
+     */
+    @Nonnull
+    private List<ComplianceResultReadModel> evaluateCompliance(
+            @Nonnull UUID cbomId,
+            @Nonnull String projectIdentifier,
+            @Nonnull Timestamp createdAt,
+            @Nonnull List<Component> components,
+            @Nonnull Map<CryptoAssetReadModel, Component> assets) {
+        final Map<Component, CryptoAssetReadModel> assetsByComponent = new IdentityHashMap<>();
+        assets.forEach((asset, component) -> assetsByComponent.put(component, asset));
+        final PolicyIdentifier defaultPolicy = this.complianceServiceRegistry.getDefaultPolicy();
+        final List<ComplianceResultReadModel> results = new ArrayList<>();
+        // all policies are evaluated in one pass over the assets
+        for (final Map.Entry<PolicyIdentifier, ComplianceCheckResultDTO> evaluation :
+                this.complianceServiceRegistry
+                        .evaluateAll(CompliancePreparationService.toCryptographicAssets(components))
+                        .entrySet()) {
+            final PolicyIdentifier policyIdentifier = evaluation.getKey();
+            final ComplianceCheckResultDTO complianceCheckResult = evaluation.getValue();
+            if (complianceCheckResult.error()) {
+                LOGGER.warn("Could not evaluate policy {}", policyIdentifier.id());
+                continue;
+            }
+            // store the compliance level according to the default policy to allow searching, the
+            // results are in the order of the components
+            if (policyIdentifier.equals(defaultPolicy)) {
+                final List<ICryptographicAssetPolicyResult> policyResults =
+                        List.copyOf(complianceCheckResult.policyResults());
+                for (int i = 0; i < components.size(); i++) {
+                    final CryptoAssetReadModel asset = assetsByComponent.get(components.get(i));
+                    if (asset != null) {
+                        asset.setComplianceLevel(policyResults.get(i).complianceLevel().id());
+                    }
+                }
+            }
+            results.add(
+                    this.complianceEvaluationService.toStored(
+                            cbomId,
+                            projectIdentifier,
+                            policyIdentifier,
+                            this.complianceEvaluationService.toResult(
+                                    policyIdentifier, complianceCheckResult),
+                            createdAt));
+        }
+        return results;
+    }
+
+    @Nonnull
+    private CBOMStatistics toStatistics(@Nonnull Collection<CryptoAssetReadModel> assets) {
+        final Set<Integer> unCompliantLevels =
+                this.complianceServiceRegistry.getDefaultService().getComplianceLevels().stream()
+                        .filter(ComplianceLevel::isUnCompliant)
+                        .map(ComplianceLevel::id)
+                        .collect(Collectors.toSet());
+        final Map<String, Integer> primitives = new TreeMap<>();
+        final Map<Integer, Integer> complianceLevels = new TreeMap<>();
+        boolean compliant = true;
+        for (final CryptoAssetReadModel asset : assets) {
+            if (asset.getPrimitive() != null) {
+                primitives.merge(asset.getPrimitive(), 1, Integer::sum);
+            }
+            if (asset.getComplianceLevel() != null) {
+                complianceLevels.merge(asset.getComplianceLevel(), 1, Integer::sum);
+                compliant &= !unCompliantLevels.contains(asset.getComplianceLevel());
+            }
+        }
+        return new CBOMStatistics(assets.size(), primitives, complianceLevels, compliant);
     }
 }
@@ -0,0 +1,63 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.projector;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import java.sql.Timestamp;
+
+/**
+ * Progress of a rebuild of the read models by {@link ProjectionRebuilder}.
+ *
+ * @param state the state of the rebuild
+ * @param scans the number of processed scans
+ * @param projected the number of scans whose read models were stored
+ * @param skipped the number of scans without CBOM or with a newer scan of the same project
+ * @param failed the number of scans that could not be projected
+ * @param startedAt the start of the rebuild (optional)
+ * @param finishedAt the end of the rebuild (optional)
+ * @param scansPerSecond the throughput of the rebuild
+ */
+public record ProjectionRebuildProgress(
+        @Nonnull State state,
+        long scans,
+        long projected,
+        long skipped,
+        long failed,
+        @Nullable Timestamp startedAt,
+        @Nullable Timestamp finishedAt,
+        double scansPerSecond) {
+
+    public enum State {
+        IDLE,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    @Nonnull
+    static ProjectionRebuildProgress idle() {
+        return new ProjectionRebuildProgress(State.IDLE, 0, 0, 0, 0, null, null, 0);
+    }
+
+    public boolean isRunning() {
+        return this.state == State.RUNNING;
+    }
+}
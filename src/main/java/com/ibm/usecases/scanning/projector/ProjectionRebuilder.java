@@ -0,0 +1,240 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.projector;
+
+import com.ibm.domain.scanning.LanguageScan;
+import com.ibm.domain.scanning.ScanAggregate;
+import com.ibm.domain.scanning.ScanId;
+import com.ibm.infrastructure.database.Transactions;
+import com.ibm.infrastructure.database.readmodels.ComplianceResultReadModel;
+import com.ibm.infrastructure.database.readmodels.CryptoAssetReadModel;
+import com.ibm.infrastructure.database.readmodels.ICBOMReadRepository;
+import com.ibm.infrastructure.database.readmodels.IComplianceResultReadRepository;
+import com.ibm.infrastructure.database.readmodels.ICryptoAssetReadRepository;
+import com.ibm.infrastructure.scanning.repositories.IScanRepository;
+import jakarta.annotation.Nonnull;
+import jakarta.inject.Singleton;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rebuilds the read models (CBOMs, assets, statistics and compliance results) of all stored scans
+ * without rescanning, e.g. after the shape of the read models changed.
+ *
+ * <p>The scans are read in chunks of ids. The scans of a chunk are reconstructed and projected in
+ * parallel, and the read models of a chunk are stored in one bulk write per table, so the memory
+ * used is bounded by the chunk size. Only the latest scan of each project is kept, as when
+ * projecting new scans. The time a scan finished is taken from the end of its last language scan.
+ */
+@Singleton
+public final class ProjectionRebuilder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProjectionRebuilder.class);
+
+    private record Counts(long projected, long skipped, long failed) {}
+
+    private final Transactions transactions = new Transactions(ProjectionRebuilder.class);
+
+    @Nonnull private final IScanRepository scanRepository;
+    @Nonnull private final CBOMProjector projector;
+    @Nonnull private final ICBOMReadRepository readRepository;
+    @Nonnull private final ICryptoAssetReadRepository assetRepository;
+    @Nonnull private final IComplianceResultReadRepository complianceResultRepository;
+    @Nonnull private final AtomicReference<ProjectionRebuildProgress> progress;
+
+    public ProjectionRebuilder(
+            @Nonnull IScanRepository scanRepository,
+            @Nonnull CBOMProjector projector,
+            @Nonnull ICBOMReadRepository readRepository,
+            @Nonnull ICryptoAssetReadRepository assetRepository,
+            @Nonnull IComplianceResultReadRepository complianceResultRepository) {
+        this.scanRepository = scanRepository;
+        this.projector = projector;
+        this.readRepository = readRepository;
+        this.assetRepository = assetRepository;
+        this.complianceResultRepository = complianceResultRepository;
+        this.progress = new AtomicReference<>(ProjectionRebuildProgress.idle());
+    }
+
+    @Nonnull
+    public ProjectionRebuildProgress getProgress() {
+        return this.progress.get();
+    }
+
+    /**
+     * Starts a rebuild in the background, unless a rebuild is already running.
+     *
+     * @param chunkSize the number of scans processed at once
+     * @param parallelism the number of scans projected in parallel
+     * @return whether the rebuild was started.
+     */
+    public boolean start(int chunkSize, int parallelism) {
+        final ProjectionRebuildProgress current = this.progress.get();
+        final ProjectionRebuildProgress started =
+                new ProjectionRebuildProgress(
+                        ProjectionRebuildProgress.State.RUNNING,
+                        0,
+                        0,
+                        0,
+                        0,
+                        new Timestamp(System.currentTimeMillis()),
+                        null,
+                        0);
+        if (current.isRunning() || !this.progress.compareAndSet(current, started)) {
+            return false;
+        }
+        Thread.ofPlatform()
+                .name("projection-rebuild")
+                .start(() -> this.run(Math.max(1, chunkSize), Math.max(1, parallelism)));
+        return true;
+    }
+
+    private void run(int chunkSize, int parallelism) {
+        LOGGER.info("Rebuilding read models in chunks of {} scans", chunkSize);
+        try (ExecutorService workers = Executors.newFixedThreadPool(parallelism)) {
+            List<ScanId> ids = this.scanRepository.readIds(null, chunkSize);
+            while (!ids.isEmpty()) {
+                final Counts counts = this.rebuild(ids, workers);
+                this.update(ProjectionRebuildProgress.State.RUNNING, ids.size(), counts);
+                final ProjectionRebuildProgress current = this.progress.get();
+                LOGGER.info(
+                        "Rebuilt read models of {} scans ({} stored, {} skipped, {} failed, {} scans/s)",
+                        current.scans(),
+                        current.projected(),
+                        current.skipped(),
+                        current.failed(),
+                        String.format("%.1f", current.scansPerSecond()));
+                ids = this.scanRepository.readIds(ids.getLast(), chunkSize);
+            }
+            this.update(ProjectionRebuildProgress.State.COMPLETED, 0, new Counts(0, 0, 0));
+            LOGGER.info("Rebuilt read models of {} scans", this.progress.get().scans());
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            this.update(ProjectionRebuildProgress.State.FAILED, 0, new Counts(0, 0, 0));
+        }
+    }
+
+    @Nonnull
+    private Counts rebuild(@Nonnull List<ScanId> ids, @Nonnull ExecutorService workers)
+            throws Exception {
+        final List<Future<Optional<CBOMProjector.Projection>>> futures = new ArrayList<>();
+        for (ScanId id : ids) {
+            futures.add(workers.submit(() -> this.project(id)));
+        }
+        final List<CBOMProjector.Projection> projections = new ArrayList<>();
+        long skipped = 0;
+        long failed = 0;
+        for (Future<Optional<CBOMProjector.Projection>> future : futures) {
+            try {
+                final Optional<CBOMProjector.Projection> projection = future.get();
+                if (projection.isPresent()) {
+                    projections.add(projection.get());
+                } else {
+                    skipped++;
+                }
+            } catch (ExecutionException e) {
+                LOGGER.warn("Could not project scan: {}", e.getCause().getMessage());
+                failed++;
+            }
+        }
+        // bulk writes in one transaction, only for the read models that were stored as the latest
+        // of their project
+        final Set<UUID> stored = new HashSet<>();
+        this.transactions.runRequiringNew(
+                "rebuild",
+                () -> {
+                    stored.addAll(
+                            this.readRepository.saveLatest(
+                                    projections.stream()
+                                            .map(CBOMProjector.Projection::readModel)
+                                            .toList()));
+                    final Map<String, List<CryptoAssetReadModel>> assets = new HashMap<>();
+                    final Map<String, List<ComplianceResultReadModel>> complianceResults =
+                            new HashMap<>();
+                    for (CBOMProjector.Projection projection : projections) {
+                        if (!stored.contains(projection.readModel().getId())) {
+                            continue;
+                        }
+                        final String projectIdentifier =
+                                projection.readModel().getProjectIdentifier();
+                        assets.put(projectIdentifier, new ArrayList<>(projection.assets()));
+                        complianceResults.put(projectIdentifier, projection.complianceResults());
+                    }
+                    this.assetRepository.replaceAll(assets);
+                    this.complianceResultRepository.replaceAll(complianceResults);
+                });
+        return new Counts(stored.size(), skipped + projections.size() - stored.size(), failed);
+    }
+
+    /** Returns the projection of a scan, or nothing if the scan has no CBOM. */
+    @Nonnull
+    private Optional<CBOMProjector.Projection> project(@Nonnull ScanId id) throws Exception {
+        final ScanAggregate scanAggregate =
+                this.scanRepository
+                        .read(id)
+                        .orElseThrow(() -> new IllegalStateException("Could not read scan " + id));
+        final List<LanguageScan> languageScans = scanAggregate.getLanguageScans().orElse(List.of());
+        if (languageScans.isEmpty()) {
+            return Optional.empty();
+        }
+        final long finishedAt =
+                languageScans.stream()
+                        .mapToLong(languageScan -> languageScan.scanMetadata().endTime())
+                        .max()
+                        .orElseThrow();
+        return Optional.of(this.projector.project(scanAggregate, new Timestamp(finishedAt)));
+    }
+
+    private void update(
+            @Nonnull ProjectionRebuildProgress.State state, long scans, @Nonnull Counts counts) {
+        this.progress.updateAndGet(
+                current -> {
+                    final long now = System.currentTimeMillis();
+                    final Timestamp startedAt = current.startedAt();
+                    final long total = current.scans() + scans;
+                    final double seconds =
+                            startedAt == null ? 0 : (now - startedAt.getTime()) / 1000.0;
+                    return new ProjectionRebuildProgress(
+                            state,
+                            total,
+                            current.projected() + counts.projected(),
+                            current.skipped() + counts.skipped(),
+                            current.failed() + counts.failed(),
+                            startedAt,
+                            state == ProjectionRebuildProgress.State.RUNNING
+                                    ? null
+                                    : new Timestamp(now),
+                            seconds > 0 ? total / seconds : 0);
+                });
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.services.scan;
+
+import jakarta.annotation.Nonnull;
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Evidence;
+import org.cyclonedx.model.component.evidence.Occurrence;
+
+/**
+ * Interning table for occurrence locations, shared by all scanner services of a single scan.
+ *
+ * <p>Locations reported by the scanners are absolute paths. They are rewritten relative to the
+ * project directory the first time they are seen, and every later occurrence in the same file
+ * resolves to the same string instance with a single lookup.
+ */
+public final class OccurrenceLocationTable {
+    @Nonnull private final String baseDirPrefix;
+    @Nonnull private final Map<String, String> locations;
+
+    public OccurrenceLocationTable(@Nonnull File projectDirectory) {
+        this.baseDirPrefix = projectDirectory.getAbsolutePath() + File.separator;
+        this.locations = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the interned location relative to the project directory. Locations outside the
+     * project directory and already relative locations are interned unchanged.
+     */
+    @Nonnull
+    public String relativize(@Nonnull String location) {
+        final String known = this.locations.get(location);
+        if (known != null) {
+            return known;
+        }
+        String relative = location;
+        if (location.startsWith(this.baseDirPrefix)) {
+            relative = location.substring(this.baseDirPrefix.length());
+        }
+        // map the relative location to itself, so rewriting an already rewritten component is a
+        // plain lookup
+        final String interned =
+                Optional.ofNullable(this.locations.putIfAbsent(relative, relative))
+                        .orElse(relative);
+        this.locations.putIfAbsent(location, interned);
+        return interned;
+    }
+
+    public void relativize(@Nonnull Component component) {
+        final List<Occurrence> occurrenceList =
+                Optional.ofNullable(component.getEvidence())
+                        .map(Evidence::getOccurrences)
+                        .orElse(Collections.emptyList());
+        for (Occurrence occurrence : occurrenceList) {
+            if (occurrence.getLocation() != null) {
+                occurrence.setLocation(relativize(occurrence.getLocation()));
+            }
+        }
+    }
+}
@@ -36,15 +36,11 @@ import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import java.io.File;
 import java.nio.file.Path;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.cyclonedx.model.Bom;
-import org.cyclonedx.model.Component;
-import org.cyclonedx.model.Evidence;
 import org.cyclonedx.model.Metadata;
 import org.cyclonedx.model.Property;
-import org.cyclonedx.model.component.evidence.Occurrence;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -54,12 +50,21 @@ public abstract class ScannerService implements IScannerService {
     @Nonnull protected final IProgressDispatcher progressDispatcher;
     @Nonnull protected final File projectDirectory;
     @Nonnull protected final CBOMOutputFile cbomOutputFile;
+    @Nonnull protected final OccurrenceLocationTable occurrenceLocations;
 
     protected ScannerService(
             @Nonnull IProgressDispatcher progressDispatcher, @Nonnull File projectDirectory) {
+        this(progressDispatcher, projectDirectory, new OccurrenceLocationTable(projectDirectory));
+    }
+
+    protected ScannerService(
+            @Nonnull IProgressDispatcher progressDispatcher,
+            @Nonnull File projectDirectory,
+            @Nonnull OccurrenceLocationTable occurrenceLocations) {
         this.progressDispatcher = progressDispatcher;
         this.projectDirectory = projectDirectory;
         this.cbomOutputFile = new CBOMOutputFile();
+        this.occurrenceLocations = occurrenceLocations;
     }
 
     @Override
@@ -75,7 +80,7 @@ public abstract class ScannerService implements IScannerService {
                 .getComponents()
                 .forEach(
                         component -> {
-                            sanitizeOccurrence(this.projectDirectory, component);
+                            this.occurrenceLocations.relativize(component);
                             try {
                                 this.progressDispatcher.send(
                                         new ProgressMessage(
@@ -89,15 +94,14 @@ public abstract class ScannerService implements IScannerService {
 
     @Nonnull
     protected synchronized Optional<Bom> receiveBom(
-            @Nonnull File projectDirectory,
             @Nonnull GitUrl gitUrl,
             @Nonnull Revision revision,
             @Nonnull Commit commit,
             @Nullable Path packageFolder) {
 
         final Bom bom = this.cbomOutputFile.getBom();
-        // sanitizeOccurrence
-        bom.getComponents().forEach(component -> sanitizeOccurrence(projectDirectory, component));
+        // relative occurrence locations (already known from the detections)
+        bom.getComponents().forEach(this.occurrenceLocations::relativize);
         // add metadata
         final Metadata metadata = new Metadata();
 
@@ -131,24 +135,4 @@ public abstract class ScannerService implements IScannerService {
 
         return Optional.of(bom);
     }
-
-    static void sanitizeOccurrence(
-            @Nonnull final File projectDirectory, @Nonnull Component component) {
-        List<Occurrence> occurrenceList =
-                Optional.ofNullable(component.getEvidence())
-                        .map(Evidence::getOccurrences)
-                        .orElse(Collections.emptyList());
-
-        if (occurrenceList.isEmpty()) {
-            return;
-        }
-        final String baseDirPath = projectDirectory.getAbsolutePath();
-        occurrenceList.forEach(
-                occurrence -> {
-                    if (occurrence.getLocation().startsWith(baseDirPath)) {
-                        occurrence.setLocation(
-                                occurrence.getLocation().substring(baseDirPath.length() + 1));
-                    }
-                });
-    }
 }
@@ -28,6 +28,7 @@ import com.ibm.infrastructure.progress.IProgressDispatcher;
 import com.ibm.infrastructure.progress.ProgressMessage;
 import com.ibm.infrastructure.progress.ProgressMessageType;
 import com.ibm.usecases.scanning.services.indexing.ProjectModule;
+import com.ibm.usecases.scanning.services.scan.OccurrenceLocationTable;
 import com.ibm.usecases.scanning.services.scan.ScanResultDTO;
 import com.ibm.usecases.scanning.services.scan.ScannerService;
 import jakarta.annotation.Nonnull;
@@ -64,6 +65,15 @@ public final class JavaScannerService extends ScannerService {
         this.getJavaDependencyJARSPath = getJavaDependencyJARSPath;
     }
 
+    public JavaScannerService(
+            @Nonnull IProgressDispatcher progressDispatcher,
+            @Nonnull String getJavaDependencyJARSPath,
+            @Nonnull File projectDirectory,
+            @Nonnull OccurrenceLocationTable occurrenceLocations) {
+        super(progressDispatcher, projectDirectory, occurrenceLocations);
+        this.getJavaDependencyJARSPath = getJavaDependencyJARSPath;
+    }
+
     @Override
     @Nonnull
     public synchronized ScanResultDTO scan(
@@ -134,7 +144,7 @@ public final class JavaScannerService extends ScannerService {
                 System.currentTimeMillis(),
                 numberOfScannedLines,
                 numberOfScannedFiles,
-                this.receiveBom(projectDirectory, gitUrl, revision, commit, packageFolder)
+                this.receiveBom(gitUrl, revision, commit, packageFolder)
                         .map(CBOM::new)
                         .orElse(null));
     }
@@ -28,6 +28,7 @@ import com.ibm.infrastructure.progress.IProgressDispatcher;
 import com.ibm.infrastructure.progress.ProgressMessage;
 import com.ibm.infrastructure.progress.ProgressMessageType;
 import com.ibm.usecases.scanning.services.indexing.ProjectModule;
+import com.ibm.usecases.scanning.services.scan.OccurrenceLocationTable;
 import com.ibm.usecases.scanning.services.scan.ScanResultDTO;
 import com.ibm.usecases.scanning.services.scan.ScannerService;
 import jakarta.annotation.Nonnull;
@@ -47,6 +48,13 @@ public final class PythonScannerService extends ScannerService {
         super(progressDispatcher, projectDirectory);
     }
 
+    public PythonScannerService(
+            @Nonnull IProgressDispatcher progressDispatcher,
+            @Nonnull File projectDirectory,
+            @Nonnull OccurrenceLocationTable occurrenceLocations) {
+        super(progressDispatcher, projectDirectory, occurrenceLocations);
+    }
+
     @Override
     public @Nonnull ScanResultDTO scan(
             @Nonnull GitUrl gitUrl,
@@ -93,7 +101,7 @@ public final class PythonScannerService extends ScannerService {
                 System.currentTimeMillis(),
                 numberOfScannedLines,
                 numberOfScannedFiles,
-                this.receiveBom(projectDirectory, gitUrl, revision, commit, packageFolder)
+                this.receiveBom(gitUrl, revision, commit, packageFolder)
                         .map(CBOM::new)
                         .orElse(null));
     }
@@ -0,0 +1,299 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ibm.domain.compliance.CryptographicAsset;
+import com.ibm.domain.compliance.PolicyIdentifier;
+import com.ibm.infrastructure.compliance.service.BasicQuantumSafeComplianceService;
+import com.ibm.infrastructure.compliance.service.ComplianceCheckResultDTO;
+import com.ibm.infrastructure.compliance.service.DeprecatedAlgorithmComplianceService;
+import com.ibm.infrastructure.compliance.service.IComplianceService;
+import com.ibm.infrastructure.compliance.service.ICryptographicAssetPolicyResult;
+import com.ibm.infrastructure.compliance.service.KeyLengthComplianceService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.Nonnull;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.component.crypto.AlgorithmProperties;
+import org.cyclonedx.model.component.crypto.CryptoProperties;
+import org.cyclonedx.model.component.crypto.enums.Primitive;
+import org.junit.jupiter.api.Test;
+
+class ComplianceServiceRegistryTest {
+    private static final PolicyIdentifier QUANTUM_SAFE = new PolicyIdentifier("quantum_safe");
+    private static final PolicyIdentifier KEY_LENGTH = new PolicyIdentifier("key_length");
+    private static final PolicyIdentifier DEPRECATED =
+            new PolicyIdentifier("deprecated_algorithms");
+
+    private static CryptographicAsset asset(String identifier, String name, Primitive primitive) {
+        final AlgorithmProperties algorithmProperties = new AlgorithmProperties();
+        algorithmProperties.setPrimitive(primitive);
+        final CryptoProperties cryptoProperties = new CryptoProperties();
+        cryptoProperties.setAlgorithmProperties(algorithmProperties);
+        final Component component = new Component();
+        component.setName(name);
+        component.setCryptoProperties(cryptoProperties);
+        return new CryptographicAsset(identifier, component);
+    }
+
+    private static ComplianceServiceRegistry registry(int cacheSize) {
+        return new ComplianceServiceRegistry(
+                List.of(
+                        new BasicQuantumSafeComplianceService(),
+                        new KeyLengthComplianceService(),
+                        new DeprecatedAlgorithmComplianceService()),
+                cacheSize,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void evaluatesAllPolicies() {
+        final ComplianceServiceRegistry registry = registry(100);
+        final Map<PolicyIdentifier, ComplianceCheckResultDTO> results =
+                registry.evaluateAll(
+                        List.of(
+                                asset("1", "RSA-1024", Primitive.PKE),
+                                asset("2", "ML-KEM-768", Primitive.KEM),
+                                asset("3", "MD5", Primitive.HASH)));
+
+        assertThat(registry.getDefaultPolicy()).isEqualTo(QUANTUM_SAFE);
+        assertThat(results.keySet()).containsExactly(QUANTUM_SAFE, KEY_LENGTH, DEPRECATED);
+        assertThat(results.get(QUANTUM_SAFE).policyResults())
+                .extracting(r -> r.complianceLevel().id())
+                .containsExactly(1, 3, 4);
+        assertThat(results.get(KEY_LENGTH).policyResults())
+                .extracting(r -> r.complianceLevel().id())
+                .containsExactly(1, 4, 4);
+        assertThat(results.get(DEPRECATED).policyResults())
+                .extracting(r -> r.complianceLevel().id())
+                .containsExactly(2, 2, 1);
+    }
+
+    @Test
+    void returnsErrorForUnknownPolicy() {
+        final ComplianceCheckResultDTO result =
+                registry(100)
+                        .evaluate(
+                                new PolicyIdentifier("unknown"),
+                                List.of(asset("1", "RSA", Primitive.PKE)));
+
+        assertThat(result.error()).isTrue();
+        assertThat(result.policyResults()).isEmpty();
+    }
+
+    @Test
+    void rejectsPoliciesProvidedTwice() {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final List<IComplianceService> services =
+                List.of(new KeyLengthComplianceService(), new KeyLengthComplianceService());
+        assertThatThrownBy(() -> new ComplianceServiceRegistry(services, 100, meterRegistry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void cachesResultsByFingerprint() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final KeyLengthComplianceService service =
+                new KeyLengthComplianceService() {
+                    @Override
+                    public @Nonnull ICryptographicAssetPolicyResult evaluate(
+                            @Nonnull PolicyIdentifier policyIdentifier,
+                            @Nonnull CryptographicAsset cryptographicAsset) {
+                        evaluations.incrementAndGet();
+                        return super.evaluate(policyIdentifier, cryptographicAsset);
+                    }
+                };
+        final ComplianceServiceRegistry registry =
+                new ComplianceServiceRegistry(List.of(service), 100, new SimpleMeterRegistry());
+
+        final ComplianceCheckResultDTO result =
+                registry.evaluate(
+                        KEY_LENGTH,
+                        List.of(
+                                asset("1", "AES-256-GCM", Primitive.AE),
+                                asset("2", "AES-256-GCM", Primitive.AE),
+                                asset("3", "AES-128-GCM", Primitive.AE)));
+        registry.evaluate(KEY_LENGTH, List.of(asset("4", "AES-256-GCM", Primitive.AE)));
+
+        assertThat(evaluations).hasValue(2);
+        assertThat(result.policyResults())
+                .extracting(ICryptographicAssetPolicyResult::identifier)
+                .containsExactly("1", "2", "3");
+        assertThat(result.policyResults())
+                .extracting(r -> r.complianceLevel().id())
+                .containsExactly(3, 3, 3);
+    }
+
+    @Test
+    void expiresResultsAfterTheirTimeToLive() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        final KeyLengthComplianceService service =
+                new KeyLengthComplianceService() {
+                    @Override
+                    public @Nonnull Optional<Duration> getResultTimeToLive() {
+                        return Optional.of(Duration.ZERO);
+                    }
+
+                    @Override
+                    public @Nonnull ICryptographicAssetPolicyResult evaluate(
+                            @Nonnull PolicyIdentifier policyIdentifier,
+                            @Nonnull CryptographicAsset cryptographicAsset) {
+                        evaluations.incrementAndGet();
+                        return super.evaluate(policyIdentifier, cryptographicAsset);
+                    }
+                };
+        final ComplianceServiceRegistry registry =
+                new ComplianceServiceRegistry(List.of(service), 100, new SimpleMeterRegistry());
+
+        registry.evaluate(KEY_LENGTH, List.of(asset("1", "AES-256-GCM", Primitive.AE)));
+        registry.evaluate(KEY_LENGTH, List.of(asset("2", "AES-256-GCM", Primitive.AE)));
+
+        assertThat(evaluations).hasValue(2);
+    }
+
+    @Test
+    void keepsOrderOfLargeCollections() {
+        final ComplianceServiceRegistry registry = registry(100);
+        final List<CryptographicAsset> assets =
+                IntStream.range(0, 100_000)
+                        .mapToObj(
+                                i ->
+                                        asset(
+                                                String.valueOf(i),
+                                                i % 2 == 0 ? "Kyber-512" : "ECDH",
+                                                Primitive.KEY_AGREE))
+                        .toList();
+
+        final List<ICryptographicAssetPolicyResult> results =
+                List.copyOf(registry.evaluate(QUANTUM_SAFE, assets).policyResults());
+
+        assertThat(results).hasSize(assets.size());
+        for (int i = 0; i < assets.size(); i++) {
+            assertThat(results.get(i).identifier()).isEqualTo(String.valueOf(i));
+            assertThat(results.get(i).complianceLevel().id()).isEqualTo(i % 2 == 0 ? 3 : 1);
+        }
+    }
+
+    @Test
+    void matchesResultsByIdentifier() {
+        final KeyLengthComplianceService service =
+                new KeyLengthComplianceService() {
+                    @Override
+                    public @Nonnull ComplianceCheckResultDTO evaluate(
+                            @Nonnull PolicyIdentifier policyIdentifier,
+                            @Nonnull Collection<CryptographicAsset> cryptographicAssets) {
+                        final List<ICryptographicAssetPolicyResult> results =
+                                new ArrayList<>(
+                                        super.evaluate(policyIdentifier, cryptographicAssets)
+                                                .policyResults());
+                        Collections.reverse(results);
+                        return new ComplianceCheckResultDTO(results, false);
+                    }
+                };
+        final ComplianceServiceRegistry registry =
+                new ComplianceServiceRegistry(List.of(service), 100, new SimpleMeterRegistry());
+
+        final ComplianceCheckResultDTO result =
+                registry.evaluate(
+                        KEY_LENGTH,
+                        List.of(
+                                asset("1", "RSA-1024", Primitive.PKE),
+                                asset("2", "AES-256-GCM", Primitive.AE)));
+
+        assertThat(result.policyResults())
+                .extracting(ICryptographicAssetPolicyResult::identifier)
+                .containsExactly("1", "2");
+        assertThat(result.policyResults())
+                .extracting(r -> r.complianceLevel().id())
+                .containsExactly(1, 3);
+    }
+
+    @Test
+    void doesNotCacheIncompleteResults() {
+        final AtomicInteger calls = new AtomicInteger();
+        final KeyLengthComplianceService service =
+                new KeyLengthComplianceService() {
+                    @Override
+                    public @Nonnull ComplianceCheckResultDTO evaluate(
+                            @Nonnull PolicyIdentifier policyIdentifier,
+                            @Nonnull Collection<CryptographicAsset> cryptographicAssets) {
+                        final ComplianceCheckResultDTO result =
+                                super.evaluate(policyIdentifier, cryptographicAssets);
+                        // the first call drops the result of the last asset
+                        return calls.getAndIncrement() > 0
+                                ? result
+                                : new ComplianceCheckResultDTO(
+                                        result.policyResults().stream()
+                                                .limit(cryptographicAssets.size() - 1)
+                                                .toList(),
+                                        false);
+                    }
+                };
+        final ComplianceServiceRegistry registry =
+                new ComplianceServiceRegistry(List.of(service), 100, new SimpleMeterRegistry());
+        final List<CryptographicAsset> assets =
+                List.of(
+                        asset("1", "RSA-1024", Primitive.PKE),
+                        asset("2", "AES-256-GCM", Primitive.AE));
+
+        assertThat(registry.evaluate(KEY_LENGTH, assets).error()).isTrue();
+
+        final ComplianceCheckResultDTO result = registry.evaluate(KEY_LENGTH, assets);
+        assertThat(calls).hasValue(2);
+        assertThat(result.error()).isFalse();
+        assertThat(result.policyResults())
+                .extracting(r -> r.complianceLevel().id())
+                .containsExactly(1, 3);
+    }
+
+    @Test
+    void closesEachServiceOnce() {
+        final AtomicInteger closed = new AtomicInteger();
+        final class ClosableService extends KeyLengthComplianceService implements AutoCloseable {
+            @Override
+            public @Nonnull List<PolicyIdentifier> getPolicies() {
+                return List.of(KEY_LENGTH, new PolicyIdentifier("key_length_strict"));
+            }
+
+            @Override
+            public void close() {
+                closed.incrementAndGet();
+            }
+        }
+        final ComplianceServiceRegistry registry =
+                new ComplianceServiceRegistry(
+                        List.of(new ClosableService()), 100, new SimpleMeterRegistry());
+
+        registry.close();
+
+        assertThat(closed).hasValue(1);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.Evidence;
+import org.cyclonedx.model.component.crypto.AlgorithmProperties;
+import org.cyclonedx.model.component.crypto.CryptoProperties;
+import org.cyclonedx.model.component.crypto.RelatedCryptoMaterialProperties;
+import org.cyclonedx.model.component.crypto.enums.AssetType;
+import org.cyclonedx.model.component.crypto.enums.ExecutionEnvironment;
+import org.cyclonedx.model.component.crypto.enums.Mode;
+import org.cyclonedx.model.component.crypto.enums.Primitive;
+import org.cyclonedx.model.component.evidence.Occurrence;
+import org.junit.jupiter.api.Test;
+
+class AssetFingerprintTest {
+
+    private static Component component(String bomRef, String name, Mode mode, String location) {
+        final AlgorithmProperties algorithmProperties = new AlgorithmProperties();
+        algorithmProperties.setPrimitive(Primitive.AE);
+        algorithmProperties.setParameterSetIdentifier("256");
+        algorithmProperties.setMode(mode);
+        final CryptoProperties cryptoProperties = new CryptoProperties();
+        cryptoProperties.setAssetType(AssetType.ALGORITHM);
+        cryptoProperties.setAlgorithmProperties(algorithmProperties);
+        final Occurrence occurrence = new Occurrence();
+        occurrence.setLocation(location);
+        final Evidence evidence = new Evidence();
+        evidence.setOccurrences(List.of(occurrence));
+        final Component component = new Component();
+        component.setBomRef(bomRef);
+        component.setName(name);
+        component.setCryptoProperties(cryptoProperties);
+        component.setEvidence(evidence);
+        return component;
+    }
+
+    @Test
+    void ignoresLocationAndNameCase() {
+        assertThat(AssetFingerprint.of(component("1", "AES-256-GCM", Mode.GCM, "A.java")))
+                .isEqualTo(AssetFingerprint.of(component("2", "aes-256-gcm", Mode.GCM, "B.java")));
+    }
+
+    @Test
+    void dependsOnCryptoProperties() {
+        assertThat(AssetFingerprint.of(component("1", "AES", Mode.GCM, "A.java")))
+                .isNotEqualTo(AssetFingerprint.of(component("1", "AES", Mode.ECB, "A.java")));
+        assertThat(AssetFingerprint.of(component("1", "AES", Mode.GCM, "A.java")))
+                .isNotEqualTo(AssetFingerprint.of(new Component()));
+        final Component withKeySize = component("1", "AES", Mode.GCM, "A.java");
+        final RelatedCryptoMaterialProperties key = new RelatedCryptoMaterialProperties();
+        key.setSize(256);
+        withKeySize.getCryptoProperties().setRelatedCryptoMaterialProperties(key);
+        assertThat(AssetFingerprint.of(withKeySize))
+                .isNotEqualTo(AssetFingerprint.of(component("1", "AES", Mode.GCM, "A.java")));
+    }
+
+    @Test
+    void policyPropertiesIgnoreOtherCryptoProperties() {
+        final Component withExecutionEnvironment = component("1", "AES", Mode.GCM, "A.java");
+        withExecutionEnvironment
+                .getCryptoProperties()
+                .getAlgorithmProperties()
+                .setExecutionEnvironment(ExecutionEnvironment.HARDWARE);
+        final Component plain = component("1", "AES", Mode.GCM, "A.java");
+
+        assertThat(AssetFingerprint.Scope.POLICY_PROPERTIES.of(withExecutionEnvironment))
+                .isEqualTo(AssetFingerprint.Scope.POLICY_PROPERTIES.of(plain));
+        assertThat(AssetFingerprint.Scope.CRYPTO_PROPERTIES.of(withExecutionEnvironment))
+                .isNotEqualTo(AssetFingerprint.Scope.CRYPTO_PROPERTIES.of(plain));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ibm.domain.compliance.CryptographicAsset;
+import com.ibm.domain.compliance.PolicyIdentifier;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.component.crypto.AlgorithmProperties;
+import org.cyclonedx.model.component.crypto.CryptoProperties;
+import org.cyclonedx.model.component.crypto.enums.Primitive;
+import org.junit.jupiter.api.Test;
+
+class BasicQuantumSafeComplianceServiceTest {
+    private static final PolicyIdentifier QUANTUM_SAFE = new PolicyIdentifier("quantum_safe");
+
+    private static CryptographicAsset asset(
+            String identifier, String name, Primitive primitive, String oid) {
+        final AlgorithmProperties algorithmProperties = new AlgorithmProperties();
+        algorithmProperties.setPrimitive(primitive);
+        final CryptoProperties cryptoProperties = new CryptoProperties();
+        cryptoProperties.setAlgorithmProperties(algorithmProperties);
+        cryptoProperties.setOid(oid);
+        final Component component = new Component();
+        component.setName(name);
+        component.setCryptoProperties(cryptoProperties);
+        return new CryptographicAsset(identifier, component);
+    }
+
+    @Test
+    void evaluatesBundledRules() {
+        final BasicQuantumSafeComplianceService service = new BasicQuantumSafeComplianceService();
+        final ComplianceCheckResultDTO result =
+                service.evaluate(
+                        QUANTUM_SAFE,
+                        List.of(
+                                asset("1", "ML-KEM-768", Primitive.KEM, null),
+                                asset("2", "RSA-2048", Primitive.PKE, null),
+                                asset("3", "unnamed", Primitive.SIGNATURE, "1.3.9999.6.4.16"),
+                                asset("4", "AES-128-GCM", Primitive.AE, null),
+                                asset("5", "custom", Primitive.OTHER, null)));
+
+        assertThat(result.error()).isFalse();
+        assertThat(result.policyResults())
+                .extracting(r -> r.complianceLevel().id())
+                .containsExactly(3, 1, 3, 4, 2);
+        assertThat(result.policyResults().iterator().next().message()).contains("'ml-kem'");
+        assertThat(service.getPolicyVersion(QUANTUM_SAFE)).isEqualTo("2");
+    }
+
+    @Test
+    void keepsOrderOfLargeCollections() {
+        final BasicQuantumSafeComplianceService service = new BasicQuantumSafeComplianceService();
+        final List<CryptographicAsset> assets =
+                IntStream.range(0, 100_000)
+                        .mapToObj(
+                                i ->
+                                        asset(
+                                                String.valueOf(i),
+                                                i % 2 == 0 ? "Kyber-512" : "ECDH",
+                                                Primitive.KEY_AGREE,
+                                                null))
+                        .toList();
+
+        final List<ICryptographicAssetPolicyResult> results =
+                List.copyOf(service.evaluate(QUANTUM_SAFE, assets).policyResults());
+
+        assertThat(results).hasSize(assets.size());
+        for (int i = 0; i < assets.size(); i++) {
+            assertThat(results.get(i).identifier()).isEqualTo(String.valueOf(i));
+            assertThat(results.get(i).complianceLevel().id()).isEqualTo(i % 2 == 0 ? 3 : 1);
+        }
+    }
+}
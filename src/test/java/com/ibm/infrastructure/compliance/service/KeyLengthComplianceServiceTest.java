@@ -0,0 +1,73 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ibm.domain.compliance.CryptographicAsset;
+import com.ibm.domain.compliance.PolicyIdentifier;
+import java.util.List;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.component.crypto.AlgorithmProperties;
+import org.cyclonedx.model.component.crypto.CryptoProperties;
+import org.cyclonedx.model.component.crypto.enums.Primitive;
+import org.junit.jupiter.api.Test;
+
+class KeyLengthComplianceServiceTest {
+    private static final PolicyIdentifier KEY_LENGTH = new PolicyIdentifier("key_length");
+
+    private static CryptographicAsset asset(
+            String name, Primitive primitive, String parameterSetIdentifier, String curve) {
+        final AlgorithmProperties algorithmProperties = new AlgorithmProperties();
+        algorithmProperties.setPrimitive(primitive);
+        algorithmProperties.setParameterSetIdentifier(parameterSetIdentifier);
+        algorithmProperties.setCurve(curve);
+        final CryptoProperties cryptoProperties = new CryptoProperties();
+        cryptoProperties.setAlgorithmProperties(algorithmProperties);
+        final Component component = new Component();
+        component.setName(name);
+        component.setCryptoProperties(cryptoProperties);
+        return new CryptographicAsset(name, component);
+    }
+
+    @Test
+    void evaluatesKeyLengths() {
+        final ComplianceCheckResultDTO result =
+                new KeyLengthComplianceService()
+                        .evaluate(
+                                KEY_LENGTH,
+                                List.of(
+                                        asset("RSA", Primitive.PKE, "3072", null),
+                                        asset("RSA-1024", Primitive.PKE, null, null),
+                                        asset("SHA256withRSA", Primitive.SIGNATURE, null, null),
+                                        asset("ECDSA", Primitive.SIGNATURE, null, "secp192r1"),
+                                        asset("Ed25519", Primitive.SIGNATURE, null, null),
+                                        asset("ML-DSA-65", Primitive.SIGNATURE, null, null),
+                                        asset("DESede", Primitive.BLOCK_CIPHER, null, null),
+                                        asset("ChaCha20-Poly1305", Primitive.AE, null, null),
+                                        asset("AES-128-GCM", Primitive.AE, null, null),
+                                        asset("SHA-256", Primitive.HASH, null, null)));
+
+        assertThat(result.error()).isFalse();
+        assertThat(result.policyResults())
+                .extracting(r -> r.complianceLevel().id())
+                .containsExactly(3, 1, 2, 1, 3, 4, 1, 3, 3, 4);
+    }
+}
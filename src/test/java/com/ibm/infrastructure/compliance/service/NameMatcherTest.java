@@ -0,0 +1,41 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class NameMatcherTest {
+
+    @Test
+    void findsFirstKeywordInListOrder() {
+        final NameMatcher matcher = new NameMatcher(List.of("kyber", "ml-kem", "he", "she"));
+
+        assertThat(matcher.findFirst("ML-KEM-768")).isEqualTo("ml-kem");
+        // both keywords occur, the one listed first wins
+        assertThat(matcher.findFirst("x25519-ml-kem-kyber")).isEqualTo("kyber");
+        // overlapping keywords are found through the failure links
+        assertThat(matcher.findFirst("ushe")).isEqualTo("he");
+        assertThat(matcher.findFirst("RSA-2048")).isNull();
+        assertThat(matcher.findFirst("")).isNull();
+    }
+}
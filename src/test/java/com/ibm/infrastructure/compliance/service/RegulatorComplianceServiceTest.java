@@ -0,0 +1,158 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ibm.domain.compliance.CryptographicAsset;
+import com.ibm.domain.compliance.PolicyIdentifier;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.cyclonedx.model.Component;
+import org.cyclonedx.model.component.crypto.AlgorithmProperties;
+import org.cyclonedx.model.component.crypto.CryptoProperties;
+import org.cyclonedx.model.component.crypto.enums.Primitive;
+import org.junit.jupiter.api.Test;
+
+class RegulatorComplianceServiceTest {
+    private static final PolicyIdentifier TLS = new PolicyIdentifier("tls");
+
+    private static CryptographicAsset asset(String identifier, String name) {
+        final AlgorithmProperties algorithmProperties = new AlgorithmProperties();
+        algorithmProperties.setPrimitive(Primitive.SIGNATURE);
+        final CryptoProperties cryptoProperties = new CryptoProperties();
+        cryptoProperties.setAlgorithmProperties(algorithmProperties);
+        final Component component = new Component();
+        component.setName(name);
+        component.setCryptoProperties(cryptoProperties);
+        return new CryptographicAsset(identifier, component);
+    }
+
+    private static List<CryptographicAsset> assets(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> asset(String.valueOf(i), i % 2 == 0 ? "RSA-2048" : "ML-DSA-65"))
+                .toList();
+    }
+
+    @Test
+    void evaluatesInBatchesOverPooledConnections() throws Exception {
+        try (RegulatorStub stub = new RegulatorStub();
+                RegulatorComplianceService service =
+                        new RegulatorComplianceService(
+                                stub.baseUrl(),
+                                List.of(TLS),
+                                500,
+                                4,
+                                Duration.ofSeconds(5),
+                                Duration.ofMinutes(10))) {
+            stub.policyVersion = "7";
+            final ComplianceCheckResultDTO result = service.evaluate(TLS, assets(1200));
+
+            assertThat(result.error()).isFalse();
+            assertThat(result.policyResults()).hasSize(1200);
+            assertThat(List.copyOf(result.policyResults()).get(1199).identifier())
+                    .isEqualTo("1199");
+            assertThat(result.policyResults())
+                    .extracting(r -> r.complianceLevel().id())
+                    .containsOnly(1, 2)
+                    .startsWith(1, 2, 1);
+            assertThat(stub.requestSizes).containsExactly(500, 500, 200);
+            // the connection is kept alive between batches
+            assertThat(stub.clientPorts).hasSize(1);
+            assertThat(service.getPolicyVersion(TLS)).isEqualTo("7");
+            assertThat(service.getComplianceLevels()).hasSize(2);
+            assertThat(service.getDefaultComplianceLevel().id()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void stopsCallingFailingRegulator() throws Exception {
+        final AtomicLong now = new AtomicLong();
+        try (RegulatorStub stub = new RegulatorStub();
+                RegulatorComplianceService service =
+                        new RegulatorComplianceService(
+                                stub.baseUrl(),
+                                List.of(TLS),
+                                500,
+                                4,
+                                Duration.ofSeconds(5),
+                                Duration.ofMinutes(10),
+                                new CircuitBreaker(2, Duration.ofSeconds(30), now::get))) {
+            stub.failing = true;
+            for (int i = 0; i < 5; i++) {
+                assertThat(service.evaluate(TLS, assets(10)).error()).isTrue();
+            }
+            // the circuit opens after two failures
+            assertThat(stub.requests).hasValue(2);
+
+            stub.failing = false;
+            assertThat(service.evaluate(TLS, assets(10)).error()).isTrue();
+            now.addAndGet(Duration.ofSeconds(31).toNanos());
+            assertThat(service.evaluate(TLS, assets(10)).error()).isFalse();
+            assertThat(service.evaluate(TLS, assets(10)).error()).isFalse();
+            assertThat(stub.requestSizes).containsExactly(10, 10);
+        }
+    }
+
+    @Test
+    void reportsUnexpectedFailuresToTheCircuitBreaker() throws Exception {
+        final AtomicLong now = new AtomicLong();
+        try (RegulatorStub stub = new RegulatorStub();
+                RegulatorComplianceService service =
+                        new RegulatorComplianceService(
+                                stub.baseUrl(),
+                                List.of(TLS),
+                                500,
+                                4,
+                                Duration.ofSeconds(5),
+                                Duration.ofMinutes(10),
+                                new CircuitBreaker(1, Duration.ofSeconds(30), now::get))) {
+            stub.incomplete = true;
+            assertThat(service.evaluate(TLS, assets(10)).error()).isTrue();
+            assertThat(service.evaluate(TLS, assets(10)).error()).isTrue();
+            assertThat(stub.requests).hasValue(1);
+
+            // the failed trial call must not keep the circuit open
+            now.addAndGet(Duration.ofSeconds(31).toNanos());
+            assertThat(service.evaluate(TLS, assets(10)).error()).isTrue();
+            stub.incomplete = false;
+            now.addAndGet(Duration.ofSeconds(31).toNanos());
+            assertThat(service.evaluate(TLS, assets(10)).error()).isFalse();
+            assertThat(stub.requests).hasValue(3);
+        }
+    }
+
+    @Test
+    void returnsErrorForOtherPolicies() throws Exception {
+        try (RegulatorComplianceService service =
+                new RegulatorComplianceService(
+                        "http://localhost:1",
+                        List.of(TLS),
+                        500,
+                        4,
+                        Duration.ofSeconds(1),
+                        Duration.ofMinutes(10))) {
+            assertThat(service.evaluate(new PolicyIdentifier("quantum_safe"), assets(1)).error())
+                    .isTrue();
+        }
+    }
+}
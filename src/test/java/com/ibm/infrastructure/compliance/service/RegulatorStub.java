@@ -0,0 +1,125 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.compliance.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for the regulator API. Assets whose name contains 'rsa' are rated level 1, all
+ * others level 2. Records the requests and the client connections used.
+ */
+final class RegulatorStub implements AutoCloseable {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    final AtomicInteger requests = new AtomicInteger();
+    final List<Integer> requestSizes = new CopyOnWriteArrayList<>();
+    final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    volatile boolean failing = false;
+    // responds without compliance levels and results
+    volatile boolean incomplete = false;
+    volatile String policyVersion = "1";
+
+    RegulatorStub() throws IOException {
+        this.server =
+                HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/api/v1/compliance/evaluate", this::evaluate);
+        this.server.start();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + this.server.getAddress().getPort();
+    }
+
+    private void evaluate(HttpExchange exchange) throws IOException {
+        this.requests.incrementAndGet();
+        this.clientPorts.add(exchange.getRemoteAddress().getPort());
+        final JsonNode request;
+        try (InputStream in = exchange.getRequestBody()) {
+            request = MAPPER.readTree(in);
+        }
+        if (this.failing) {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+            return;
+        }
+        this.requestSizes.add(request.get("assets").size());
+
+        final ObjectNode response = MAPPER.createObjectNode();
+        response.put("policyVersion", this.policyVersion);
+        if (this.incomplete) {
+            this.respond(exchange, response);
+            return;
+        }
+        final ArrayNode levels = response.putArray("complianceLevels");
+        levels.addObject()
+                .put("id", 1)
+                .put("label", "Not Compliant")
+                .put("colorHex", "#da1e28")
+                .put("icon", "ERROR")
+                .put("unCompliant", true);
+        levels.addObject()
+                .put("id", 2)
+                .put("label", "Compliant")
+                .put("colorHex", "green")
+                .put("icon", "CHECKMARK")
+                .put("unCompliant", false);
+        response.put("defaultComplianceLevel", 2);
+        final ArrayNode results = response.putArray("results");
+        for (final JsonNode asset : request.get("assets")) {
+            final boolean rsa =
+                    asset.get("component").get("name").asText().toLowerCase().contains("rsa");
+            results.addObject()
+                    .put("identifier", asset.get("identifier").asText())
+                    .put("complianceLevel", rsa ? 1 : 2)
+                    .put("message", rsa ? "RSA is not allowed" : "Allowed");
+        }
+        this.respond(exchange, response);
+    }
+
+    private void respond(HttpExchange exchange, ObjectNode response) throws IOException {
+        final byte[] body = MAPPER.writeValueAsBytes(response);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+class CBOMStorageCodecTest {
+
+    @Test
+    void roundTrip() throws Exception {
+        final JsonNode bom =
+                new ObjectMapper()
+                        .readTree(
+                                """
+                                {
+                                  "bomFormat": "CycloneDX",
+                                  "components": [
+                                    {
+                                      "name": "AES",
+                                      "evidence": {
+                                        "occurrences": [
+                                          { "location": "src/Main.java", "line": 10 },
+                                          { "location": "src/Main.java", "line": 42 }
+                                        ]
+                                      }
+                                    },
+                                    {
+                                      "name": "RSA",
+                                      "evidence": {
+                                        "occurrences": [
+                                          { "location": "src/Util.java", "line": 3 }
+                                        ]
+                                      }
+                                    }
+                                  ]
+                                }
+                                """);
+
+        final byte[] encoded = CBOMStorageCodec.encode(bom);
+        assertThat(CBOMStorageCodec.decode(encoded)).isEqualTo(bom);
+        // encoding must not modify the given bom
+        assertThat(bom.at("/components/0/evidence/occurrences/0/location").asText())
+                .isEqualTo("src/Main.java");
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+class CBOMDeltaTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String previous =
+            """
+            {
+              "bomFormat": "CycloneDX",
+              "serialNumber": "urn:uuid:1",
+              "components": [
+                { "bom-ref": "a", "name": "AES" },
+                { "bom-ref": "b", "name": "RSA" },
+                { "bom-ref": "c", "name": "SHA1" }
+              ],
+              "dependencies": [ { "ref": "a", "dependsOn": ["b"] } ]
+            }
+            """;
+
+    @Test
+    void onlyChangesAreStored() throws Exception {
+        final JsonNode from = this.objectMapper.readTree(this.previous);
+        final JsonNode to =
+                this.objectMapper.readTree(
+                        """
+                        {
+                          "bomFormat": "CycloneDX",
+                          "serialNumber": "urn:uuid:2",
+                          "components": [
+                            { "bom-ref": "a", "name": "AES" },
+                            { "bom-ref": "b", "name": "RSA", "oid": "1.2.840.113549.1.1.1" },
+                            { "bom-ref": "d", "name": "ML-KEM" }
+                          ]
+                        }
+                        """);
+
+        final CBOMDelta delta = CBOMDelta.between(from, to);
+        assertThat(delta.properties()).containsOnlyKeys("serialNumber");
+        assertThat(delta.removedProperties()).containsExactly("dependencies");
+        final CBOMDelta.Changes components = delta.collections().get("components");
+        assertThat(components.added()).extracting(c -> c.get("bom-ref").asText()).containsOnly("d");
+        assertThat(components.changed())
+                .extracting(c -> c.get("bom-ref").asText())
+                .containsOnly("b");
+        assertThat(components.removed()).containsOnly("c");
+        assertThat(delta.collections().get("dependencies").removed()).containsOnly("a");
+
+        assertThat(delta.applyTo(from)).isEqualTo(to);
+        // applying must not modify the previous version
+        assertThat(from).isEqualTo(this.objectMapper.readTree(this.previous));
+    }
+
+    @Test
+    void reorderedItemsAreNoChange() throws Exception {
+        final JsonNode from = this.objectMapper.readTree(this.previous);
+        final JsonNode to =
+                this.objectMapper.readTree(
+                        """
+                        {
+                          "bomFormat": "CycloneDX",
+                          "serialNumber": "urn:uuid:1",
+                          "components": [
+                            { "bom-ref": "c", "name": "SHA1" },
+                            { "bom-ref": "b", "name": "RSA" },
+                            { "bom-ref": "a", "name": "AES" }
+                          ],
+                          "dependencies": [ { "ref": "a", "dependsOn": ["b"] } ]
+                        }
+                        """);
+
+        assertThat(to).isNotEqualTo(from);
+        assertThat(CBOMDelta.between(from, to).isEmpty()).isTrue();
+    }
+
+    @Test
+    void firstVersionIsCompleteDelta() throws Exception {
+        final JsonNode to = this.objectMapper.readTree(this.previous);
+
+        final CBOMDelta delta = CBOMDelta.between(null, to);
+        assertThat(delta.collections().get("components").added()).hasSize(3);
+        assertThat(delta.applyTo(null)).isEqualTo(to);
+    }
+
+    @Test
+    void duplicateReferencesAreKept() throws Exception {
+        final JsonNode from =
+                this.objectMapper.readTree(
+                        """
+                        { "components": [ { "bom-ref": "a", "name": "AES" } ] }
+                        """);
+        final JsonNode to =
+                this.objectMapper.readTree(
+                        """
+                        {
+                          "components": [
+                            { "bom-ref": "a", "name": "AES-128" },
+                            { "bom-ref": "a", "name": "AES" }
+                          ]
+                        }
+                        """);
+
+        final JsonNode next = CBOMDelta.between(from, to).applyTo(from);
+        assertThat(next).isEqualTo(to);
+        assertThat(CBOMDelta.between(next, to).isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Timestamp;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class CBOMReadModelCacheTest {
+
+    private static CBOMReadModel readModel(String projectIdentifier, String repository) {
+        return new CBOMReadModel(
+                UUID.randomUUID(),
+                projectIdentifier,
+                repository,
+                null,
+                null,
+                null,
+                new Timestamp(System.currentTimeMillis()),
+                null,
+                JsonNodeFactory.instance.objectNode().put("bomFormat", "CycloneDX"));
+    }
+
+    @Test
+    void readThrough() {
+        final CBOMReadModelCache cache = new CBOMReadModelCache(1024, new SimpleMeterRegistry());
+        final CBOMReadModel model = readModel("a", "https://github.com/a/a");
+        final AtomicInteger loads = new AtomicInteger();
+        final CBOMReadModelCache.IdentifierKey key =
+                new CBOMReadModelCache.IdentifierKey("a", null);
+
+        assertThat(cache.get(key, () -> load(loads, model))).contains(model);
+        assertThat(cache.get(key, () -> load(loads, model))).contains(model);
+        assertThat(loads.get()).isEqualTo(1);
+
+        cache.invalidate(readModel("a", "https://github.com/a/a"));
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(key, () -> load(loads, model))).contains(model);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBySize() throws Exception {
+        final CBOMReadModel a = readModel("a", "https://github.com/a/a");
+        final CBOMReadModel b = readModel("b", "https://github.com/b/b");
+        final CBOMReadModel c = readModel("c", "https://github.com/c/c");
+        final long entrySize = a.getBom().toString().length();
+        final CBOMReadModelCache cache =
+                new CBOMReadModelCache(2 * entrySize, new SimpleMeterRegistry());
+        final AtomicInteger loads = new AtomicInteger();
+
+        cache.get(new CBOMReadModelCache.IdentifierKey("a", null), () -> load(loads, a));
+        cache.get(new CBOMReadModelCache.IdentifierKey("b", null), () -> load(loads, b));
+        // touch a, so that b is the least recently used entry
+        cache.get(new CBOMReadModelCache.IdentifierKey("a", null), () -> load(loads, a));
+        cache.get(new CBOMReadModelCache.IdentifierKey("c", null), () -> load(loads, c));
+        assertThat(cache.size()).isEqualTo(2 * entrySize);
+        assertThat(loads.get()).isEqualTo(3);
+
+        cache.get(new CBOMReadModelCache.IdentifierKey("a", null), () -> load(loads, a));
+        assertThat(loads.get()).isEqualTo(3);
+        cache.get(new CBOMReadModelCache.IdentifierKey("b", null), () -> load(loads, b));
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    void doesNotCacheReadModelsInvalidatedWhileLoading() {
+        final CBOMReadModelCache cache = new CBOMReadModelCache(1024, new SimpleMeterRegistry());
+        final CBOMReadModel previous = readModel("a", "https://github.com/a/a");
+        final AtomicInteger loads = new AtomicInteger();
+        final CBOMReadModelCache.IdentifierKey key =
+                new CBOMReadModelCache.IdentifierKey("a", null);
+
+        // a new read model of the project is stored while the previous one is being loaded
+        assertThat(
+                        cache.get(
+                                key,
+                                () -> {
+                                    cache.invalidate(readModel("a", "https://github.com/a/a"));
+                                    return load(loads, previous);
+                                }))
+                .contains(previous);
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(key, () -> load(loads, previous))).contains(previous);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private static Optional<CBOMReadModel> load(AtomicInteger loads, CBOMReadModel model) {
+        loads.incrementAndGet();
+        return Optional.of(model);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.Timestamp;
+import java.util.UUID;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CBOMVersionRepositoryTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        this.sessionFactory =
+                new Configuration()
+                        .addAnnotatedClass(CBOMVersion.class)
+                        .setProperty(
+                                "hibernate.connection.url",
+                                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1")
+                        .setProperty("hibernate.connection.username", "sa")
+                        .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                        .buildSessionFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.sessionFactory.close();
+    }
+
+    @Test
+    void commitsOfAProjectAreVersionsOfOneHistory() throws Exception {
+        final JsonNode first =
+                this.objectMapper.readTree(
+                        """
+                        {
+                          "components": [
+                            { "bom-ref": "a", "name": "AES" },
+                            { "bom-ref": "b", "name": "RSA" }
+                          ]
+                        }
+                        """);
+        final JsonNode second =
+                this.objectMapper.readTree(
+                        """
+                        {
+                          "components": [
+                            { "bom-ref": "a", "name": "AES" },
+                            { "bom-ref": "c", "name": "ML-KEM" }
+                          ]
+                        }
+                        """);
+        this.append(this.readModel("6a3b1f0", first));
+        this.append(this.readModel("9c2e4d1", second));
+
+        try (Session session = this.sessionFactory.openSession()) {
+            final String projectKey = ProjectKey.of("pkg:github/PQCA/cbomkit@9c2e4d1");
+            assertThat(CBOMVersionRepository.findVersion(session, projectKey, "6a3b1f0"))
+                    .contains(1L);
+            assertThat(CBOMVersionRepository.findVersion(session, projectKey, "9c2e4d1"))
+                    .contains(2L);
+
+            final JsonNode from =
+                    CBOMVersionRepository.readVersion(session, projectKey, 1).orElseThrow();
+            final JsonNode to =
+                    CBOMVersionRepository.readVersion(session, projectKey, 2).orElseThrow();
+            assertThat(from).isEqualTo(first);
+            assertThat(to).isEqualTo(second);
+
+            final CBOMDelta.Changes components =
+                    CBOMDelta.between(from, to).collections().get("components");
+            assertThat(components.added())
+                    .extracting(c -> c.get("bom-ref").asText())
+                    .containsOnly("c");
+            assertThat(components.removed()).containsOnly("b");
+        }
+    }
+
+    @Test
+    void recordedReadModelsAreSkipped() throws Exception {
+        final CBOMReadModel readModel =
+                this.readModel("6a3b1f0", this.objectMapper.readTree("{ \"components\": [] }"));
+        this.append(readModel);
+        this.append(readModel);
+
+        try (Session session = this.sessionFactory.openSession()) {
+            final String projectKey = readModel.getProjectKey();
+            assertThat(CBOMVersionRepository.readVersion(session, projectKey, 1)).isPresent();
+            assertThat(CBOMVersionRepository.readVersion(session, projectKey, 2)).isEmpty();
+        }
+    }
+
+    private void append(CBOMReadModel readModel) {
+        this.sessionFactory.inTransaction(
+                session -> {
+                    try {
+                        CBOMVersionRepository.append(session, readModel, 10);
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+    }
+
+    private CBOMReadModel readModel(String commit, JsonNode bom) {
+        return new CBOMReadModel(
+                UUID.randomUUID(),
+                "pkg:github/PQCA/cbomkit@" + commit,
+                "https://github.com/PQCA/cbomkit",
+                null,
+                null,
+                commit,
+                new Timestamp(System.currentTimeMillis()),
+                null,
+                bom);
+    }
+}
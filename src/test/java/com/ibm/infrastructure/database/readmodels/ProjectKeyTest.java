@@ -0,0 +1,48 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.database.readmodels;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ProjectKeyTest {
+
+    @Test
+    void commitsOfAProjectShareTheKey() {
+        final String first = ProjectKey.of("pkg:github/PQCA/cbomkit@6a3b1f0?branch=dev#backend");
+        final String second = ProjectKey.of("pkg:github/PQCA/cbomkit@9c2e4d1?branch=dev#backend");
+
+        assertThat(first).isEqualTo(second).isEqualTo("pkg:github/pqca/cbomkit?branch=dev#backend");
+        assertThat(ProjectKey.of(first)).isEqualTo(first);
+    }
+
+    @Test
+    void branchesAndPackageFoldersAreDifferentProjects() {
+        assertThat(ProjectKey.of("pkg:github/PQCA/cbomkit@6a3b1f0"))
+                .isNotEqualTo(ProjectKey.of("pkg:github/PQCA/cbomkit@6a3b1f0?branch=dev"))
+                .isNotEqualTo(ProjectKey.of("pkg:github/PQCA/cbomkit@6a3b1f0#backend"));
+    }
+
+    @Test
+    void otherIdentifiersAreTheirOwnKey() {
+        assertThat(ProjectKey.of("my-project")).isEqualTo("my-project");
+    }
+}
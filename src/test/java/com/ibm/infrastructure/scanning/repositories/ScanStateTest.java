@@ -0,0 +1,155 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.infrastructure.scanning.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.ibm.domain.scanning.Commit;
+import com.ibm.domain.scanning.GitUrl;
+import com.ibm.domain.scanning.Language;
+import com.ibm.domain.scanning.LanguageScan;
+import com.ibm.domain.scanning.Revision;
+import com.ibm.domain.scanning.ScanAggregate;
+import com.ibm.domain.scanning.ScanId;
+import com.ibm.domain.scanning.ScanMetadata;
+import com.ibm.domain.scanning.ScanRequest;
+import com.ibm.domain.scanning.ScanUrl;
+import com.ibm.domain.scanning.errors.CBOMSerializationFailed;
+import com.ibm.domain.scanning.events.CommitHashIdentifiedEvent;
+import com.ibm.domain.scanning.events.LanguageScanDoneEvent;
+import com.ibm.domain.scanning.events.ScanFinishedEvent;
+import com.ibm.domain.scanning.events.ScanRequestedEvent;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ScanStateTest {
+    private final ScanId scanId = new ScanId();
+
+    @Test
+    void rehydratesFromEvents() throws Exception {
+        final ScanAggregate aggregate = this.scannedAggregate();
+        final ScanState state = ScanState.empty(this.scanId.getUuid());
+        this.events(aggregate).forEach(state::apply);
+
+        assertThat(state.version()).isEqualTo(4);
+        this.assertRehydrated(state.asAggregate(this::loader));
+    }
+
+    @Test
+    void rehydratesFromSnapshotAndTail() throws Exception {
+        final ScanAggregate aggregate = this.scannedAggregate();
+        final List<ScanEvent> events = this.events(aggregate);
+        // snapshot after the request, the commit is only contained in the tail
+        final ScanAggregate requested = this.requestedAggregate();
+        final Scan snapshot = new Scan(requested, 1);
+
+        final ScanState state = ScanState.of(snapshot);
+        events.stream().filter(event -> event.version > 1).forEach(state::apply);
+
+        assertThat(state.version()).isEqualTo(4);
+        this.assertRehydrated(state.asAggregate(this::loader));
+    }
+
+    @Test
+    void neverStoresCredentials() throws Exception {
+        final ScanEvent event =
+                ScanEvent.of(
+                        this.scanId.getUuid(),
+                        1,
+                        new ScanRequestedEvent(this.scanId, null),
+                        this.requestedAggregate(),
+                        null);
+
+        assertThat(event.type).isEqualTo("ScanRequestedEvent");
+        assertThat(event.payload.fieldNames())
+                .toIterable()
+                .containsExactlyInAnyOrder("gitUrl", "revision", "packageFolder");
+    }
+
+    private void assertRehydrated(ScanAggregate rehydrated) throws Exception {
+        assertThat(rehydrated.getGitUrl()).contains(new GitUrl("https://github.com/pqca/cbomkit"));
+        assertThat(rehydrated.getRevision()).isEqualTo(new Revision("develop"));
+        assertThat(rehydrated.getPackageFolder()).contains(Path.of("backend"));
+        assertThat(rehydrated.getCommit()).contains(new Commit("abc123"));
+        final LanguageScan languageScan = rehydrated.getLanguageScan(Language.JAVA).orElseThrow();
+        assertThat(languageScan.scanMetadata()).isEqualTo(new ScanMetadata(10, 20, 300, 4));
+        // the cbom is loaded on demand by scan result id
+        assertThat(languageScan.icbom()).isNull();
+    }
+
+    private LanguageScan.ICBOMLoader loader(long scanResultId) {
+        assertThat(scanResultId).isEqualTo(42);
+        return () -> null;
+    }
+
+    private ScanAggregate requestedAggregate() throws Exception {
+        return ScanAggregate.requestScan(
+                this.scanId,
+                new ScanRequest(
+                        new ScanUrl("https://github.com/pqca/cbomkit"),
+                        new Revision("develop"),
+                        "backend"),
+                null);
+    }
+
+    private ScanAggregate scannedAggregate() throws Exception {
+        final ScanAggregate aggregate = this.requestedAggregate();
+        aggregate.setCommitHash(new Commit("abc123"));
+        aggregate.reportScanResults(
+                new LanguageScan(
+                        Language.JAVA,
+                        new ScanMetadata(10, 20, 300, 4),
+                        () -> {
+                            throw new CBOMSerializationFailed();
+                        }));
+        return aggregate;
+    }
+
+    private List<ScanEvent> events(ScanAggregate aggregate) throws Exception {
+        final ScanResult scanResult =
+                new ScanResult(
+                        Language.JAVA,
+                        10,
+                        20,
+                        300,
+                        4,
+                        JsonNodeFactory.instance.objectNode(),
+                        false);
+        scanResult.id = 42L;
+        final UUID id = this.scanId.getUuid();
+        final List<ScanEvent> events = new ArrayList<>();
+        events.add(ScanEvent.of(id, 1, new ScanRequestedEvent(this.scanId, null), aggregate, null));
+        events.add(
+                ScanEvent.of(id, 2, new CommitHashIdentifiedEvent(this.scanId), aggregate, null));
+        events.add(
+                ScanEvent.of(
+                        id,
+                        3,
+                        new LanguageScanDoneEvent(this.scanId, Language.JAVA),
+                        aggregate,
+                        scanResult));
+        events.add(ScanEvent.of(id, 4, new ScanFinishedEvent(this.scanId), aggregate, null));
+        return events;
+    }
+}
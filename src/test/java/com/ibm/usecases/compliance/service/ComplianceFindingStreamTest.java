@@ -0,0 +1,146 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.compliance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ibm.domain.compliance.CryptographicAsset;
+import com.ibm.domain.compliance.PolicyIdentifier;
+import com.ibm.infrastructure.compliance.ComplianceFinding;
+import com.ibm.infrastructure.compliance.ComplianceServiceRegistry;
+import com.ibm.infrastructure.compliance.service.BasicQuantumSafeComplianceService;
+import com.ibm.infrastructure.compliance.service.ComplianceCheckResultDTO;
+import com.ibm.infrastructure.compliance.service.IComplianceService;
+import com.ibm.usecases.compliance.errors.ComplianceCheckFailed;
+import com.ibm.usecases.compliance.errors.ErrorWhileParsingStringToCBOM;
+import jakarta.annotation.Nonnull;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ComplianceFindingStreamTest {
+    private static final PolicyIdentifier QUANTUM_SAFE = new PolicyIdentifier("quantum_safe");
+
+    private static final String CBOM =
+            """
+            {
+              "bomFormat": "CycloneDX",
+              "components": [
+                {
+                  "type": "cryptographic-asset",
+                  "bom-ref": "0",
+                  "name": "RSA",
+                  "cryptoProperties": { "assetType": "algorithm" },
+                  "x-unknown": { "of": "a newer schema" }
+                }
+              ]
+            }
+            """;
+
+    private static ComplianceFindingStream stream(String cbom) {
+        return stream(new BasicQuantumSafeComplianceService(), cbom);
+    }
+
+    private static ComplianceFindingStream stream(IComplianceService service, String cbom) {
+        return new ComplianceFindingStream(
+                new ComplianceServiceRegistry(List.of(service), 1000, new SimpleMeterRegistry()),
+                QUANTUM_SAFE,
+                new ByteArrayInputStream(cbom.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void evaluatesComponentsWhileParsing() throws Exception {
+        final String components =
+                IntStream.range(0, 2500)
+                        .mapToObj(
+                                i ->
+                                        """
+                                        {
+                                          "type": "cryptographic-asset",
+                                          "bom-ref": "%d",
+                                          "name": "%s",
+                                          "cryptoProperties": {
+                                            "assetType": "algorithm",
+                                            "algorithmProperties": { "primitive": "kem" }
+                                          }
+                                        }
+                                        """
+                                                .formatted(i, i % 2 == 0 ? "ML-KEM-768" : "RSA"))
+                        .collect(Collectors.joining(","));
+        final String cbom =
+                """
+                {
+                  "bomFormat": "CycloneDX",
+                  "metadata": { "component": { "name": "app", "components": [] } },
+                  "components": [ { "type": "library", "name": "no crypto" }, %s ],
+                  "dependencies": []
+                }
+                """
+                        .formatted(components);
+
+        final List<ComplianceFinding> findings = new ArrayList<>();
+        stream(cbom).forEach(findings::add);
+
+        assertThat(findings).hasSize(2500);
+        for (int i = 0; i < findings.size(); i++) {
+            assertThat(findings.get(i).bomRef()).isEqualTo(String.valueOf(i));
+            assertThat(findings.get(i).levelId()).isEqualTo(i % 2 == 0 ? 3 : 1);
+        }
+    }
+
+    @Test
+    void ignoresUnknownProperties() throws Exception {
+        final List<ComplianceFinding> findings = new ArrayList<>();
+        stream(CBOM).forEach(findings::add);
+
+        assertThat(findings).extracting(ComplianceFinding::bomRef).containsExactly("0");
+    }
+
+    @Test
+    void failsIfThePolicyCannotBeEvaluated() {
+        final IComplianceService failing =
+                new BasicQuantumSafeComplianceService() {
+                    @Override
+                    public @Nonnull ComplianceCheckResultDTO evaluate(
+                            @Nonnull PolicyIdentifier policyIdentifier,
+                            @Nonnull Collection<CryptographicAsset> cryptographicAssets) {
+                        return new ComplianceCheckResultDTO(List.of(), true);
+                    }
+                };
+
+        assertThatThrownBy(() -> stream(failing, CBOM).forEach(finding -> {}))
+                .isInstanceOf(ComplianceCheckFailed.class);
+    }
+
+    @Test
+    void rejectsInvalidCBOM() {
+        assertThatThrownBy(() -> stream("[]").forEach(finding -> {}))
+                .isInstanceOf(ErrorWhileParsingStringToCBOM.class);
+        assertThatThrownBy(() -> stream("{\"components\": [ {\"name\": ").forEach(finding -> {}))
+                .isInstanceOf(ErrorWhileParsingStringToCBOM.class);
+    }
+}
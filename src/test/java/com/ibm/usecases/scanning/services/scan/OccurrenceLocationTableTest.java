@@ -0,0 +1,46 @@
+/*
+ * CBOMkit
+ * Copyright (C) 2025 PQCA
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to you under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.ibm.usecases.scanning.services.scan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import org.junit.jupiter.api.Test;
+
+class OccurrenceLocationTableTest {
+
+    @Test
+    void test() {
+        final File projectDirectory = new File("/tmp/project");
+        final OccurrenceLocationTable table = new OccurrenceLocationTable(projectDirectory);
+
+        final String relative =
+                table.relativize(new File(projectDirectory, "src/Main.java").getAbsolutePath());
+        assertThat(relative).isEqualTo("src/Main.java");
+        // the same location resolves to the same instance
+        assertThat(table.relativize(new File(projectDirectory, "src/Main.java").getAbsolutePath()))
+                .isSameAs(relative);
+        // rewriting an already relative location does not change it
+        assertThat(table.relativize("src/Main.java")).isSameAs(relative);
+        // locations outside of the project directory are kept
+        assertThat(table.relativize("/tmp/project-other/Main.java"))
+                .isEqualTo("/tmp/project-other/Main.java");
+    }
+}